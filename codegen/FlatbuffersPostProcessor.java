@@ -0,0 +1,468 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Post-processes the Java code generated by flatc with {@code --gen-object-api}.
+ * <p>
+ * For every generated table and struct with an {@code unpackTo(XT _o)} method, an {@code unpackInto(XT _o)}
+ * method is added next to it. {@code unpackInto} behaves like {@code unpackTo}, but reuses the child objects,
+ * arrays, and unions already present in {@code _o}, and one accessor per child kept in a field of the accessor
+ * it is called on. It only allocates when a child is missing or the length of a vector changes, in which case a
+ * vector of tables or structs keeps the elements it already had. This makes it possible to decode a stream of messages into the same object graph without allocating.
+ * <p>
+ * For every struct consisting only of floats (fx. {@code Vector3}, {@code Physics}, and {@code PredictionSlice})
+ * an {@code XLayout} class is generated with the precomputed offset of each field and static getters reading
+ * the fields straight from the buffer through a {@link java.lang.invoke.VarHandle}. Tables get matching
+ * {@code fooPosition()} methods returning the absolute buffer position of such struct fields, and
+ * {@code copyFooTo(float[])} methods bulk-copying vectors of such structs.
+ * <p>
+ * The rewrite is purely textual and relies on the (very regular) shape of flatc's output. Any statement that
+ * is not recognized is copied unchanged, so the worst case is an {@code unpackInto} that allocates like
+ * {@code unpackTo}. Processed files are marked with {@link #MARKER}, so running the post-processor twice is harmless.
+ * <p>
+ * Run with the Java source launcher from the generate-flatbuffers scripts:
+ * <pre>
+ *     java codegen/FlatbuffersPostProcessor.java src/generated/java/rlbot/flat
+ * </pre>
+ */
+public class FlatbuffersPostProcessor {
+
+    /**
+     * Inserted below the header of every file modified by the post-processor.
+     */
+    static final String MARKER = "// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify";
+
+    private static final Pattern UNPACK_TO = Pattern.compile("^  public void unpackTo\\((\\w+) _o\\) \\{$");
+
+    // rlbot.flat.PlayerInfoT[] _oPlayers = new rlbot.flat.PlayerInfoT[playersLength()];
+    private static final Pattern OBJECT_VECTOR = Pattern.compile(
+            "^(\\s*)rlbot\\.flat\\.(\\w+)T\\[] _o(\\w+) = new rlbot\\.flat\\.\\2T\\[(\\w+)Length\\(\\)];$");
+    // for (int _j = 0; _j < playersLength(); ++_j) {_oPlayers[_j] = (players(_j) != null ? players(_j).unpack() : null);}
+    private static final Pattern OBJECT_VECTOR_LOOP = Pattern.compile(
+            "^(\\s*)for \\(int _j = 0; _j < (\\w+)Length\\(\\); \\+\\+_j\\) \\{_o(\\w+)\\[_j] = \\(\\2\\(_j\\) != null \\? \\2\\(_j\\)\\.unpack\\(\\) : null\\);}$");
+    // int[] _oContent = new int[contentLength()];
+    private static final Pattern VALUE_VECTOR = Pattern.compile(
+            "^(\\s*)(\\w+)\\[] _o(\\w+) = new \\2\\[(\\w+Length)\\(\\)];$");
+    // if (matchInfo() != null) _o.setMatchInfo(matchInfo().unpack());
+    private static final Pattern TABLE_CHILD = Pattern.compile(
+            "^(\\s*)if \\((\\w+)\\(\\) != null\\) _o\\.set(\\w+)\\(\\2\\(\\)\\.unpack\\(\\)\\);$");
+    // if (physics() != null) physics().unpackTo(_o.getPhysics());
+    private static final Pattern STRUCT_CHILD = Pattern.compile(
+            "^(\\s*)if \\((\\w+)\\(\\) != null\\) \\2\\(\\)\\.unpackTo\\(_o\\.get(\\w+)\\(\\)\\);$");
+    // location().unpackTo(_o.getLocation());
+    private static final Pattern NESTED_STRUCT = Pattern.compile(
+            "^(\\s*)(\\w+)\\(\\)\\.unpackTo\\(_o\\.get(\\w+)\\(\\)\\);$");
+    // _oShapeValue = shape(new rlbot.flat.BoxShape());
+    private static final Pattern UNION_ACCESSOR = Pattern.compile(
+            "^(\\s*)_o(\\w+)Value = (\\w+)\\(new rlbot\\.flat\\.(\\w+)\\(\\)\\);$");
+    // rlbot.flat.CoreMessageUnion _oMessage = new rlbot.flat.CoreMessageUnion();
+    private static final Pattern UNION = Pattern.compile(
+            "^(\\s*)(rlbot\\.flat\\.\\w+Union) _o(\\w+) = new \\2\\(\\);$");
+    // _oMessage.setValue(_oMessageValue != null ? ((rlbot.flat.GamePacket) _oMessageValue).unpack() : null);
+    private static final Pattern UNION_VALUE = Pattern.compile(
+            "^(\\s*)_o(\\w+)\\.setValue\\(_o\\2Value != null \\? \\(\\((rlbot\\.flat\\.\\w+)\\) _o\\2Value\\)\\.unpack\\(\\) : null\\);$");
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: java FlatbuffersPostProcessor.java <generated rlbot/flat directory>");
+            System.exit(1);
+        }
+        var dir = Path.of(args[0]);
+        List<Path> files;
+        try (var stream = Files.list(dir)) {
+            files = stream.filter(p -> p.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+        var pending = new ArrayList<Path>();
+        for (var file : files) {
+            if (!Files.readAllLines(file).contains(MARKER)) {
+                pending.add(file);
+            }
+        }
+        var modified = new LinkedHashSet<Path>();
+
+        int count = 0;
+        for (var file : pending) {
+            if (addUnpackInto(dir, file, modified)) {
+                count++;
+            }
+        }
+        System.out.println("Added unpackInto to " + count + " classes");
+
+        var layouts = new ArrayList<StructLayout>();
+        for (var file : files) {
+            var layout = StructLayout.parse(file);
+            if (layout != null) {
+                layouts.add(layout);
+                Files.write(dir.resolve(layout.name + "Layout.java"), layout.generate());
+            }
+        }
+        System.out.println("Generated layouts for " + layouts.size() + " structs");
+
+        count = 0;
+        for (var file : pending) {
+            if (addStructPositions(file, layouts)) {
+                modified.add(file);
+                count++;
+            }
+        }
+        System.out.println("Added struct positions to " + count + " tables");
+
+        for (var file : modified) {
+            var lines = Files.readAllLines(file);
+            lines.add(1, MARKER);
+            Files.write(file, lines);
+        }
+    }
+
+    /**
+     * Add {@code unpackInto} to the accessor class in the given file.
+     *
+     * @param modified collects the modified files.
+     * @return {@code true} if the file was modified.
+     */
+    private static boolean addUnpackInto(Path dir, Path file, Set<Path> modified) throws IOException {
+        var lines = Files.readAllLines(file);
+        int start = -1;
+        String objectType = null;
+        for (int i = 0; i < lines.size(); i++) {
+            Matcher m = UNPACK_TO.matcher(lines.get(i));
+            if (m.matches()) {
+                start = i;
+                objectType = m.group(1);
+                break;
+            }
+        }
+        if (start < 0) {
+            return false;
+        }
+        int end = start + 1;
+        while (!lines.get(end).equals("  }")) {
+            end++;
+        }
+
+        var objectFile = dir.resolve(objectType + ".java");
+        var objectClassLines = Files.readAllLines(objectFile);
+        var body = lines.subList(start + 1, end);
+        var accessors = new LinkedHashMap<String, String>();
+        var rewritten = rewriteBody(body, objectClassLines, accessors);
+
+        var method = new ArrayList<String>();
+        for (var accessor : accessors.entrySet()) {
+            method.add("  private " + accessor.getValue() + " " + accessor.getKey() + ";");
+        }
+        method.add("  /**");
+        method.add("   * Like {@link #unpackTo(" + objectType + ")}, but reuses the child objects and arrays already in {@code _o},");
+        method.add("   * and the accessors of the children. Vectors are only reallocated when their length changes.");
+        method.add("   */");
+        method.add("  public void unpackInto(" + objectType + " _o) {");
+        if (rewritten.equals(body)) {
+            method.add("    unpackTo(_o);");
+        } else {
+            method.addAll(rewritten);
+        }
+        method.add("  }");
+
+        var result = new ArrayList<>(lines.subList(0, end + 1));
+        result.addAll(method);
+        result.addAll(lines.subList(end + 1, lines.size()));
+        Files.write(file, result);
+        modified.add(file);
+        return true;
+    }
+
+    /**
+     * @param accessors collects the reused accessor fields by name, with their type.
+     */
+    private static List<String> rewriteBody(List<String> body, List<String> objectClassLines,
+                                            Map<String, String> accessors) {
+        var out = new ArrayList<String>();
+        for (var line : body) {
+            Matcher m;
+            if ((m = OBJECT_VECTOR.matcher(line)).matches()) {
+                var indent = m.group(1);
+                var type = "rlbot.flat." + m.group(2);
+                var name = m.group(3);
+                var field = m.group(4);
+                var accessor = accessor(accessors, field, type);
+                out.add(indent + "int _o" + name + "Length = " + field + "Length();");
+                out.add(indent + type + "T[] _o" + name + " = _o.get" + name + "();");
+                out.add(indent + "if (_o" + name + " == null) _o" + name + " = new " + type + "T[_o" + name + "Length];");
+                out.add(indent + "else if (_o" + name + ".length != _o" + name + "Length) _o" + name + " = java.util.Arrays.copyOf(_o" + name + ", _o" + name + "Length);");
+                out.add(indent + "if (" + accessor + " == null) " + accessor + " = new " + type + "();");
+            } else if ((m = OBJECT_VECTOR_LOOP.matcher(line)).matches()) {
+                var indent = m.group(1);
+                var field = m.group(2);
+                var name = m.group(3);
+                var type = typeOfGetter(objectClassLines, name);
+                var accessor = "_" + field + "Accessor";
+                out.add(indent + "for (int _j = 0; _j < _o" + name + "Length; ++_j) {");
+                out.add(indent + "  if (" + field + "(" + accessor + ", _j) == null) { _o" + name + "[_j] = null; continue; }");
+                out.add(indent + "  if (_o" + name + "[_j] == null) _o" + name + "[_j] = new " + type.substring(0, type.length() - 2) + "();");
+                out.add(indent + "  " + accessor + ".unpackInto(_o" + name + "[_j]);");
+                out.add(indent + "}");
+            } else if ((m = VALUE_VECTOR.matcher(line)).matches()) {
+                var indent = m.group(1);
+                var type = m.group(2);
+                var name = m.group(3);
+                var length = m.group(4);
+                out.add(indent + type + "[] _o" + name + " = _o.get" + name + "();");
+                out.add(indent + "if (_o" + name + " == null || _o" + name + ".length != " + length + "()) _o" + name + " = new " + type + "[" + length + "()];");
+            } else if ((m = TABLE_CHILD.matcher(line)).matches() || (m = STRUCT_CHILD.matcher(line)).matches()) {
+                var indent = m.group(1);
+                var field = m.group(2);
+                var name = m.group(3);
+                var type = typeOfGetter(objectClassLines, name);
+                var accessorType = type.substring(0, type.length() - 1);
+                var accessor = accessor(accessors, field, accessorType);
+                out.add(indent + "if (" + accessor + " == null) " + accessor + " = new " + accessorType + "();");
+                out.add(indent + "if (" + field + "(" + accessor + ") != null) {");
+                out.add(indent + "  if (_o.get" + name + "() == null) _o.set" + name + "(new " + type + "());");
+                out.add(indent + "  " + accessor + ".unpackInto(_o.get" + name + "());");
+                out.add(indent + "}");
+            } else if ((m = NESTED_STRUCT.matcher(line)).matches()) {
+                var indent = m.group(1);
+                var field = m.group(2);
+                var name = m.group(3);
+                var type = typeOfGetter(objectClassLines, name);
+                var accessorType = type.substring(0, type.length() - 1);
+                var accessor = accessor(accessors, field, accessorType);
+                out.add(indent + "if (" + accessor + " == null) " + accessor + " = new " + accessorType + "();");
+                out.add(indent + field + "(" + accessor + ").unpackInto(_o.get" + name + "());");
+            } else if ((m = UNION_ACCESSOR.matcher(line)).matches()) {
+                var indent = m.group(1);
+                var name = m.group(2);
+                var field = m.group(3);
+                var type = "rlbot.flat." + m.group(4);
+                var accessor = accessor(accessors, field + m.group(4), type);
+                out.add(indent + "if (" + accessor + " == null) " + accessor + " = new " + type + "();");
+                out.add(indent + "_o" + name + "Value = " + field + "(" + accessor + ");");
+            } else if ((m = UNION.matcher(line)).matches()) {
+                var indent = m.group(1);
+                var type = m.group(2);
+                var name = m.group(3);
+                out.add(indent + type + " _o" + name + " = _o.get" + name + "() != null ? _o.get" + name + "() : new " + type + "();");
+            } else if ((m = UNION_VALUE.matcher(line)).matches()) {
+                var indent = m.group(1);
+                var name = m.group(2);
+                var type = m.group(3);
+                out.add(indent + "if (_o" + name + "Value == null) {");
+                out.add(indent + "  _o" + name + ".setValue(null);");
+                out.add(indent + "} else {");
+                out.add(indent + "  if (!(_o" + name + ".getValue() instanceof " + type + "T)) _o" + name + ".setValue(new " + type + "T());");
+                out.add(indent + "  ((" + type + ") _o" + name + "Value).unpackInto((" + type + "T) _o" + name + ".getValue());");
+                out.add(indent + "}");
+            } else {
+                out.add(line);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Register a reused accessor field.
+     *
+     * @return the name of the field.
+     */
+    private static String accessor(Map<String, String> accessors, String field, String type) {
+        var name = "_" + field + "Accessor";
+        accessors.put(name, type);
+        return name;
+    }
+
+    // public rlbot.flat.PredictionSlice slices(rlbot.flat.PredictionSlice obj, int j) { int o = __offset(4); return o != 0 ? obj.__assign(__vector(o) + j * 52, bb) : null; }
+    private static final Pattern STRUCT_VECTOR_FIELD = Pattern.compile(
+            "^  public rlbot\\.flat\\.(\\w+) (\\w+)\\(rlbot\\.flat\\.\\1 obj, int j\\) \\{ int o = __offset\\((\\d+)\\); return o != 0 \\? obj\\.__assign\\(__vector\\(o\\) \\+ j \\* (\\d+), bb\\) : null; }$");
+    // public rlbot.flat.Physics physics(rlbot.flat.Physics obj) { int o = __offset(4); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+    private static final Pattern STRUCT_FIELD = Pattern.compile(
+            "^  public rlbot\\.flat\\.(\\w+) (\\w+)\\(rlbot\\.flat\\.\\1 obj\\) \\{ int o = __offset\\((\\d+)\\); return o != 0 \\? obj\\.__assign\\(o \\+ bb_pos, bb\\) : null; }$");
+
+    /**
+     * Add position and bulk-copy methods for fields holding structs with a generated layout.
+     *
+     * @return {@code true} if the file was modified.
+     */
+    private static boolean addStructPositions(Path file, List<StructLayout> layouts) throws IOException {
+        var lines = Files.readAllLines(file);
+        var result = new ArrayList<String>();
+        boolean modified = false;
+        for (var line : lines) {
+            result.add(line);
+            Matcher m;
+            if ((m = STRUCT_VECTOR_FIELD.matcher(line)).matches()) {
+                var layout = findLayout(layouts, m.group(1));
+                if (layout == null) continue;
+                var field = m.group(2);
+                var offset = m.group(3);
+                var size = m.group(4);
+                var upper = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+                result.add("  /**");
+                result.add("   * @return the absolute position of element {@code j} in {@link #getByteBuffer()}, or 0 if the vector is absent.");
+                result.add("   * Use with {@link rlbot.flat." + layout.name + "Layout}.");
+                result.add("   */");
+                result.add("  public int " + field + "Position(int j) { int o = __offset(" + offset + "); return o != 0 ? __vector(o) + j * " + size + " : 0; }");
+                result.add("  /**");
+                result.add("   * Copy all elements into {@code dst} with {@link rlbot.flat." + layout.name + "Layout#FLOAT_COUNT} floats per element.");
+                result.add("   * @return the number of elements copied.");
+                result.add("   */");
+                result.add("  public int copy" + upper + "To(float[] dst) { int o = __offset(" + offset + "); if (o == 0) return 0; int n = __vector_len(o); rlbot.flat." + layout.name + "Layout.copyTo(bb, __vector(o), n, dst, 0); return n; }");
+                modified = true;
+            } else if ((m = STRUCT_FIELD.matcher(line)).matches()) {
+                var layout = findLayout(layouts, m.group(1));
+                if (layout == null) continue;
+                var field = m.group(2);
+                var offset = m.group(3);
+                result.add("  /**");
+                result.add("   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.");
+                result.add("   * Use with {@link rlbot.flat." + layout.name + "Layout}.");
+                result.add("   */");
+                result.add("  public int " + field + "Position() { int o = __offset(" + offset + "); return o != 0 ? o + bb_pos : 0; }");
+                modified = true;
+            }
+        }
+        if (modified) {
+            Files.write(file, result);
+        }
+        return modified;
+    }
+
+    private static StructLayout findLayout(List<StructLayout> layouts, String name) {
+        for (var layout : layouts) {
+            if (layout.name.equals(name)) {
+                return layout;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The layout of a struct consisting only of floats. Nested structs are flattened, fx.
+     * {@code PredictionSlice} has the fields {@code gameSeconds}, {@code physics_location_x}, and so on.
+     */
+    private record StructLayout(String name, List<String> fields) {
+
+        private static final Pattern CREATE = Pattern.compile(
+                "^  public static int create(\\w+)\\(FlatBufferBuilder builder, (.*)\\) \\{$");
+        private static final Pattern PREP = Pattern.compile("^    builder\\.prep\\(4, (\\d+)\\);$");
+
+        /**
+         * @return the layout of the struct in the given file, or {@code null} if it is not a struct of floats.
+         */
+        static StructLayout parse(Path file) throws IOException {
+            var lines = Files.readAllLines(file);
+            if (lines.stream().noneMatch(l -> l.contains(" extends Struct {"))) {
+                return null;
+            }
+            for (int i = 0; i < lines.size(); i++) {
+                var m = CREATE.matcher(lines.get(i));
+                if (!m.matches()) continue;
+                var fields = new ArrayList<String>();
+                for (var param : m.group(2).split(", ")) {
+                    if (!param.startsWith("float ")) {
+                        return null;
+                    }
+                    fields.add(param.substring("float ".length()));
+                }
+                // Only all-float structs without padding have the trivial layout of 4 bytes per field
+                var prep = PREP.matcher(lines.get(i + 1));
+                if (fields.size() < 2 || !prep.matches() || Integer.parseInt(prep.group(1)) != fields.size() * 4) {
+                    return null;
+                }
+                return new StructLayout(m.group(1), fields);
+            }
+            return null;
+        }
+
+        List<String> generate() {
+            var out = new ArrayList<String>();
+            out.add("// automatically generated by codegen/FlatbuffersPostProcessor.java, do not modify");
+            out.add("");
+            out.add("package rlbot.flat;");
+            out.add("");
+            out.add("import java.lang.invoke.MethodHandles;");
+            out.add("import java.lang.invoke.VarHandle;");
+            out.add("import java.nio.ByteBuffer;");
+            out.add("import java.nio.ByteOrder;");
+            out.add("");
+            out.add("/**");
+            out.add(" * Read-only access to {@link " + name + "} structs straight from a buffer using precomputed field offsets.");
+            out.add(" * Positions are absolute buffer positions, fx. as returned by the {@code fooPosition} methods of tables.");
+            out.add(" */");
+            out.add("@SuppressWarnings(\"unused\")");
+            out.add("public final class " + name + "Layout {");
+            out.add("  private static final VarHandle FLOAT = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);");
+            out.add("");
+            out.add("  /** The size of the struct in bytes. */");
+            out.add("  public static final int SIZE = " + fields.size() * 4 + ";");
+            out.add("  /** The number of float fields in the struct. */");
+            out.add("  public static final int FLOAT_COUNT = " + fields.size() + ";");
+            out.add("");
+            for (int i = 0; i < fields.size(); i++) {
+                out.add("  public static final int " + constantName(fields.get(i)) + " = " + i * 4 + ";");
+            }
+            out.add("");
+            out.add("  private " + name + "Layout() {}");
+            out.add("");
+            for (var field : fields) {
+                out.add("  public static float " + getterName(field) + "(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + " + constantName(field) + "); }");
+            }
+            out.add("");
+            out.add("  /**");
+            out.add("   * Copy {@code count} consecutive structs starting at {@code pos} into {@code dst} with");
+            out.add("   * {@link #FLOAT_COUNT} floats per struct in field order.");
+            out.add("   */");
+            out.add("  public static void copyTo(ByteBuffer bb, int pos, int count, float[] dst, int dstOffset) {");
+            out.add("    bb.duplicate().position(pos).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(dst, dstOffset, count * FLOAT_COUNT);");
+            out.add("  }");
+            out.add("}");
+            out.add("");
+            return out;
+        }
+
+        private static List<String> words(String field) {
+            var words = new ArrayList<String>();
+            for (var part : field.split("_")) {
+                for (var word : part.split("(?=[A-Z])")) {
+                    words.add(word.toLowerCase());
+                }
+            }
+            return words;
+        }
+
+        private static String constantName(String field) {
+            return String.join("_", words(field)).toUpperCase();
+        }
+
+        private static String getterName(String field) {
+            var words = words(field);
+            var sb = new StringBuilder(words.get(0));
+            for (var word : words.subList(1, words.size())) {
+                sb.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Find the return type of the getter with the given name in an object API class.
+     */
+    private static String typeOfGetter(List<String> objectClassLines, String name) {
+        var getter = Pattern.compile("^  public (\\S+) get" + name + "\\(\\) \\{.*");
+        for (var line : objectClassLines) {
+            var m = getter.matcher(line);
+            if (m.matches()) {
+                return m.group(1);
+            }
+        }
+        throw new IllegalStateException("Could not find getter get" + name + "()");
+    }
+}
@@ -8,4 +8,8 @@ IF EXIST .\src\generated del /s /q .\src\generated
 
 .\flatbuffers-schema\binaries\flatc.exe --java --gen-all --gen-object-api -o .\src\generated\java .\flatbuffers-schema\schema\rlbot.fbs
 
+echo Post-processing generated code...
+
+java .\codegen\FlatbuffersPostProcessor.java .\src\generated\java\rlbot\flat
+
 echo Done.
\ No newline at end of file
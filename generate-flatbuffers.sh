@@ -6,4 +6,8 @@ rm -rf src/generated/java
 
 ./flatbuffers-schema/binaries/flatc --gen-all --java --gen-object-api -o ./src/generated/java ./flatbuffers-schema/schema/rlbot.fbs
 
+echo Post-processing generated code...
+
+java ./codegen/FlatbuffersPostProcessor.java ./src/generated/java/rlbot/flat
+
 echo Done.
\ No newline at end of file
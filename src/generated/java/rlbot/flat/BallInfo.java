@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -35,6 +36,11 @@ public final class BallInfo extends Table {
    */
   public rlbot.flat.Physics physics() { return physics(new rlbot.flat.Physics()); }
   public rlbot.flat.Physics physics(rlbot.flat.Physics obj) { int o = __offset(4); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.PhysicsLayout}.
+   */
+  public int physicsPosition() { int o = __offset(4); return o != 0 ? o + bb_pos : 0; }
   public byte shapeType() { int o = __offset(6); return o != 0 ? bb.get(o + bb_pos) : 0; }
   /**
    * The collision shape of the ball.
@@ -87,6 +93,60 @@ public final class BallInfo extends Table {
     }
     _o.setShape(_oShape);
   }
+  private rlbot.flat.Physics _physicsAccessor;
+  private rlbot.flat.BoxShape _shapeBoxShapeAccessor;
+  private rlbot.flat.SphereShape _shapeSphereShapeAccessor;
+  private rlbot.flat.CylinderShape _shapeCylinderShapeAccessor;
+  /**
+   * Like {@link #unpackTo(BallInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(BallInfoT _o) {
+    if (_physicsAccessor == null) _physicsAccessor = new rlbot.flat.Physics();
+    if (physics(_physicsAccessor) != null) {
+      if (_o.getPhysics() == null) _o.setPhysics(new rlbot.flat.PhysicsT());
+      _physicsAccessor.unpackInto(_o.getPhysics());
+    }
+    else _o.setPhysics(null);
+    rlbot.flat.CollisionShapeUnion _oShape = _o.getShape() != null ? _o.getShape() : new rlbot.flat.CollisionShapeUnion();
+    byte _oShapeType = shapeType();
+    _oShape.setType(_oShapeType);
+    Table _oShapeValue;
+    switch (_oShapeType) {
+      case rlbot.flat.CollisionShape.BoxShape:
+        if (_shapeBoxShapeAccessor == null) _shapeBoxShapeAccessor = new rlbot.flat.BoxShape();
+        _oShapeValue = shape(_shapeBoxShapeAccessor);
+        if (_oShapeValue == null) {
+          _oShape.setValue(null);
+        } else {
+          if (!(_oShape.getValue() instanceof rlbot.flat.BoxShapeT)) _oShape.setValue(new rlbot.flat.BoxShapeT());
+          ((rlbot.flat.BoxShape) _oShapeValue).unpackInto((rlbot.flat.BoxShapeT) _oShape.getValue());
+        }
+        break;
+      case rlbot.flat.CollisionShape.SphereShape:
+        if (_shapeSphereShapeAccessor == null) _shapeSphereShapeAccessor = new rlbot.flat.SphereShape();
+        _oShapeValue = shape(_shapeSphereShapeAccessor);
+        if (_oShapeValue == null) {
+          _oShape.setValue(null);
+        } else {
+          if (!(_oShape.getValue() instanceof rlbot.flat.SphereShapeT)) _oShape.setValue(new rlbot.flat.SphereShapeT());
+          ((rlbot.flat.SphereShape) _oShapeValue).unpackInto((rlbot.flat.SphereShapeT) _oShape.getValue());
+        }
+        break;
+      case rlbot.flat.CollisionShape.CylinderShape:
+        if (_shapeCylinderShapeAccessor == null) _shapeCylinderShapeAccessor = new rlbot.flat.CylinderShape();
+        _oShapeValue = shape(_shapeCylinderShapeAccessor);
+        if (_oShapeValue == null) {
+          _oShape.setValue(null);
+        } else {
+          if (!(_oShape.getValue() instanceof rlbot.flat.CylinderShapeT)) _oShape.setValue(new rlbot.flat.CylinderShapeT());
+          ((rlbot.flat.CylinderShape) _oShapeValue).unpackInto((rlbot.flat.CylinderShapeT) _oShape.getValue());
+        }
+        break;
+      default: break;
+    }
+    _o.setShape(_oShape);
+  }
   public static int pack(FlatBufferBuilder builder, BallInfoT _o) {
     if (_o == null) return 0;
     byte _shapeType = _o.getShape() == null ? rlbot.flat.CollisionShape.NONE : _o.getShape().getType();
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -37,6 +38,16 @@ public final class BallPrediction extends Table {
    */
   public rlbot.flat.PredictionSlice slices(int j) { return slices(new rlbot.flat.PredictionSlice(), j); }
   public rlbot.flat.PredictionSlice slices(rlbot.flat.PredictionSlice obj, int j) { int o = __offset(4); return o != 0 ? obj.__assign(__vector(o) + j * 52, bb) : null; }
+  /**
+   * @return the absolute position of element {@code j} in {@link #getByteBuffer()}, or 0 if the vector is absent.
+   * Use with {@link rlbot.flat.PredictionSliceLayout}.
+   */
+  public int slicesPosition(int j) { int o = __offset(4); return o != 0 ? __vector(o) + j * 52 : 0; }
+  /**
+   * Copy all elements into {@code dst} with {@link rlbot.flat.PredictionSliceLayout#FLOAT_COUNT} floats per element.
+   * @return the number of elements copied.
+   */
+  public int copySlicesTo(float[] dst) { int o = __offset(4); if (o == 0) return 0; int n = __vector_len(o); rlbot.flat.PredictionSliceLayout.copyTo(bb, __vector(o), n, dst, 0); return n; }
   public int slicesLength() { int o = __offset(4); return o != 0 ? __vector_len(o) : 0; }
   public rlbot.flat.PredictionSlice.Vector slicesVector() { return slicesVector(new rlbot.flat.PredictionSlice.Vector()); }
   public rlbot.flat.PredictionSlice.Vector slicesVector(rlbot.flat.PredictionSlice.Vector obj) { int o = __offset(4); return o != 0 ? obj.__assign(__vector(o), 52, bb) : null; }
@@ -73,6 +84,24 @@ public final class BallPrediction extends Table {
     for (int _j = 0; _j < slicesLength(); ++_j) {_oSlices[_j] = (slices(_j) != null ? slices(_j).unpack() : null);}
     _o.setSlices(_oSlices);
   }
+  private rlbot.flat.PredictionSlice _slicesAccessor;
+  /**
+   * Like {@link #unpackTo(BallPredictionT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(BallPredictionT _o) {
+    int _oSlicesLength = slicesLength();
+    rlbot.flat.PredictionSliceT[] _oSlices = _o.getSlices();
+    if (_oSlices == null) _oSlices = new rlbot.flat.PredictionSliceT[_oSlicesLength];
+    else if (_oSlices.length != _oSlicesLength) _oSlices = java.util.Arrays.copyOf(_oSlices, _oSlicesLength);
+    if (_slicesAccessor == null) _slicesAccessor = new rlbot.flat.PredictionSlice();
+    for (int _j = 0; _j < _oSlicesLength; ++_j) {
+      if (slices(_slicesAccessor, _j) == null) { _oSlices[_j] = null; continue; }
+      if (_oSlices[_j] == null) _oSlices[_j] = new rlbot.flat.PredictionSliceT();
+      _slicesAccessor.unpackInto(_oSlices[_j]);
+    }
+    _o.setSlices(_oSlices);
+  }
   public static int pack(FlatBufferBuilder builder, BallPredictionT _o) {
     if (_o == null) return 0;
     int _slices = 0;
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -35,6 +36,11 @@ public final class BoostPad extends Table {
    */
   public rlbot.flat.Vector3 location() { return location(new rlbot.flat.Vector3()); }
   public rlbot.flat.Vector3 location(rlbot.flat.Vector3 obj) { int o = __offset(4); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.Vector3Layout}.
+   */
+  public int locationPosition() { int o = __offset(4); return o != 0 ? o + bb_pos : 0; }
   /**
    * Whether the boost pad provides a full tank of boost.
    * A big boost pad provides 100 boost and respawns in 10 seconds.
@@ -68,6 +74,21 @@ public final class BoostPad extends Table {
     boolean _oIsFullBoost = isFullBoost();
     _o.setIsFullBoost(_oIsFullBoost);
   }
+  private rlbot.flat.Vector3 _locationAccessor;
+  /**
+   * Like {@link #unpackTo(BoostPadT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(BoostPadT _o) {
+    if (_locationAccessor == null) _locationAccessor = new rlbot.flat.Vector3();
+    if (location(_locationAccessor) != null) {
+      if (_o.getLocation() == null) _o.setLocation(new rlbot.flat.Vector3T());
+      _locationAccessor.unpackInto(_o.getLocation());
+    }
+    else _o.setLocation(null);
+    boolean _oIsFullBoost = isFullBoost();
+    _o.setIsFullBoost(_oIsFullBoost);
+  }
   public static int pack(FlatBufferBuilder builder, BoostPadT _o) {
     if (_o == null) return 0;
     startBoostPad(builder);
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -64,6 +65,13 @@ public final class BoostPadState extends Struct {
     float _oTimer = timer();
     _o.setTimer(_oTimer);
   }
+  /**
+   * Like {@link #unpackTo(BoostPadStateT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(BoostPadStateT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, BoostPadStateT _o) {
     if (_o == null) return 0;
     return createBoostPadState(
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -74,6 +75,13 @@ public final class BoxShape extends Table {
     float _oHeight = height();
     _o.setHeight(_oHeight);
   }
+  /**
+   * Like {@link #unpackTo(BoxShapeT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(BoxShapeT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, BoxShapeT _o) {
     if (_o == null) return 0;
     return createBoxShape(
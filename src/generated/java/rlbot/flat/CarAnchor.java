@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -41,6 +42,11 @@ public final class CarAnchor extends Table {
    */
   public rlbot.flat.Vector3 local() { return local(new rlbot.flat.Vector3()); }
   public rlbot.flat.Vector3 local(rlbot.flat.Vector3 obj) { int o = __offset(6); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.Vector3Layout}.
+   */
+  public int localPosition() { int o = __offset(6); return o != 0 ? o + bb_pos : 0; }
 
   public static void startCarAnchor(FlatBufferBuilder builder) { builder.startTable(2); }
   public static void addIndex(FlatBufferBuilder builder, long index) { builder.addInt(0, (int) index, (int) 0L); }
@@ -68,6 +74,21 @@ public final class CarAnchor extends Table {
     if (local() != null) local().unpackTo(_o.getLocal());
     else _o.setLocal(null);
   }
+  private rlbot.flat.Vector3 _localAccessor;
+  /**
+   * Like {@link #unpackTo(CarAnchorT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(CarAnchorT _o) {
+    long _oIndex = index();
+    _o.setIndex(_oIndex);
+    if (_localAccessor == null) _localAccessor = new rlbot.flat.Vector3();
+    if (local(_localAccessor) != null) {
+      if (_o.getLocal() == null) _o.setLocal(new rlbot.flat.Vector3T());
+      _localAccessor.unpackInto(_o.getLocal());
+    }
+    else _o.setLocal(null);
+  }
   public static int pack(FlatBufferBuilder builder, CarAnchorT _o) {
     if (_o == null) return 0;
     startCarAnchor(builder);
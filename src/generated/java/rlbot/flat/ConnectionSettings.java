@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -97,6 +98,13 @@ public final class ConnectionSettings extends Table {
     boolean _oCloseBetweenMatches = closeBetweenMatches();
     _o.setCloseBetweenMatches(_oCloseBetweenMatches);
   }
+  /**
+   * Like {@link #unpackTo(ConnectionSettingsT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(ConnectionSettingsT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, ConnectionSettingsT _o) {
     if (_o == null) return 0;
     int _agentId = _o.getAgentId() == null ? 0 : builder.createString(_o.getAgentId());
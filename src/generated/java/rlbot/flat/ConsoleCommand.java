@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -65,6 +66,13 @@ public final class ConsoleCommand extends Table {
     String _oCommand = command();
     _o.setCommand(_oCommand);
   }
+  /**
+   * Like {@link #unpackTo(ConsoleCommandT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(ConsoleCommandT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, ConsoleCommandT _o) {
     if (_o == null) return 0;
     int _command = _o.getCommand() == null ? 0 : builder.createString(_o.getCommand());
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -75,6 +76,13 @@ public final class ControllableInfo extends Table {
     int _oIdentifier = identifier();
     _o.setIdentifier(_oIdentifier);
   }
+  /**
+   * Like {@link #unpackTo(ControllableInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(ControllableInfoT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, ControllableInfoT _o) {
     if (_o == null) return 0;
     return createControllableInfo(
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -83,6 +84,26 @@ public final class ControllableTeamInfo extends Table {
     for (int _j = 0; _j < controllablesLength(); ++_j) {_oControllables[_j] = (controllables(_j) != null ? controllables(_j).unpack() : null);}
     _o.setControllables(_oControllables);
   }
+  private rlbot.flat.ControllableInfo _controllablesAccessor;
+  /**
+   * Like {@link #unpackTo(ControllableTeamInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(ControllableTeamInfoT _o) {
+    long _oTeam = team();
+    _o.setTeam(_oTeam);
+    int _oControllablesLength = controllablesLength();
+    rlbot.flat.ControllableInfoT[] _oControllables = _o.getControllables();
+    if (_oControllables == null) _oControllables = new rlbot.flat.ControllableInfoT[_oControllablesLength];
+    else if (_oControllables.length != _oControllablesLength) _oControllables = java.util.Arrays.copyOf(_oControllables, _oControllablesLength);
+    if (_controllablesAccessor == null) _controllablesAccessor = new rlbot.flat.ControllableInfo();
+    for (int _j = 0; _j < _oControllablesLength; ++_j) {
+      if (controllables(_controllablesAccessor, _j) == null) { _oControllables[_j] = null; continue; }
+      if (_oControllables[_j] == null) _oControllables[_j] = new rlbot.flat.ControllableInfoT();
+      _controllablesAccessor.unpackInto(_oControllables[_j]);
+    }
+    _o.setControllables(_oControllables);
+  }
   public static int pack(FlatBufferBuilder builder, ControllableTeamInfoT _o) {
     if (_o == null) return 0;
     int _controllables = 0;
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -112,6 +113,13 @@ public final class ControllerState extends Struct {
     boolean _oUseItem = useItem();
     _o.setUseItem(_oUseItem);
   }
+  /**
+   * Like {@link #unpackTo(ControllerStateT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(ControllerStateT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, ControllerStateT _o) {
     if (_o == null) return 0;
     return createControllerState(
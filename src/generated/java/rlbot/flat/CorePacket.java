@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -104,6 +105,108 @@ public final class CorePacket extends Table {
     }
     _o.setMessage(_oMessage);
   }
+  private rlbot.flat.DisconnectSignal _messageDisconnectSignalAccessor;
+  private rlbot.flat.GamePacket _messageGamePacketAccessor;
+  private rlbot.flat.FieldInfo _messageFieldInfoAccessor;
+  private rlbot.flat.MatchConfiguration _messageMatchConfigurationAccessor;
+  private rlbot.flat.MatchComm _messageMatchCommAccessor;
+  private rlbot.flat.BallPrediction _messageBallPredictionAccessor;
+  private rlbot.flat.ControllableTeamInfo _messageControllableTeamInfoAccessor;
+  private rlbot.flat.RenderingStatus _messageRenderingStatusAccessor;
+  /**
+   * Like {@link #unpackTo(CorePacketT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(CorePacketT _o) {
+    rlbot.flat.CoreMessageUnion _oMessage = _o.getMessage() != null ? _o.getMessage() : new rlbot.flat.CoreMessageUnion();
+    byte _oMessageType = messageType();
+    _oMessage.setType(_oMessageType);
+    Table _oMessageValue;
+    switch (_oMessageType) {
+      case rlbot.flat.CoreMessage.DisconnectSignal:
+        if (_messageDisconnectSignalAccessor == null) _messageDisconnectSignalAccessor = new rlbot.flat.DisconnectSignal();
+        _oMessageValue = message(_messageDisconnectSignalAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.DisconnectSignalT)) _oMessage.setValue(new rlbot.flat.DisconnectSignalT());
+          ((rlbot.flat.DisconnectSignal) _oMessageValue).unpackInto((rlbot.flat.DisconnectSignalT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.CoreMessage.GamePacket:
+        if (_messageGamePacketAccessor == null) _messageGamePacketAccessor = new rlbot.flat.GamePacket();
+        _oMessageValue = message(_messageGamePacketAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.GamePacketT)) _oMessage.setValue(new rlbot.flat.GamePacketT());
+          ((rlbot.flat.GamePacket) _oMessageValue).unpackInto((rlbot.flat.GamePacketT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.CoreMessage.FieldInfo:
+        if (_messageFieldInfoAccessor == null) _messageFieldInfoAccessor = new rlbot.flat.FieldInfo();
+        _oMessageValue = message(_messageFieldInfoAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.FieldInfoT)) _oMessage.setValue(new rlbot.flat.FieldInfoT());
+          ((rlbot.flat.FieldInfo) _oMessageValue).unpackInto((rlbot.flat.FieldInfoT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.CoreMessage.MatchConfiguration:
+        if (_messageMatchConfigurationAccessor == null) _messageMatchConfigurationAccessor = new rlbot.flat.MatchConfiguration();
+        _oMessageValue = message(_messageMatchConfigurationAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.MatchConfigurationT)) _oMessage.setValue(new rlbot.flat.MatchConfigurationT());
+          ((rlbot.flat.MatchConfiguration) _oMessageValue).unpackInto((rlbot.flat.MatchConfigurationT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.CoreMessage.MatchComm:
+        if (_messageMatchCommAccessor == null) _messageMatchCommAccessor = new rlbot.flat.MatchComm();
+        _oMessageValue = message(_messageMatchCommAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.MatchCommT)) _oMessage.setValue(new rlbot.flat.MatchCommT());
+          ((rlbot.flat.MatchComm) _oMessageValue).unpackInto((rlbot.flat.MatchCommT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.CoreMessage.BallPrediction:
+        if (_messageBallPredictionAccessor == null) _messageBallPredictionAccessor = new rlbot.flat.BallPrediction();
+        _oMessageValue = message(_messageBallPredictionAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.BallPredictionT)) _oMessage.setValue(new rlbot.flat.BallPredictionT());
+          ((rlbot.flat.BallPrediction) _oMessageValue).unpackInto((rlbot.flat.BallPredictionT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.CoreMessage.ControllableTeamInfo:
+        if (_messageControllableTeamInfoAccessor == null) _messageControllableTeamInfoAccessor = new rlbot.flat.ControllableTeamInfo();
+        _oMessageValue = message(_messageControllableTeamInfoAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.ControllableTeamInfoT)) _oMessage.setValue(new rlbot.flat.ControllableTeamInfoT());
+          ((rlbot.flat.ControllableTeamInfo) _oMessageValue).unpackInto((rlbot.flat.ControllableTeamInfoT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.CoreMessage.RenderingStatus:
+        if (_messageRenderingStatusAccessor == null) _messageRenderingStatusAccessor = new rlbot.flat.RenderingStatus();
+        _oMessageValue = message(_messageRenderingStatusAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.RenderingStatusT)) _oMessage.setValue(new rlbot.flat.RenderingStatusT());
+          ((rlbot.flat.RenderingStatus) _oMessageValue).unpackInto((rlbot.flat.RenderingStatusT) _oMessage.getValue());
+        }
+        break;
+      default: break;
+    }
+    _o.setMessage(_oMessage);
+  }
   public static int pack(FlatBufferBuilder builder, CorePacketT _o) {
     if (_o == null) return 0;
     byte _messageType = _o.getMessage() == null ? rlbot.flat.CoreMessage.NONE : _o.getMessage().getType();
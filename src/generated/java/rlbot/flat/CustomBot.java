@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -127,6 +128,29 @@ public final class CustomBot extends Table {
     boolean _oHivemind = hivemind();
     _o.setHivemind(_oHivemind);
   }
+  private rlbot.flat.PlayerLoadout _loadoutAccessor;
+  /**
+   * Like {@link #unpackTo(CustomBotT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(CustomBotT _o) {
+    String _oName = name();
+    _o.setName(_oName);
+    String _oRootDir = rootDir();
+    _o.setRootDir(_oRootDir);
+    String _oRunCommand = runCommand();
+    _o.setRunCommand(_oRunCommand);
+    if (_loadoutAccessor == null) _loadoutAccessor = new rlbot.flat.PlayerLoadout();
+    if (loadout(_loadoutAccessor) != null) {
+      if (_o.getLoadout() == null) _o.setLoadout(new rlbot.flat.PlayerLoadoutT());
+      _loadoutAccessor.unpackInto(_o.getLoadout());
+    }
+    else _o.setLoadout(null);
+    String _oAgentId = agentId();
+    _o.setAgentId(_oAgentId);
+    boolean _oHivemind = hivemind();
+    _o.setHivemind(_oHivemind);
+  }
   public static int pack(FlatBufferBuilder builder, CustomBotT _o) {
     if (_o == null) return 0;
     int _name = _o.getName() == null ? 0 : builder.createString(_o.getName());
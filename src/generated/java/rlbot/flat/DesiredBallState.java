@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -64,6 +65,19 @@ public final class DesiredBallState extends Table {
     if (physics() != null) _o.setPhysics(physics().unpack());
     else _o.setPhysics(null);
   }
+  private rlbot.flat.DesiredPhysics _physicsAccessor;
+  /**
+   * Like {@link #unpackTo(DesiredBallStateT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(DesiredBallStateT _o) {
+    if (_physicsAccessor == null) _physicsAccessor = new rlbot.flat.DesiredPhysics();
+    if (physics(_physicsAccessor) != null) {
+      if (_o.getPhysics() == null) _o.setPhysics(new rlbot.flat.DesiredPhysicsT());
+      _physicsAccessor.unpackInto(_o.getPhysics());
+    }
+    else _o.setPhysics(null);
+  }
   public static int pack(FlatBufferBuilder builder, DesiredBallStateT _o) {
     if (_o == null) return 0;
     int _physics = _o.getPhysics() == null ? 0 : rlbot.flat.DesiredPhysics.pack(builder, _o.getPhysics());
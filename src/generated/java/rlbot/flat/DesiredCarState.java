@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -61,6 +62,26 @@ public final class DesiredCarState extends Table {
     if (boostAmount() != null) boostAmount().unpackTo(_o.getBoostAmount());
     else _o.setBoostAmount(null);
   }
+  private rlbot.flat.DesiredPhysics _physicsAccessor;
+  private rlbot.flat.Float _boostAmountAccessor;
+  /**
+   * Like {@link #unpackTo(DesiredCarStateT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(DesiredCarStateT _o) {
+    if (_physicsAccessor == null) _physicsAccessor = new rlbot.flat.DesiredPhysics();
+    if (physics(_physicsAccessor) != null) {
+      if (_o.getPhysics() == null) _o.setPhysics(new rlbot.flat.DesiredPhysicsT());
+      _physicsAccessor.unpackInto(_o.getPhysics());
+    }
+    else _o.setPhysics(null);
+    if (_boostAmountAccessor == null) _boostAmountAccessor = new rlbot.flat.Float();
+    if (boostAmount(_boostAmountAccessor) != null) {
+      if (_o.getBoostAmount() == null) _o.setBoostAmount(new rlbot.flat.FloatT());
+      _boostAmountAccessor.unpackInto(_o.getBoostAmount());
+    }
+    else _o.setBoostAmount(null);
+  }
   public static int pack(FlatBufferBuilder builder, DesiredCarStateT _o) {
     if (_o == null) return 0;
     int _physics = _o.getPhysics() == null ? 0 : rlbot.flat.DesiredPhysics.pack(builder, _o.getPhysics());
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -119,6 +120,55 @@ public final class DesiredGameState extends Table {
     for (int _j = 0; _j < consoleCommandsLength(); ++_j) {_oConsoleCommands[_j] = (consoleCommands(_j) != null ? consoleCommands(_j).unpack() : null);}
     _o.setConsoleCommands(_oConsoleCommands);
   }
+  private rlbot.flat.DesiredBallState _ballStatesAccessor;
+  private rlbot.flat.DesiredCarState _carStatesAccessor;
+  private rlbot.flat.DesiredMatchInfo _matchInfoAccessor;
+  private rlbot.flat.ConsoleCommand _consoleCommandsAccessor;
+  /**
+   * Like {@link #unpackTo(DesiredGameStateT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(DesiredGameStateT _o) {
+    int _oBallStatesLength = ballStatesLength();
+    rlbot.flat.DesiredBallStateT[] _oBallStates = _o.getBallStates();
+    if (_oBallStates == null) _oBallStates = new rlbot.flat.DesiredBallStateT[_oBallStatesLength];
+    else if (_oBallStates.length != _oBallStatesLength) _oBallStates = java.util.Arrays.copyOf(_oBallStates, _oBallStatesLength);
+    if (_ballStatesAccessor == null) _ballStatesAccessor = new rlbot.flat.DesiredBallState();
+    for (int _j = 0; _j < _oBallStatesLength; ++_j) {
+      if (ballStates(_ballStatesAccessor, _j) == null) { _oBallStates[_j] = null; continue; }
+      if (_oBallStates[_j] == null) _oBallStates[_j] = new rlbot.flat.DesiredBallStateT();
+      _ballStatesAccessor.unpackInto(_oBallStates[_j]);
+    }
+    _o.setBallStates(_oBallStates);
+    int _oCarStatesLength = carStatesLength();
+    rlbot.flat.DesiredCarStateT[] _oCarStates = _o.getCarStates();
+    if (_oCarStates == null) _oCarStates = new rlbot.flat.DesiredCarStateT[_oCarStatesLength];
+    else if (_oCarStates.length != _oCarStatesLength) _oCarStates = java.util.Arrays.copyOf(_oCarStates, _oCarStatesLength);
+    if (_carStatesAccessor == null) _carStatesAccessor = new rlbot.flat.DesiredCarState();
+    for (int _j = 0; _j < _oCarStatesLength; ++_j) {
+      if (carStates(_carStatesAccessor, _j) == null) { _oCarStates[_j] = null; continue; }
+      if (_oCarStates[_j] == null) _oCarStates[_j] = new rlbot.flat.DesiredCarStateT();
+      _carStatesAccessor.unpackInto(_oCarStates[_j]);
+    }
+    _o.setCarStates(_oCarStates);
+    if (_matchInfoAccessor == null) _matchInfoAccessor = new rlbot.flat.DesiredMatchInfo();
+    if (matchInfo(_matchInfoAccessor) != null) {
+      if (_o.getMatchInfo() == null) _o.setMatchInfo(new rlbot.flat.DesiredMatchInfoT());
+      _matchInfoAccessor.unpackInto(_o.getMatchInfo());
+    }
+    else _o.setMatchInfo(null);
+    int _oConsoleCommandsLength = consoleCommandsLength();
+    rlbot.flat.ConsoleCommandT[] _oConsoleCommands = _o.getConsoleCommands();
+    if (_oConsoleCommands == null) _oConsoleCommands = new rlbot.flat.ConsoleCommandT[_oConsoleCommandsLength];
+    else if (_oConsoleCommands.length != _oConsoleCommandsLength) _oConsoleCommands = java.util.Arrays.copyOf(_oConsoleCommands, _oConsoleCommandsLength);
+    if (_consoleCommandsAccessor == null) _consoleCommandsAccessor = new rlbot.flat.ConsoleCommand();
+    for (int _j = 0; _j < _oConsoleCommandsLength; ++_j) {
+      if (consoleCommands(_consoleCommandsAccessor, _j) == null) { _oConsoleCommands[_j] = null; continue; }
+      if (_oConsoleCommands[_j] == null) _oConsoleCommands[_j] = new rlbot.flat.ConsoleCommandT();
+      _consoleCommandsAccessor.unpackInto(_oConsoleCommands[_j]);
+    }
+    _o.setConsoleCommands(_oConsoleCommands);
+  }
   public static int pack(FlatBufferBuilder builder, DesiredGameStateT _o) {
     if (_o == null) return 0;
     int _ballStates = 0;
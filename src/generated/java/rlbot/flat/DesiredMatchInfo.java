@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -68,6 +69,26 @@ public final class DesiredMatchInfo extends Table {
     if (gameSpeed() != null) gameSpeed().unpackTo(_o.getGameSpeed());
     else _o.setGameSpeed(null);
   }
+  private rlbot.flat.Float _worldGravityZAccessor;
+  private rlbot.flat.Float _gameSpeedAccessor;
+  /**
+   * Like {@link #unpackTo(DesiredMatchInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(DesiredMatchInfoT _o) {
+    if (_worldGravityZAccessor == null) _worldGravityZAccessor = new rlbot.flat.Float();
+    if (worldGravityZ(_worldGravityZAccessor) != null) {
+      if (_o.getWorldGravityZ() == null) _o.setWorldGravityZ(new rlbot.flat.FloatT());
+      _worldGravityZAccessor.unpackInto(_o.getWorldGravityZ());
+    }
+    else _o.setWorldGravityZ(null);
+    if (_gameSpeedAccessor == null) _gameSpeedAccessor = new rlbot.flat.Float();
+    if (gameSpeed(_gameSpeedAccessor) != null) {
+      if (_o.getGameSpeed() == null) _o.setGameSpeed(new rlbot.flat.FloatT());
+      _gameSpeedAccessor.unpackInto(_o.getGameSpeed());
+    }
+    else _o.setGameSpeed(null);
+  }
   public static int pack(FlatBufferBuilder builder, DesiredMatchInfoT _o) {
     if (_o == null) return 0;
     startDesiredMatchInfo(builder);
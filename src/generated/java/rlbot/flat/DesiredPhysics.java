@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -85,6 +86,40 @@ public final class DesiredPhysics extends Table {
     if (angularVelocity() != null) _o.setAngularVelocity(angularVelocity().unpack());
     else _o.setAngularVelocity(null);
   }
+  private rlbot.flat.Vector3Partial _locationAccessor;
+  private rlbot.flat.RotatorPartial _rotationAccessor;
+  private rlbot.flat.Vector3Partial _velocityAccessor;
+  private rlbot.flat.Vector3Partial _angularVelocityAccessor;
+  /**
+   * Like {@link #unpackTo(DesiredPhysicsT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(DesiredPhysicsT _o) {
+    if (_locationAccessor == null) _locationAccessor = new rlbot.flat.Vector3Partial();
+    if (location(_locationAccessor) != null) {
+      if (_o.getLocation() == null) _o.setLocation(new rlbot.flat.Vector3PartialT());
+      _locationAccessor.unpackInto(_o.getLocation());
+    }
+    else _o.setLocation(null);
+    if (_rotationAccessor == null) _rotationAccessor = new rlbot.flat.RotatorPartial();
+    if (rotation(_rotationAccessor) != null) {
+      if (_o.getRotation() == null) _o.setRotation(new rlbot.flat.RotatorPartialT());
+      _rotationAccessor.unpackInto(_o.getRotation());
+    }
+    else _o.setRotation(null);
+    if (_velocityAccessor == null) _velocityAccessor = new rlbot.flat.Vector3Partial();
+    if (velocity(_velocityAccessor) != null) {
+      if (_o.getVelocity() == null) _o.setVelocity(new rlbot.flat.Vector3PartialT());
+      _velocityAccessor.unpackInto(_o.getVelocity());
+    }
+    else _o.setVelocity(null);
+    if (_angularVelocityAccessor == null) _angularVelocityAccessor = new rlbot.flat.Vector3Partial();
+    if (angularVelocity(_angularVelocityAccessor) != null) {
+      if (_o.getAngularVelocity() == null) _o.setAngularVelocity(new rlbot.flat.Vector3PartialT());
+      _angularVelocityAccessor.unpackInto(_o.getAngularVelocity());
+    }
+    else _o.setAngularVelocity(null);
+  }
   public static int pack(FlatBufferBuilder builder, DesiredPhysicsT _o) {
     if (_o == null) return 0;
     int _location = _o.getLocation() == null ? 0 : rlbot.flat.Vector3Partial.pack(builder, _o.getLocation());
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -93,6 +94,36 @@ public final class FieldInfo extends Table {
     for (int _j = 0; _j < goalsLength(); ++_j) {_oGoals[_j] = (goals(_j) != null ? goals(_j).unpack() : null);}
     _o.setGoals(_oGoals);
   }
+  private rlbot.flat.BoostPad _boostPadsAccessor;
+  private rlbot.flat.GoalInfo _goalsAccessor;
+  /**
+   * Like {@link #unpackTo(FieldInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(FieldInfoT _o) {
+    int _oBoostPadsLength = boostPadsLength();
+    rlbot.flat.BoostPadT[] _oBoostPads = _o.getBoostPads();
+    if (_oBoostPads == null) _oBoostPads = new rlbot.flat.BoostPadT[_oBoostPadsLength];
+    else if (_oBoostPads.length != _oBoostPadsLength) _oBoostPads = java.util.Arrays.copyOf(_oBoostPads, _oBoostPadsLength);
+    if (_boostPadsAccessor == null) _boostPadsAccessor = new rlbot.flat.BoostPad();
+    for (int _j = 0; _j < _oBoostPadsLength; ++_j) {
+      if (boostPads(_boostPadsAccessor, _j) == null) { _oBoostPads[_j] = null; continue; }
+      if (_oBoostPads[_j] == null) _oBoostPads[_j] = new rlbot.flat.BoostPadT();
+      _boostPadsAccessor.unpackInto(_oBoostPads[_j]);
+    }
+    _o.setBoostPads(_oBoostPads);
+    int _oGoalsLength = goalsLength();
+    rlbot.flat.GoalInfoT[] _oGoals = _o.getGoals();
+    if (_oGoals == null) _oGoals = new rlbot.flat.GoalInfoT[_oGoalsLength];
+    else if (_oGoals.length != _oGoalsLength) _oGoals = java.util.Arrays.copyOf(_oGoals, _oGoalsLength);
+    if (_goalsAccessor == null) _goalsAccessor = new rlbot.flat.GoalInfo();
+    for (int _j = 0; _j < _oGoalsLength; ++_j) {
+      if (goals(_goalsAccessor, _j) == null) { _oGoals[_j] = null; continue; }
+      if (_oGoals[_j] == null) _oGoals[_j] = new rlbot.flat.GoalInfoT();
+      _goalsAccessor.unpackInto(_oGoals[_j]);
+    }
+    _o.setGoals(_oGoals);
+  }
   public static int pack(FlatBufferBuilder builder, FieldInfoT _o) {
     if (_o == null) return 0;
     int _boostPads = 0;
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -50,6 +51,13 @@ public final class Float extends Struct {
     float _oVal = val();
     _o.setVal(_oVal);
   }
+  /**
+   * Like {@link #unpackTo(FloatT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(FloatT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, FloatT _o) {
     if (_o == null) return 0;
     return createFloat(
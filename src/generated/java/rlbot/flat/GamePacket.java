@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -136,6 +137,67 @@ public final class GamePacket extends Table {
     for (int _j = 0; _j < teamsLength(); ++_j) {_oTeams[_j] = (teams(_j) != null ? teams(_j).unpack() : null);}
     _o.setTeams(_oTeams);
   }
+  private rlbot.flat.PlayerInfo _playersAccessor;
+  private rlbot.flat.BoostPadState _boostPadsAccessor;
+  private rlbot.flat.BallInfo _ballsAccessor;
+  private rlbot.flat.MatchInfo _matchInfoAccessor;
+  private rlbot.flat.TeamInfo _teamsAccessor;
+  /**
+   * Like {@link #unpackTo(GamePacketT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(GamePacketT _o) {
+    int _oPlayersLength = playersLength();
+    rlbot.flat.PlayerInfoT[] _oPlayers = _o.getPlayers();
+    if (_oPlayers == null) _oPlayers = new rlbot.flat.PlayerInfoT[_oPlayersLength];
+    else if (_oPlayers.length != _oPlayersLength) _oPlayers = java.util.Arrays.copyOf(_oPlayers, _oPlayersLength);
+    if (_playersAccessor == null) _playersAccessor = new rlbot.flat.PlayerInfo();
+    for (int _j = 0; _j < _oPlayersLength; ++_j) {
+      if (players(_playersAccessor, _j) == null) { _oPlayers[_j] = null; continue; }
+      if (_oPlayers[_j] == null) _oPlayers[_j] = new rlbot.flat.PlayerInfoT();
+      _playersAccessor.unpackInto(_oPlayers[_j]);
+    }
+    _o.setPlayers(_oPlayers);
+    int _oBoostPadsLength = boostPadsLength();
+    rlbot.flat.BoostPadStateT[] _oBoostPads = _o.getBoostPads();
+    if (_oBoostPads == null) _oBoostPads = new rlbot.flat.BoostPadStateT[_oBoostPadsLength];
+    else if (_oBoostPads.length != _oBoostPadsLength) _oBoostPads = java.util.Arrays.copyOf(_oBoostPads, _oBoostPadsLength);
+    if (_boostPadsAccessor == null) _boostPadsAccessor = new rlbot.flat.BoostPadState();
+    for (int _j = 0; _j < _oBoostPadsLength; ++_j) {
+      if (boostPads(_boostPadsAccessor, _j) == null) { _oBoostPads[_j] = null; continue; }
+      if (_oBoostPads[_j] == null) _oBoostPads[_j] = new rlbot.flat.BoostPadStateT();
+      _boostPadsAccessor.unpackInto(_oBoostPads[_j]);
+    }
+    _o.setBoostPads(_oBoostPads);
+    int _oBallsLength = ballsLength();
+    rlbot.flat.BallInfoT[] _oBalls = _o.getBalls();
+    if (_oBalls == null) _oBalls = new rlbot.flat.BallInfoT[_oBallsLength];
+    else if (_oBalls.length != _oBallsLength) _oBalls = java.util.Arrays.copyOf(_oBalls, _oBallsLength);
+    if (_ballsAccessor == null) _ballsAccessor = new rlbot.flat.BallInfo();
+    for (int _j = 0; _j < _oBallsLength; ++_j) {
+      if (balls(_ballsAccessor, _j) == null) { _oBalls[_j] = null; continue; }
+      if (_oBalls[_j] == null) _oBalls[_j] = new rlbot.flat.BallInfoT();
+      _ballsAccessor.unpackInto(_oBalls[_j]);
+    }
+    _o.setBalls(_oBalls);
+    if (_matchInfoAccessor == null) _matchInfoAccessor = new rlbot.flat.MatchInfo();
+    if (matchInfo(_matchInfoAccessor) != null) {
+      if (_o.getMatchInfo() == null) _o.setMatchInfo(new rlbot.flat.MatchInfoT());
+      _matchInfoAccessor.unpackInto(_o.getMatchInfo());
+    }
+    else _o.setMatchInfo(null);
+    int _oTeamsLength = teamsLength();
+    rlbot.flat.TeamInfoT[] _oTeams = _o.getTeams();
+    if (_oTeams == null) _oTeams = new rlbot.flat.TeamInfoT[_oTeamsLength];
+    else if (_oTeams.length != _oTeamsLength) _oTeams = java.util.Arrays.copyOf(_oTeams, _oTeamsLength);
+    if (_teamsAccessor == null) _teamsAccessor = new rlbot.flat.TeamInfo();
+    for (int _j = 0; _j < _oTeamsLength; ++_j) {
+      if (teams(_teamsAccessor, _j) == null) { _oTeams[_j] = null; continue; }
+      if (_oTeams[_j] == null) _oTeams[_j] = new rlbot.flat.TeamInfoT();
+      _teamsAccessor.unpackInto(_oTeams[_j]);
+    }
+    _o.setTeams(_oTeams);
+  }
   public static int pack(FlatBufferBuilder builder, GamePacketT _o) {
     if (_o == null) return 0;
     int _players = 0;
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -40,11 +41,21 @@ public final class GoalInfo extends Table {
    */
   public rlbot.flat.Vector3 location() { return location(new rlbot.flat.Vector3()); }
   public rlbot.flat.Vector3 location(rlbot.flat.Vector3 obj) { int o = __offset(6); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.Vector3Layout}.
+   */
+  public int locationPosition() { int o = __offset(6); return o != 0 ? o + bb_pos : 0; }
   /**
    * The unit direction point away from the opening of the goal.
    */
   public rlbot.flat.Vector3 direction() { return direction(new rlbot.flat.Vector3()); }
   public rlbot.flat.Vector3 direction(rlbot.flat.Vector3 obj) { int o = __offset(8); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.Vector3Layout}.
+   */
+  public int directionPosition() { int o = __offset(8); return o != 0 ? o + bb_pos : 0; }
   /**
    * The width of the goal. 1785 uu wide on a standard field.
    */
@@ -90,6 +101,32 @@ public final class GoalInfo extends Table {
     float _oHeight = height();
     _o.setHeight(_oHeight);
   }
+  private rlbot.flat.Vector3 _locationAccessor;
+  private rlbot.flat.Vector3 _directionAccessor;
+  /**
+   * Like {@link #unpackTo(GoalInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(GoalInfoT _o) {
+    int _oTeamNum = teamNum();
+    _o.setTeamNum(_oTeamNum);
+    if (_locationAccessor == null) _locationAccessor = new rlbot.flat.Vector3();
+    if (location(_locationAccessor) != null) {
+      if (_o.getLocation() == null) _o.setLocation(new rlbot.flat.Vector3T());
+      _locationAccessor.unpackInto(_o.getLocation());
+    }
+    else _o.setLocation(null);
+    if (_directionAccessor == null) _directionAccessor = new rlbot.flat.Vector3();
+    if (direction(_directionAccessor) != null) {
+      if (_o.getDirection() == null) _o.setDirection(new rlbot.flat.Vector3T());
+      _directionAccessor.unpackInto(_o.getDirection());
+    }
+    else _o.setDirection(null);
+    float _oWidth = width();
+    _o.setWidth(_oWidth);
+    float _oHeight = height();
+    _o.setHeight(_oHeight);
+  }
   public static int pack(FlatBufferBuilder builder, GoalInfoT _o) {
     if (_o == null) return 0;
     startGoalInfo(builder);
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -50,6 +51,13 @@ public final class Human extends Table {
   }
   public void unpackTo(HumanT _o) {
   }
+  /**
+   * Like {@link #unpackTo(HumanT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(HumanT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, HumanT _o) {
     if (_o == null) return 0;
     startHuman(builder);
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -51,6 +52,13 @@ public final class InitComplete extends Table {
   }
   public void unpackTo(InitCompleteT _o) {
   }
+  /**
+   * Like {@link #unpackTo(InitCompleteT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(InitCompleteT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, InitCompleteT _o) {
     if (_o == null) return 0;
     startInitComplete(builder);
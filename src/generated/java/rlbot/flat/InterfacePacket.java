@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -124,6 +125,163 @@ public final class InterfacePacket extends Table {
     }
     _o.setMessage(_oMessage);
   }
+  private rlbot.flat.DisconnectSignal _messageDisconnectSignalAccessor;
+  private rlbot.flat.StartCommand _messageStartCommandAccessor;
+  private rlbot.flat.MatchConfiguration _messageMatchConfigurationAccessor;
+  private rlbot.flat.PlayerInput _messagePlayerInputAccessor;
+  private rlbot.flat.DesiredGameState _messageDesiredGameStateAccessor;
+  private rlbot.flat.RenderGroup _messageRenderGroupAccessor;
+  private rlbot.flat.RemoveRenderGroup _messageRemoveRenderGroupAccessor;
+  private rlbot.flat.MatchComm _messageMatchCommAccessor;
+  private rlbot.flat.ConnectionSettings _messageConnectionSettingsAccessor;
+  private rlbot.flat.StopCommand _messageStopCommandAccessor;
+  private rlbot.flat.SetLoadout _messageSetLoadoutAccessor;
+  private rlbot.flat.InitComplete _messageInitCompleteAccessor;
+  private rlbot.flat.RenderingStatus _messageRenderingStatusAccessor;
+  /**
+   * Like {@link #unpackTo(InterfacePacketT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(InterfacePacketT _o) {
+    rlbot.flat.InterfaceMessageUnion _oMessage = _o.getMessage() != null ? _o.getMessage() : new rlbot.flat.InterfaceMessageUnion();
+    byte _oMessageType = messageType();
+    _oMessage.setType(_oMessageType);
+    Table _oMessageValue;
+    switch (_oMessageType) {
+      case rlbot.flat.InterfaceMessage.DisconnectSignal:
+        if (_messageDisconnectSignalAccessor == null) _messageDisconnectSignalAccessor = new rlbot.flat.DisconnectSignal();
+        _oMessageValue = message(_messageDisconnectSignalAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.DisconnectSignalT)) _oMessage.setValue(new rlbot.flat.DisconnectSignalT());
+          ((rlbot.flat.DisconnectSignal) _oMessageValue).unpackInto((rlbot.flat.DisconnectSignalT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.StartCommand:
+        if (_messageStartCommandAccessor == null) _messageStartCommandAccessor = new rlbot.flat.StartCommand();
+        _oMessageValue = message(_messageStartCommandAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.StartCommandT)) _oMessage.setValue(new rlbot.flat.StartCommandT());
+          ((rlbot.flat.StartCommand) _oMessageValue).unpackInto((rlbot.flat.StartCommandT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.MatchConfiguration:
+        if (_messageMatchConfigurationAccessor == null) _messageMatchConfigurationAccessor = new rlbot.flat.MatchConfiguration();
+        _oMessageValue = message(_messageMatchConfigurationAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.MatchConfigurationT)) _oMessage.setValue(new rlbot.flat.MatchConfigurationT());
+          ((rlbot.flat.MatchConfiguration) _oMessageValue).unpackInto((rlbot.flat.MatchConfigurationT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.PlayerInput:
+        if (_messagePlayerInputAccessor == null) _messagePlayerInputAccessor = new rlbot.flat.PlayerInput();
+        _oMessageValue = message(_messagePlayerInputAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.PlayerInputT)) _oMessage.setValue(new rlbot.flat.PlayerInputT());
+          ((rlbot.flat.PlayerInput) _oMessageValue).unpackInto((rlbot.flat.PlayerInputT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.DesiredGameState:
+        if (_messageDesiredGameStateAccessor == null) _messageDesiredGameStateAccessor = new rlbot.flat.DesiredGameState();
+        _oMessageValue = message(_messageDesiredGameStateAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.DesiredGameStateT)) _oMessage.setValue(new rlbot.flat.DesiredGameStateT());
+          ((rlbot.flat.DesiredGameState) _oMessageValue).unpackInto((rlbot.flat.DesiredGameStateT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.RenderGroup:
+        if (_messageRenderGroupAccessor == null) _messageRenderGroupAccessor = new rlbot.flat.RenderGroup();
+        _oMessageValue = message(_messageRenderGroupAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.RenderGroupT)) _oMessage.setValue(new rlbot.flat.RenderGroupT());
+          ((rlbot.flat.RenderGroup) _oMessageValue).unpackInto((rlbot.flat.RenderGroupT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.RemoveRenderGroup:
+        if (_messageRemoveRenderGroupAccessor == null) _messageRemoveRenderGroupAccessor = new rlbot.flat.RemoveRenderGroup();
+        _oMessageValue = message(_messageRemoveRenderGroupAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.RemoveRenderGroupT)) _oMessage.setValue(new rlbot.flat.RemoveRenderGroupT());
+          ((rlbot.flat.RemoveRenderGroup) _oMessageValue).unpackInto((rlbot.flat.RemoveRenderGroupT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.MatchComm:
+        if (_messageMatchCommAccessor == null) _messageMatchCommAccessor = new rlbot.flat.MatchComm();
+        _oMessageValue = message(_messageMatchCommAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.MatchCommT)) _oMessage.setValue(new rlbot.flat.MatchCommT());
+          ((rlbot.flat.MatchComm) _oMessageValue).unpackInto((rlbot.flat.MatchCommT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.ConnectionSettings:
+        if (_messageConnectionSettingsAccessor == null) _messageConnectionSettingsAccessor = new rlbot.flat.ConnectionSettings();
+        _oMessageValue = message(_messageConnectionSettingsAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.ConnectionSettingsT)) _oMessage.setValue(new rlbot.flat.ConnectionSettingsT());
+          ((rlbot.flat.ConnectionSettings) _oMessageValue).unpackInto((rlbot.flat.ConnectionSettingsT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.StopCommand:
+        if (_messageStopCommandAccessor == null) _messageStopCommandAccessor = new rlbot.flat.StopCommand();
+        _oMessageValue = message(_messageStopCommandAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.StopCommandT)) _oMessage.setValue(new rlbot.flat.StopCommandT());
+          ((rlbot.flat.StopCommand) _oMessageValue).unpackInto((rlbot.flat.StopCommandT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.SetLoadout:
+        if (_messageSetLoadoutAccessor == null) _messageSetLoadoutAccessor = new rlbot.flat.SetLoadout();
+        _oMessageValue = message(_messageSetLoadoutAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.SetLoadoutT)) _oMessage.setValue(new rlbot.flat.SetLoadoutT());
+          ((rlbot.flat.SetLoadout) _oMessageValue).unpackInto((rlbot.flat.SetLoadoutT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.InitComplete:
+        if (_messageInitCompleteAccessor == null) _messageInitCompleteAccessor = new rlbot.flat.InitComplete();
+        _oMessageValue = message(_messageInitCompleteAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.InitCompleteT)) _oMessage.setValue(new rlbot.flat.InitCompleteT());
+          ((rlbot.flat.InitComplete) _oMessageValue).unpackInto((rlbot.flat.InitCompleteT) _oMessage.getValue());
+        }
+        break;
+      case rlbot.flat.InterfaceMessage.RenderingStatus:
+        if (_messageRenderingStatusAccessor == null) _messageRenderingStatusAccessor = new rlbot.flat.RenderingStatus();
+        _oMessageValue = message(_messageRenderingStatusAccessor);
+        if (_oMessageValue == null) {
+          _oMessage.setValue(null);
+        } else {
+          if (!(_oMessage.getValue() instanceof rlbot.flat.RenderingStatusT)) _oMessage.setValue(new rlbot.flat.RenderingStatusT());
+          ((rlbot.flat.RenderingStatus) _oMessageValue).unpackInto((rlbot.flat.RenderingStatusT) _oMessage.getValue());
+        }
+        break;
+      default: break;
+    }
+    _o.setMessage(_oMessage);
+  }
   public static int pack(FlatBufferBuilder builder, InterfacePacketT _o) {
     if (_o == null) return 0;
     byte _messageType = _o.getMessage() == null ? rlbot.flat.InterfaceMessage.NONE : _o.getMessage().getType();
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -68,6 +69,33 @@ public final class Line3D extends Table {
     if (color() != null) color().unpackTo(_o.getColor());
     else _o.setColor(null);
   }
+  private rlbot.flat.RenderAnchor _startAccessor;
+  private rlbot.flat.RenderAnchor _endAccessor;
+  private rlbot.flat.Color _colorAccessor;
+  /**
+   * Like {@link #unpackTo(Line3DT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(Line3DT _o) {
+    if (_startAccessor == null) _startAccessor = new rlbot.flat.RenderAnchor();
+    if (start(_startAccessor) != null) {
+      if (_o.getStart() == null) _o.setStart(new rlbot.flat.RenderAnchorT());
+      _startAccessor.unpackInto(_o.getStart());
+    }
+    else _o.setStart(null);
+    if (_endAccessor == null) _endAccessor = new rlbot.flat.RenderAnchor();
+    if (end(_endAccessor) != null) {
+      if (_o.getEnd() == null) _o.setEnd(new rlbot.flat.RenderAnchorT());
+      _endAccessor.unpackInto(_o.getEnd());
+    }
+    else _o.setEnd(null);
+    if (_colorAccessor == null) _colorAccessor = new rlbot.flat.Color();
+    if (color(_colorAccessor) != null) {
+      if (_o.getColor() == null) _o.setColor(new rlbot.flat.ColorT());
+      _colorAccessor.unpackInto(_o.getColor());
+    }
+    else _o.setColor(null);
+  }
   public static int pack(FlatBufferBuilder builder, Line3DT _o) {
     if (_o == null) return 0;
     int _start = _o.getStart() == null ? 0 : rlbot.flat.RenderAnchor.pack(builder, _o.getStart());
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -103,6 +104,13 @@ public final class LoadoutPaint extends Table {
     long _oGoalExplosionPaintId = goalExplosionPaintId();
     _o.setGoalExplosionPaintId(_oGoalExplosionPaintId);
   }
+  /**
+   * Like {@link #unpackTo(LoadoutPaintT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(LoadoutPaintT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, LoadoutPaintT _o) {
     if (_o == null) return 0;
     return createLoadoutPaint(
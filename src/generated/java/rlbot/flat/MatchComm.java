@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -119,6 +120,24 @@ public final class MatchComm extends Table {
     for (int _j = 0; _j < contentLength(); ++_j) {_oContent[_j] = content(_j);}
     _o.setContent(_oContent);
   }
+  /**
+   * Like {@link #unpackTo(MatchCommT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(MatchCommT _o) {
+    long _oIndex = index();
+    _o.setIndex(_oIndex);
+    long _oTeam = team();
+    _o.setTeam(_oTeam);
+    boolean _oTeamOnly = teamOnly();
+    _o.setTeamOnly(_oTeamOnly);
+    String _oDisplay = display();
+    _o.setDisplay(_oDisplay);
+    int[] _oContent = _o.getContent();
+    if (_oContent == null || _oContent.length != contentLength()) _oContent = new int[contentLength()];
+    for (int _j = 0; _j < contentLength(); ++_j) {_oContent[_j] = content(_j);}
+    _o.setContent(_oContent);
+  }
   public static int pack(FlatBufferBuilder builder, MatchCommT _o) {
     if (_o == null) return 0;
     int _display = _o.getDisplay() == null ? 0 : builder.createString(_o.getDisplay());
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -233,6 +234,69 @@ public final class MatchConfiguration extends Table {
     boolean _oFreeplay = freeplay();
     _o.setFreeplay(_oFreeplay);
   }
+  private rlbot.flat.PlayerConfiguration _playerConfigurationsAccessor;
+  private rlbot.flat.ScriptConfiguration _scriptConfigurationsAccessor;
+  private rlbot.flat.MutatorSettings _mutatorsAccessor;
+  /**
+   * Like {@link #unpackTo(MatchConfigurationT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(MatchConfigurationT _o) {
+    int _oLauncher = launcher();
+    _o.setLauncher(_oLauncher);
+    String _oLauncherArg = launcherArg();
+    _o.setLauncherArg(_oLauncherArg);
+    boolean _oAutoStartAgents = autoStartAgents();
+    _o.setAutoStartAgents(_oAutoStartAgents);
+    boolean _oWaitForAgents = waitForAgents();
+    _o.setWaitForAgents(_oWaitForAgents);
+    String _oGameMapUpk = gameMapUpk();
+    _o.setGameMapUpk(_oGameMapUpk);
+    int _oPlayerConfigurationsLength = playerConfigurationsLength();
+    rlbot.flat.PlayerConfigurationT[] _oPlayerConfigurations = _o.getPlayerConfigurations();
+    if (_oPlayerConfigurations == null) _oPlayerConfigurations = new rlbot.flat.PlayerConfigurationT[_oPlayerConfigurationsLength];
+    else if (_oPlayerConfigurations.length != _oPlayerConfigurationsLength) _oPlayerConfigurations = java.util.Arrays.copyOf(_oPlayerConfigurations, _oPlayerConfigurationsLength);
+    if (_playerConfigurationsAccessor == null) _playerConfigurationsAccessor = new rlbot.flat.PlayerConfiguration();
+    for (int _j = 0; _j < _oPlayerConfigurationsLength; ++_j) {
+      if (playerConfigurations(_playerConfigurationsAccessor, _j) == null) { _oPlayerConfigurations[_j] = null; continue; }
+      if (_oPlayerConfigurations[_j] == null) _oPlayerConfigurations[_j] = new rlbot.flat.PlayerConfigurationT();
+      _playerConfigurationsAccessor.unpackInto(_oPlayerConfigurations[_j]);
+    }
+    _o.setPlayerConfigurations(_oPlayerConfigurations);
+    int _oScriptConfigurationsLength = scriptConfigurationsLength();
+    rlbot.flat.ScriptConfigurationT[] _oScriptConfigurations = _o.getScriptConfigurations();
+    if (_oScriptConfigurations == null) _oScriptConfigurations = new rlbot.flat.ScriptConfigurationT[_oScriptConfigurationsLength];
+    else if (_oScriptConfigurations.length != _oScriptConfigurationsLength) _oScriptConfigurations = java.util.Arrays.copyOf(_oScriptConfigurations, _oScriptConfigurationsLength);
+    if (_scriptConfigurationsAccessor == null) _scriptConfigurationsAccessor = new rlbot.flat.ScriptConfiguration();
+    for (int _j = 0; _j < _oScriptConfigurationsLength; ++_j) {
+      if (scriptConfigurations(_scriptConfigurationsAccessor, _j) == null) { _oScriptConfigurations[_j] = null; continue; }
+      if (_oScriptConfigurations[_j] == null) _oScriptConfigurations[_j] = new rlbot.flat.ScriptConfigurationT();
+      _scriptConfigurationsAccessor.unpackInto(_oScriptConfigurations[_j]);
+    }
+    _o.setScriptConfigurations(_oScriptConfigurations);
+    int _oGameMode = gameMode();
+    _o.setGameMode(_oGameMode);
+    boolean _oSkipReplays = skipReplays();
+    _o.setSkipReplays(_oSkipReplays);
+    boolean _oInstantStart = instantStart();
+    _o.setInstantStart(_oInstantStart);
+    if (_mutatorsAccessor == null) _mutatorsAccessor = new rlbot.flat.MutatorSettings();
+    if (mutators(_mutatorsAccessor) != null) {
+      if (_o.getMutators() == null) _o.setMutators(new rlbot.flat.MutatorSettingsT());
+      _mutatorsAccessor.unpackInto(_o.getMutators());
+    }
+    else _o.setMutators(null);
+    int _oExistingMatchBehavior = existingMatchBehavior();
+    _o.setExistingMatchBehavior(_oExistingMatchBehavior);
+    int _oEnableRendering = enableRendering();
+    _o.setEnableRendering(_oEnableRendering);
+    boolean _oEnableStateSetting = enableStateSetting();
+    _o.setEnableStateSetting(_oEnableStateSetting);
+    boolean _oAutoSaveReplay = autoSaveReplay();
+    _o.setAutoSaveReplay(_oAutoSaveReplay);
+    boolean _oFreeplay = freeplay();
+    _o.setFreeplay(_oFreeplay);
+  }
   public static int pack(FlatBufferBuilder builder, MatchConfigurationT _o) {
     if (_o == null) return 0;
     int _launcherArg = _o.getLauncherArg() == null ? 0 : builder.createString(_o.getLauncherArg());
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -141,6 +142,13 @@ public final class MatchInfo extends Table {
     long _oFrameNum = frameNum();
     _o.setFrameNum(_oFrameNum);
   }
+  /**
+   * Like {@link #unpackTo(MatchInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(MatchInfoT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, MatchInfoT _o) {
     if (_o == null) return 0;
     return createMatchInfo(
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -344,6 +345,13 @@ public final class MutatorSettings extends Table {
     int _oScoringRule = scoringRule();
     _o.setScoringRule(_oScoringRule);
   }
+  /**
+   * Like {@link #unpackTo(MutatorSettingsT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(MutatorSettingsT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, MutatorSettingsT _o) {
     if (_o == null) return 0;
     return createMutatorSettings(
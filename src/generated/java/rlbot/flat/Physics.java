@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -74,6 +75,24 @@ public final class Physics extends Struct {
     velocity().unpackTo(_o.getVelocity());
     angularVelocity().unpackTo(_o.getAngularVelocity());
   }
+  private rlbot.flat.Vector3 _locationAccessor;
+  private rlbot.flat.Rotator _rotationAccessor;
+  private rlbot.flat.Vector3 _velocityAccessor;
+  private rlbot.flat.Vector3 _angularVelocityAccessor;
+  /**
+   * Like {@link #unpackTo(PhysicsT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(PhysicsT _o) {
+    if (_locationAccessor == null) _locationAccessor = new rlbot.flat.Vector3();
+    location(_locationAccessor).unpackInto(_o.getLocation());
+    if (_rotationAccessor == null) _rotationAccessor = new rlbot.flat.Rotator();
+    rotation(_rotationAccessor).unpackInto(_o.getRotation());
+    if (_velocityAccessor == null) _velocityAccessor = new rlbot.flat.Vector3();
+    velocity(_velocityAccessor).unpackInto(_o.getVelocity());
+    if (_angularVelocityAccessor == null) _angularVelocityAccessor = new rlbot.flat.Vector3();
+    angularVelocity(_angularVelocityAccessor).unpackInto(_o.getAngularVelocity());
+  }
   public static int pack(FlatBufferBuilder builder, PhysicsT _o) {
     if (_o == null) return 0;
     float _location_x = _o.getLocation().getX();
@@ -0,0 +1,59 @@
+// automatically generated by codegen/FlatbuffersPostProcessor.java, do not modify
+
+package rlbot.flat;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Read-only access to {@link Physics} structs straight from a buffer using precomputed field offsets.
+ * Positions are absolute buffer positions, fx. as returned by the {@code fooPosition} methods of tables.
+ */
+@SuppressWarnings("unused")
+public final class PhysicsLayout {
+  private static final VarHandle FLOAT = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /** The size of the struct in bytes. */
+  public static final int SIZE = 48;
+  /** The number of float fields in the struct. */
+  public static final int FLOAT_COUNT = 12;
+
+  public static final int LOCATION_X = 0;
+  public static final int LOCATION_Y = 4;
+  public static final int LOCATION_Z = 8;
+  public static final int ROTATION_PITCH = 12;
+  public static final int ROTATION_YAW = 16;
+  public static final int ROTATION_ROLL = 20;
+  public static final int VELOCITY_X = 24;
+  public static final int VELOCITY_Y = 28;
+  public static final int VELOCITY_Z = 32;
+  public static final int ANGULAR_VELOCITY_X = 36;
+  public static final int ANGULAR_VELOCITY_Y = 40;
+  public static final int ANGULAR_VELOCITY_Z = 44;
+
+  private PhysicsLayout() {}
+
+  public static float locationX(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + LOCATION_X); }
+  public static float locationY(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + LOCATION_Y); }
+  public static float locationZ(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + LOCATION_Z); }
+  public static float rotationPitch(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + ROTATION_PITCH); }
+  public static float rotationYaw(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + ROTATION_YAW); }
+  public static float rotationRoll(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + ROTATION_ROLL); }
+  public static float velocityX(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + VELOCITY_X); }
+  public static float velocityY(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + VELOCITY_Y); }
+  public static float velocityZ(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + VELOCITY_Z); }
+  public static float angularVelocityX(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + ANGULAR_VELOCITY_X); }
+  public static float angularVelocityY(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + ANGULAR_VELOCITY_Y); }
+  public static float angularVelocityZ(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + ANGULAR_VELOCITY_Z); }
+
+  /**
+   * Copy {@code count} consecutive structs starting at {@code pos} into {@code dst} with
+   * {@link #FLOAT_COUNT} floats per struct in field order.
+   */
+  public static void copyTo(ByteBuffer bb, int pos, int count, float[] dst, int dstOffset) {
+    bb.duplicate().position(pos).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(dst, dstOffset, count * FLOAT_COUNT);
+  }
+}
+
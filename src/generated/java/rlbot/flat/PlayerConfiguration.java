@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -107,6 +108,57 @@ public final class PlayerConfiguration extends Table {
     int _oPlayerId = playerId();
     _o.setPlayerId(_oPlayerId);
   }
+  private rlbot.flat.Human _varietyHumanAccessor;
+  private rlbot.flat.CustomBot _varietyCustomBotAccessor;
+  private rlbot.flat.PsyonixBot _varietyPsyonixBotAccessor;
+  /**
+   * Like {@link #unpackTo(PlayerConfigurationT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(PlayerConfigurationT _o) {
+    rlbot.flat.PlayerClassUnion _oVariety = _o.getVariety() != null ? _o.getVariety() : new rlbot.flat.PlayerClassUnion();
+    byte _oVarietyType = varietyType();
+    _oVariety.setType(_oVarietyType);
+    Table _oVarietyValue;
+    switch (_oVarietyType) {
+      case rlbot.flat.PlayerClass.Human:
+        if (_varietyHumanAccessor == null) _varietyHumanAccessor = new rlbot.flat.Human();
+        _oVarietyValue = variety(_varietyHumanAccessor);
+        if (_oVarietyValue == null) {
+          _oVariety.setValue(null);
+        } else {
+          if (!(_oVariety.getValue() instanceof rlbot.flat.HumanT)) _oVariety.setValue(new rlbot.flat.HumanT());
+          ((rlbot.flat.Human) _oVarietyValue).unpackInto((rlbot.flat.HumanT) _oVariety.getValue());
+        }
+        break;
+      case rlbot.flat.PlayerClass.CustomBot:
+        if (_varietyCustomBotAccessor == null) _varietyCustomBotAccessor = new rlbot.flat.CustomBot();
+        _oVarietyValue = variety(_varietyCustomBotAccessor);
+        if (_oVarietyValue == null) {
+          _oVariety.setValue(null);
+        } else {
+          if (!(_oVariety.getValue() instanceof rlbot.flat.CustomBotT)) _oVariety.setValue(new rlbot.flat.CustomBotT());
+          ((rlbot.flat.CustomBot) _oVarietyValue).unpackInto((rlbot.flat.CustomBotT) _oVariety.getValue());
+        }
+        break;
+      case rlbot.flat.PlayerClass.PsyonixBot:
+        if (_varietyPsyonixBotAccessor == null) _varietyPsyonixBotAccessor = new rlbot.flat.PsyonixBot();
+        _oVarietyValue = variety(_varietyPsyonixBotAccessor);
+        if (_oVarietyValue == null) {
+          _oVariety.setValue(null);
+        } else {
+          if (!(_oVariety.getValue() instanceof rlbot.flat.PsyonixBotT)) _oVariety.setValue(new rlbot.flat.PsyonixBotT());
+          ((rlbot.flat.PsyonixBot) _oVarietyValue).unpackInto((rlbot.flat.PsyonixBotT) _oVariety.getValue());
+        }
+        break;
+      default: break;
+    }
+    _o.setVariety(_oVariety);
+    long _oTeam = team();
+    _o.setTeam(_oTeam);
+    int _oPlayerId = playerId();
+    _o.setPlayerId(_oPlayerId);
+  }
   public static int pack(FlatBufferBuilder builder, PlayerConfigurationT _o) {
     if (_o == null) return 0;
     byte _varietyType = _o.getVariety() == null ? rlbot.flat.PlayerClass.NONE : _o.getVariety().getType();
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -35,6 +36,11 @@ public final class PlayerInfo extends Table {
    */
   public rlbot.flat.Physics physics() { return physics(new rlbot.flat.Physics()); }
   public rlbot.flat.Physics physics(rlbot.flat.Physics obj) { int o = __offset(4); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.PhysicsLayout}.
+   */
+  public int physicsPosition() { int o = __offset(4); return o != 0 ? o + bb_pos : 0; }
   /**
    * The various scores of this player, e.g. those on the leaderboard.
    */
@@ -52,6 +58,11 @@ public final class PlayerInfo extends Table {
    */
   public rlbot.flat.Vector3 hitboxOffset() { return hitboxOffset(new rlbot.flat.Vector3()); }
   public rlbot.flat.Vector3 hitboxOffset(rlbot.flat.Vector3 obj) { int o = __offset(10); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.Vector3Layout}.
+   */
+  public int hitboxOffsetPosition() { int o = __offset(10); return o != 0 ? o + bb_pos : 0; }
   /**
    * Information about the latest touch with a ball.
    * Is null if the player has yet to touch the ball.
@@ -149,6 +160,11 @@ public final class PlayerInfo extends Table {
    */
   public rlbot.flat.Vector2 dodgeDir() { return dodgeDir(new rlbot.flat.Vector2()); }
   public rlbot.flat.Vector2 dodgeDir(rlbot.flat.Vector2 obj) { int o = __offset(44); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.Vector2Layout}.
+   */
+  public int dodgeDirPosition() { int o = __offset(44); return o != 0 ? o + bb_pos : 0; }
 
   public static void startPlayerInfo(FlatBufferBuilder builder) { builder.startTable(21); }
   public static void addPhysics(FlatBufferBuilder builder, int physicsOffset) { builder.addStruct(0, physicsOffset, 0); }
@@ -243,6 +259,91 @@ public final class PlayerInfo extends Table {
     if (dodgeDir() != null) dodgeDir().unpackTo(_o.getDodgeDir());
     else _o.setDodgeDir(null);
   }
+  private rlbot.flat.Physics _physicsAccessor;
+  private rlbot.flat.ScoreInfo _scoreInfoAccessor;
+  private rlbot.flat.BoxShape _hitboxAccessor;
+  private rlbot.flat.Vector3 _hitboxOffsetAccessor;
+  private rlbot.flat.Touch _latestTouchAccessor;
+  private rlbot.flat.ControllerState _lastInputAccessor;
+  private rlbot.flat.Vector2 _dodgeDirAccessor;
+  /**
+   * Like {@link #unpackTo(PlayerInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(PlayerInfoT _o) {
+    if (_physicsAccessor == null) _physicsAccessor = new rlbot.flat.Physics();
+    if (physics(_physicsAccessor) != null) {
+      if (_o.getPhysics() == null) _o.setPhysics(new rlbot.flat.PhysicsT());
+      _physicsAccessor.unpackInto(_o.getPhysics());
+    }
+    else _o.setPhysics(null);
+    if (_scoreInfoAccessor == null) _scoreInfoAccessor = new rlbot.flat.ScoreInfo();
+    if (scoreInfo(_scoreInfoAccessor) != null) {
+      if (_o.getScoreInfo() == null) _o.setScoreInfo(new rlbot.flat.ScoreInfoT());
+      _scoreInfoAccessor.unpackInto(_o.getScoreInfo());
+    }
+    else _o.setScoreInfo(null);
+    if (_hitboxAccessor == null) _hitboxAccessor = new rlbot.flat.BoxShape();
+    if (hitbox(_hitboxAccessor) != null) {
+      if (_o.getHitbox() == null) _o.setHitbox(new rlbot.flat.BoxShapeT());
+      _hitboxAccessor.unpackInto(_o.getHitbox());
+    }
+    else _o.setHitbox(null);
+    if (_hitboxOffsetAccessor == null) _hitboxOffsetAccessor = new rlbot.flat.Vector3();
+    if (hitboxOffset(_hitboxOffsetAccessor) != null) {
+      if (_o.getHitboxOffset() == null) _o.setHitboxOffset(new rlbot.flat.Vector3T());
+      _hitboxOffsetAccessor.unpackInto(_o.getHitboxOffset());
+    }
+    else _o.setHitboxOffset(null);
+    if (_latestTouchAccessor == null) _latestTouchAccessor = new rlbot.flat.Touch();
+    if (latestTouch(_latestTouchAccessor) != null) {
+      if (_o.getLatestTouch() == null) _o.setLatestTouch(new rlbot.flat.TouchT());
+      _latestTouchAccessor.unpackInto(_o.getLatestTouch());
+    }
+    else _o.setLatestTouch(null);
+    int _oAirState = airState();
+    _o.setAirState(_oAirState);
+    float _oDodgeTimeout = dodgeTimeout();
+    _o.setDodgeTimeout(_oDodgeTimeout);
+    float _oDemolishedTimeout = demolishedTimeout();
+    _o.setDemolishedTimeout(_oDemolishedTimeout);
+    boolean _oIsSupersonic = isSupersonic();
+    _o.setIsSupersonic(_oIsSupersonic);
+    boolean _oIsBot = isBot();
+    _o.setIsBot(_oIsBot);
+    String _oName = name();
+    _o.setName(_oName);
+    long _oTeam = team();
+    _o.setTeam(_oTeam);
+    float _oBoost = boost();
+    _o.setBoost(_oBoost);
+    int _oPlayerId = playerId();
+    _o.setPlayerId(_oPlayerId);
+    String[] _oAccolades = _o.getAccolades();
+    if (_oAccolades == null || _oAccolades.length != accoladesLength()) _oAccolades = new String[accoladesLength()];
+    for (int _j = 0; _j < accoladesLength(); ++_j) {_oAccolades[_j] = accolades(_j);}
+    _o.setAccolades(_oAccolades);
+    if (_lastInputAccessor == null) _lastInputAccessor = new rlbot.flat.ControllerState();
+    if (lastInput(_lastInputAccessor) != null) {
+      if (_o.getLastInput() == null) _o.setLastInput(new rlbot.flat.ControllerStateT());
+      _lastInputAccessor.unpackInto(_o.getLastInput());
+    }
+    else _o.setLastInput(null);
+    boolean _oHasJumped = hasJumped();
+    _o.setHasJumped(_oHasJumped);
+    boolean _oHasDoubleJumped = hasDoubleJumped();
+    _o.setHasDoubleJumped(_oHasDoubleJumped);
+    boolean _oHasDodged = hasDodged();
+    _o.setHasDodged(_oHasDodged);
+    float _oDodgeElapsed = dodgeElapsed();
+    _o.setDodgeElapsed(_oDodgeElapsed);
+    if (_dodgeDirAccessor == null) _dodgeDirAccessor = new rlbot.flat.Vector2();
+    if (dodgeDir(_dodgeDirAccessor) != null) {
+      if (_o.getDodgeDir() == null) _o.setDodgeDir(new rlbot.flat.Vector2T());
+      _dodgeDirAccessor.unpackInto(_o.getDodgeDir());
+    }
+    else _o.setDodgeDir(null);
+  }
   public static int pack(FlatBufferBuilder builder, PlayerInfoT _o) {
     if (_o == null) return 0;
     int _hitbox = _o.getHitbox() == null ? 0 : rlbot.flat.BoxShape.pack(builder, _o.getHitbox());
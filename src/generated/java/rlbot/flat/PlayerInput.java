@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -61,6 +62,21 @@ public final class PlayerInput extends Table {
     if (controllerState() != null) controllerState().unpackTo(_o.getControllerState());
     else _o.setControllerState(null);
   }
+  private rlbot.flat.ControllerState _controllerStateAccessor;
+  /**
+   * Like {@link #unpackTo(PlayerInputT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(PlayerInputT _o) {
+    long _oPlayerIndex = playerIndex();
+    _o.setPlayerIndex(_oPlayerIndex);
+    if (_controllerStateAccessor == null) _controllerStateAccessor = new rlbot.flat.ControllerState();
+    if (controllerState(_controllerStateAccessor) != null) {
+      if (_o.getControllerState() == null) _o.setControllerState(new rlbot.flat.ControllerStateT());
+      _controllerStateAccessor.unpackInto(_o.getControllerState());
+    }
+    else _o.setControllerState(null);
+  }
   public static int pack(FlatBufferBuilder builder, PlayerInputT _o) {
     if (_o == null) return 0;
     startPlayerInput(builder);
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -126,6 +127,59 @@ public final class PlayerLoadout extends Table {
     if (secondaryColorLookup() != null) secondaryColorLookup().unpackTo(_o.getSecondaryColorLookup());
     else _o.setSecondaryColorLookup(null);
   }
+  private rlbot.flat.LoadoutPaint _loadoutPaintAccessor;
+  private rlbot.flat.Color _primaryColorLookupAccessor;
+  private rlbot.flat.Color _secondaryColorLookupAccessor;
+  /**
+   * Like {@link #unpackTo(PlayerLoadoutT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(PlayerLoadoutT _o) {
+    long _oTeamColorId = teamColorId();
+    _o.setTeamColorId(_oTeamColorId);
+    long _oCustomColorId = customColorId();
+    _o.setCustomColorId(_oCustomColorId);
+    long _oCarId = carId();
+    _o.setCarId(_oCarId);
+    long _oDecalId = decalId();
+    _o.setDecalId(_oDecalId);
+    long _oWheelsId = wheelsId();
+    _o.setWheelsId(_oWheelsId);
+    long _oBoostId = boostId();
+    _o.setBoostId(_oBoostId);
+    long _oAntennaId = antennaId();
+    _o.setAntennaId(_oAntennaId);
+    long _oHatId = hatId();
+    _o.setHatId(_oHatId);
+    long _oPaintFinishId = paintFinishId();
+    _o.setPaintFinishId(_oPaintFinishId);
+    long _oCustomFinishId = customFinishId();
+    _o.setCustomFinishId(_oCustomFinishId);
+    long _oEngineAudioId = engineAudioId();
+    _o.setEngineAudioId(_oEngineAudioId);
+    long _oTrailsId = trailsId();
+    _o.setTrailsId(_oTrailsId);
+    long _oGoalExplosionId = goalExplosionId();
+    _o.setGoalExplosionId(_oGoalExplosionId);
+    if (_loadoutPaintAccessor == null) _loadoutPaintAccessor = new rlbot.flat.LoadoutPaint();
+    if (loadoutPaint(_loadoutPaintAccessor) != null) {
+      if (_o.getLoadoutPaint() == null) _o.setLoadoutPaint(new rlbot.flat.LoadoutPaintT());
+      _loadoutPaintAccessor.unpackInto(_o.getLoadoutPaint());
+    }
+    else _o.setLoadoutPaint(null);
+    if (_primaryColorLookupAccessor == null) _primaryColorLookupAccessor = new rlbot.flat.Color();
+    if (primaryColorLookup(_primaryColorLookupAccessor) != null) {
+      if (_o.getPrimaryColorLookup() == null) _o.setPrimaryColorLookup(new rlbot.flat.ColorT());
+      _primaryColorLookupAccessor.unpackInto(_o.getPrimaryColorLookup());
+    }
+    else _o.setPrimaryColorLookup(null);
+    if (_secondaryColorLookupAccessor == null) _secondaryColorLookupAccessor = new rlbot.flat.Color();
+    if (secondaryColorLookup(_secondaryColorLookupAccessor) != null) {
+      if (_o.getSecondaryColorLookup() == null) _o.setSecondaryColorLookup(new rlbot.flat.ColorT());
+      _secondaryColorLookupAccessor.unpackInto(_o.getSecondaryColorLookup());
+    }
+    else _o.setSecondaryColorLookup(null);
+  }
   public static int pack(FlatBufferBuilder builder, PlayerLoadoutT _o) {
     if (_o == null) return 0;
     int _loadoutPaint = _o.getLoadoutPaint() == null ? 0 : rlbot.flat.LoadoutPaint.pack(builder, _o.getLoadoutPaint());
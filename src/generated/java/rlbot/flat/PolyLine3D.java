@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -32,6 +33,16 @@ public final class PolyLine3D extends Table {
 
   public rlbot.flat.Vector3 points(int j) { return points(new rlbot.flat.Vector3(), j); }
   public rlbot.flat.Vector3 points(rlbot.flat.Vector3 obj, int j) { int o = __offset(4); return o != 0 ? obj.__assign(__vector(o) + j * 12, bb) : null; }
+  /**
+   * @return the absolute position of element {@code j} in {@link #getByteBuffer()}, or 0 if the vector is absent.
+   * Use with {@link rlbot.flat.Vector3Layout}.
+   */
+  public int pointsPosition(int j) { int o = __offset(4); return o != 0 ? __vector(o) + j * 12 : 0; }
+  /**
+   * Copy all elements into {@code dst} with {@link rlbot.flat.Vector3Layout#FLOAT_COUNT} floats per element.
+   * @return the number of elements copied.
+   */
+  public int copyPointsTo(float[] dst) { int o = __offset(4); if (o == 0) return 0; int n = __vector_len(o); rlbot.flat.Vector3Layout.copyTo(bb, __vector(o), n, dst, 0); return n; }
   public int pointsLength() { int o = __offset(4); return o != 0 ? __vector_len(o) : 0; }
   public rlbot.flat.Vector3.Vector pointsVector() { return pointsVector(new rlbot.flat.Vector3.Vector()); }
   public rlbot.flat.Vector3.Vector pointsVector(rlbot.flat.Vector3.Vector obj) { int o = __offset(4); return o != 0 ? obj.__assign(__vector(o), 12, bb) : null; }
@@ -67,6 +78,31 @@ public final class PolyLine3D extends Table {
     if (color() != null) color().unpackTo(_o.getColor());
     else _o.setColor(null);
   }
+  private rlbot.flat.Vector3 _pointsAccessor;
+  private rlbot.flat.Color _colorAccessor;
+  /**
+   * Like {@link #unpackTo(PolyLine3DT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(PolyLine3DT _o) {
+    int _oPointsLength = pointsLength();
+    rlbot.flat.Vector3T[] _oPoints = _o.getPoints();
+    if (_oPoints == null) _oPoints = new rlbot.flat.Vector3T[_oPointsLength];
+    else if (_oPoints.length != _oPointsLength) _oPoints = java.util.Arrays.copyOf(_oPoints, _oPointsLength);
+    if (_pointsAccessor == null) _pointsAccessor = new rlbot.flat.Vector3();
+    for (int _j = 0; _j < _oPointsLength; ++_j) {
+      if (points(_pointsAccessor, _j) == null) { _oPoints[_j] = null; continue; }
+      if (_oPoints[_j] == null) _oPoints[_j] = new rlbot.flat.Vector3T();
+      _pointsAccessor.unpackInto(_oPoints[_j]);
+    }
+    _o.setPoints(_oPoints);
+    if (_colorAccessor == null) _colorAccessor = new rlbot.flat.Color();
+    if (color(_colorAccessor) != null) {
+      if (_o.getColor() == null) _o.setColor(new rlbot.flat.ColorT());
+      _colorAccessor.unpackInto(_o.getColor());
+    }
+    else _o.setColor(null);
+  }
   public static int pack(FlatBufferBuilder builder, PolyLine3DT _o) {
     if (_o == null) return 0;
     int _points = 0;
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -77,6 +78,17 @@ public final class PredictionSlice extends Struct {
     _o.setGameSeconds(_oGameSeconds);
     physics().unpackTo(_o.getPhysics());
   }
+  private rlbot.flat.Physics _physicsAccessor;
+  /**
+   * Like {@link #unpackTo(PredictionSliceT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(PredictionSliceT _o) {
+    float _oGameSeconds = gameSeconds();
+    _o.setGameSeconds(_oGameSeconds);
+    if (_physicsAccessor == null) _physicsAccessor = new rlbot.flat.Physics();
+    physics(_physicsAccessor).unpackInto(_o.getPhysics());
+  }
   public static int pack(FlatBufferBuilder builder, PredictionSliceT _o) {
     if (_o == null) return 0;
     float _physics_location_x = _o.getPhysics().getLocation().getX();
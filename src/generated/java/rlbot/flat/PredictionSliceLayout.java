@@ -0,0 +1,61 @@
+// automatically generated by codegen/FlatbuffersPostProcessor.java, do not modify
+
+package rlbot.flat;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Read-only access to {@link PredictionSlice} structs straight from a buffer using precomputed field offsets.
+ * Positions are absolute buffer positions, fx. as returned by the {@code fooPosition} methods of tables.
+ */
+@SuppressWarnings("unused")
+public final class PredictionSliceLayout {
+  private static final VarHandle FLOAT = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /** The size of the struct in bytes. */
+  public static final int SIZE = 52;
+  /** The number of float fields in the struct. */
+  public static final int FLOAT_COUNT = 13;
+
+  public static final int GAME_SECONDS = 0;
+  public static final int PHYSICS_LOCATION_X = 4;
+  public static final int PHYSICS_LOCATION_Y = 8;
+  public static final int PHYSICS_LOCATION_Z = 12;
+  public static final int PHYSICS_ROTATION_PITCH = 16;
+  public static final int PHYSICS_ROTATION_YAW = 20;
+  public static final int PHYSICS_ROTATION_ROLL = 24;
+  public static final int PHYSICS_VELOCITY_X = 28;
+  public static final int PHYSICS_VELOCITY_Y = 32;
+  public static final int PHYSICS_VELOCITY_Z = 36;
+  public static final int PHYSICS_ANGULAR_VELOCITY_X = 40;
+  public static final int PHYSICS_ANGULAR_VELOCITY_Y = 44;
+  public static final int PHYSICS_ANGULAR_VELOCITY_Z = 48;
+
+  private PredictionSliceLayout() {}
+
+  public static float gameSeconds(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + GAME_SECONDS); }
+  public static float physicsLocationX(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_LOCATION_X); }
+  public static float physicsLocationY(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_LOCATION_Y); }
+  public static float physicsLocationZ(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_LOCATION_Z); }
+  public static float physicsRotationPitch(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_ROTATION_PITCH); }
+  public static float physicsRotationYaw(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_ROTATION_YAW); }
+  public static float physicsRotationRoll(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_ROTATION_ROLL); }
+  public static float physicsVelocityX(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_VELOCITY_X); }
+  public static float physicsVelocityY(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_VELOCITY_Y); }
+  public static float physicsVelocityZ(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_VELOCITY_Z); }
+  public static float physicsAngularVelocityX(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_ANGULAR_VELOCITY_X); }
+  public static float physicsAngularVelocityY(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_ANGULAR_VELOCITY_Y); }
+  public static float physicsAngularVelocityZ(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PHYSICS_ANGULAR_VELOCITY_Z); }
+
+  /**
+   * Copy {@code count} consecutive structs starting at {@code pos} into {@code dst} with
+   * {@link #FLOAT_COUNT} floats per struct in field order.
+   */
+  public static void copyTo(ByteBuffer bb, int pos, int count, float[] dst, int dstOffset) {
+    bb.duplicate().position(pos).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(dst, dstOffset, count * FLOAT_COUNT);
+  }
+}
+
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -85,6 +86,23 @@ public final class PsyonixBot extends Table {
     int _oBotSkill = botSkill();
     _o.setBotSkill(_oBotSkill);
   }
+  private rlbot.flat.PlayerLoadout _loadoutAccessor;
+  /**
+   * Like {@link #unpackTo(PsyonixBotT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(PsyonixBotT _o) {
+    String _oName = name();
+    _o.setName(_oName);
+    if (_loadoutAccessor == null) _loadoutAccessor = new rlbot.flat.PlayerLoadout();
+    if (loadout(_loadoutAccessor) != null) {
+      if (_o.getLoadout() == null) _o.setLoadout(new rlbot.flat.PlayerLoadoutT());
+      _loadoutAccessor.unpackInto(_o.getLoadout());
+    }
+    else _o.setLoadout(null);
+    int _oBotSkill = botSkill();
+    _o.setBotSkill(_oBotSkill);
+  }
   public static int pack(FlatBufferBuilder builder, PsyonixBotT _o) {
     if (_o == null) return 0;
     int _name = _o.getName() == null ? 0 : builder.createString(_o.getName());
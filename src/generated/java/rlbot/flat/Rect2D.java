@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -102,6 +103,31 @@ public final class Rect2D extends Table {
     int _oVAlign = vAlign();
     _o.setVAlign(_oVAlign);
   }
+  private rlbot.flat.Color _colorAccessor;
+  /**
+   * Like {@link #unpackTo(Rect2DT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(Rect2DT _o) {
+    float _oX = x();
+    _o.setX(_oX);
+    float _oY = y();
+    _o.setY(_oY);
+    float _oWidth = width();
+    _o.setWidth(_oWidth);
+    float _oHeight = height();
+    _o.setHeight(_oHeight);
+    if (_colorAccessor == null) _colorAccessor = new rlbot.flat.Color();
+    if (color(_colorAccessor) != null) {
+      if (_o.getColor() == null) _o.setColor(new rlbot.flat.ColorT());
+      _colorAccessor.unpackInto(_o.getColor());
+    }
+    else _o.setColor(null);
+    int _oHAlign = hAlign();
+    _o.setHAlign(_oHAlign);
+    int _oVAlign = vAlign();
+    _o.setVAlign(_oVAlign);
+  }
   public static int pack(FlatBufferBuilder builder, Rect2DT _o) {
     if (_o == null) return 0;
     startRect2D(builder);
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -97,6 +98,34 @@ public final class Rect3D extends Table {
     int _oVAlign = vAlign();
     _o.setVAlign(_oVAlign);
   }
+  private rlbot.flat.RenderAnchor _anchorAccessor;
+  private rlbot.flat.Color _colorAccessor;
+  /**
+   * Like {@link #unpackTo(Rect3DT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(Rect3DT _o) {
+    if (_anchorAccessor == null) _anchorAccessor = new rlbot.flat.RenderAnchor();
+    if (anchor(_anchorAccessor) != null) {
+      if (_o.getAnchor() == null) _o.setAnchor(new rlbot.flat.RenderAnchorT());
+      _anchorAccessor.unpackInto(_o.getAnchor());
+    }
+    else _o.setAnchor(null);
+    float _oWidth = width();
+    _o.setWidth(_oWidth);
+    float _oHeight = height();
+    _o.setHeight(_oHeight);
+    if (_colorAccessor == null) _colorAccessor = new rlbot.flat.Color();
+    if (color(_colorAccessor) != null) {
+      if (_o.getColor() == null) _o.setColor(new rlbot.flat.ColorT());
+      _colorAccessor.unpackInto(_o.getColor());
+    }
+    else _o.setColor(null);
+    int _oHAlign = hAlign();
+    _o.setHAlign(_oHAlign);
+    int _oVAlign = vAlign();
+    _o.setVAlign(_oVAlign);
+  }
   public static int pack(FlatBufferBuilder builder, Rect3DT _o) {
     if (_o == null) return 0;
     int _anchor = _o.getAnchor() == null ? 0 : rlbot.flat.RenderAnchor.pack(builder, _o.getAnchor());
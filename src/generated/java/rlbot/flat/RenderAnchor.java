@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -39,6 +40,11 @@ public final class RenderAnchor extends Table {
    */
   public rlbot.flat.Vector3 world() { return world(new rlbot.flat.Vector3()); }
   public rlbot.flat.Vector3 world(rlbot.flat.Vector3 obj) { int o = __offset(4); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.Vector3Layout}.
+   */
+  public int worldPosition() { int o = __offset(4); return o != 0 ? o + bb_pos : 0; }
   public byte relativeType() { int o = __offset(6); return o != 0 ? bb.get(o + bb_pos) : 0; }
   /**
    * An optional offset given by the position of an object and includes a local offset that takes the object's orientation into account.
@@ -86,6 +92,49 @@ public final class RenderAnchor extends Table {
     }
     _o.setRelative(_oRelative);
   }
+  private rlbot.flat.Vector3 _worldAccessor;
+  private rlbot.flat.BallAnchor _relativeBallAnchorAccessor;
+  private rlbot.flat.CarAnchor _relativeCarAnchorAccessor;
+  /**
+   * Like {@link #unpackTo(RenderAnchorT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(RenderAnchorT _o) {
+    if (_worldAccessor == null) _worldAccessor = new rlbot.flat.Vector3();
+    if (world(_worldAccessor) != null) {
+      if (_o.getWorld() == null) _o.setWorld(new rlbot.flat.Vector3T());
+      _worldAccessor.unpackInto(_o.getWorld());
+    }
+    else _o.setWorld(null);
+    rlbot.flat.RelativeAnchorUnion _oRelative = _o.getRelative() != null ? _o.getRelative() : new rlbot.flat.RelativeAnchorUnion();
+    byte _oRelativeType = relativeType();
+    _oRelative.setType(_oRelativeType);
+    Table _oRelativeValue;
+    switch (_oRelativeType) {
+      case rlbot.flat.RelativeAnchor.BallAnchor:
+        if (_relativeBallAnchorAccessor == null) _relativeBallAnchorAccessor = new rlbot.flat.BallAnchor();
+        _oRelativeValue = relative(_relativeBallAnchorAccessor);
+        if (_oRelativeValue == null) {
+          _oRelative.setValue(null);
+        } else {
+          if (!(_oRelative.getValue() instanceof rlbot.flat.BallAnchorT)) _oRelative.setValue(new rlbot.flat.BallAnchorT());
+          ((rlbot.flat.BallAnchor) _oRelativeValue).unpackInto((rlbot.flat.BallAnchorT) _oRelative.getValue());
+        }
+        break;
+      case rlbot.flat.RelativeAnchor.CarAnchor:
+        if (_relativeCarAnchorAccessor == null) _relativeCarAnchorAccessor = new rlbot.flat.CarAnchor();
+        _oRelativeValue = relative(_relativeCarAnchorAccessor);
+        if (_oRelativeValue == null) {
+          _oRelative.setValue(null);
+        } else {
+          if (!(_oRelative.getValue() instanceof rlbot.flat.CarAnchorT)) _oRelative.setValue(new rlbot.flat.CarAnchorT());
+          ((rlbot.flat.CarAnchor) _oRelativeValue).unpackInto((rlbot.flat.CarAnchorT) _oRelative.getValue());
+        }
+        break;
+      default: break;
+    }
+    _o.setRelative(_oRelative);
+  }
   public static int pack(FlatBufferBuilder builder, RenderAnchorT _o) {
     if (_o == null) return 0;
     byte _relativeType = _o.getRelative() == null ? rlbot.flat.RelativeAnchor.NONE : _o.getRelative().getType();
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -84,6 +85,26 @@ public final class RenderGroup extends Table {
     int _oId = id();
     _o.setId(_oId);
   }
+  private rlbot.flat.RenderMessage _renderMessagesAccessor;
+  /**
+   * Like {@link #unpackTo(RenderGroupT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(RenderGroupT _o) {
+    int _oRenderMessagesLength = renderMessagesLength();
+    rlbot.flat.RenderMessageT[] _oRenderMessages = _o.getRenderMessages();
+    if (_oRenderMessages == null) _oRenderMessages = new rlbot.flat.RenderMessageT[_oRenderMessagesLength];
+    else if (_oRenderMessages.length != _oRenderMessagesLength) _oRenderMessages = java.util.Arrays.copyOf(_oRenderMessages, _oRenderMessagesLength);
+    if (_renderMessagesAccessor == null) _renderMessagesAccessor = new rlbot.flat.RenderMessage();
+    for (int _j = 0; _j < _oRenderMessagesLength; ++_j) {
+      if (renderMessages(_renderMessagesAccessor, _j) == null) { _oRenderMessages[_j] = null; continue; }
+      if (_oRenderMessages[_j] == null) _oRenderMessages[_j] = new rlbot.flat.RenderMessageT();
+      _renderMessagesAccessor.unpackInto(_oRenderMessages[_j]);
+    }
+    _o.setRenderMessages(_oRenderMessages);
+    int _oId = id();
+    _o.setId(_oId);
+  }
   public static int pack(FlatBufferBuilder builder, RenderGroupT _o) {
     if (_o == null) return 0;
     int _renderMessages = 0;
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -96,6 +97,86 @@ public final class RenderMessage extends Table {
     }
     _o.setVariety(_oVariety);
   }
+  private rlbot.flat.Line3D _varietyLine3DAccessor;
+  private rlbot.flat.PolyLine3D _varietyPolyLine3DAccessor;
+  private rlbot.flat.String2D _varietyString2DAccessor;
+  private rlbot.flat.String3D _varietyString3DAccessor;
+  private rlbot.flat.Rect2D _varietyRect2DAccessor;
+  private rlbot.flat.Rect3D _varietyRect3DAccessor;
+  /**
+   * Like {@link #unpackTo(RenderMessageT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(RenderMessageT _o) {
+    rlbot.flat.RenderTypeUnion _oVariety = _o.getVariety() != null ? _o.getVariety() : new rlbot.flat.RenderTypeUnion();
+    byte _oVarietyType = varietyType();
+    _oVariety.setType(_oVarietyType);
+    Table _oVarietyValue;
+    switch (_oVarietyType) {
+      case rlbot.flat.RenderType.Line3D:
+        if (_varietyLine3DAccessor == null) _varietyLine3DAccessor = new rlbot.flat.Line3D();
+        _oVarietyValue = variety(_varietyLine3DAccessor);
+        if (_oVarietyValue == null) {
+          _oVariety.setValue(null);
+        } else {
+          if (!(_oVariety.getValue() instanceof rlbot.flat.Line3DT)) _oVariety.setValue(new rlbot.flat.Line3DT());
+          ((rlbot.flat.Line3D) _oVarietyValue).unpackInto((rlbot.flat.Line3DT) _oVariety.getValue());
+        }
+        break;
+      case rlbot.flat.RenderType.PolyLine3D:
+        if (_varietyPolyLine3DAccessor == null) _varietyPolyLine3DAccessor = new rlbot.flat.PolyLine3D();
+        _oVarietyValue = variety(_varietyPolyLine3DAccessor);
+        if (_oVarietyValue == null) {
+          _oVariety.setValue(null);
+        } else {
+          if (!(_oVariety.getValue() instanceof rlbot.flat.PolyLine3DT)) _oVariety.setValue(new rlbot.flat.PolyLine3DT());
+          ((rlbot.flat.PolyLine3D) _oVarietyValue).unpackInto((rlbot.flat.PolyLine3DT) _oVariety.getValue());
+        }
+        break;
+      case rlbot.flat.RenderType.String2D:
+        if (_varietyString2DAccessor == null) _varietyString2DAccessor = new rlbot.flat.String2D();
+        _oVarietyValue = variety(_varietyString2DAccessor);
+        if (_oVarietyValue == null) {
+          _oVariety.setValue(null);
+        } else {
+          if (!(_oVariety.getValue() instanceof rlbot.flat.String2DT)) _oVariety.setValue(new rlbot.flat.String2DT());
+          ((rlbot.flat.String2D) _oVarietyValue).unpackInto((rlbot.flat.String2DT) _oVariety.getValue());
+        }
+        break;
+      case rlbot.flat.RenderType.String3D:
+        if (_varietyString3DAccessor == null) _varietyString3DAccessor = new rlbot.flat.String3D();
+        _oVarietyValue = variety(_varietyString3DAccessor);
+        if (_oVarietyValue == null) {
+          _oVariety.setValue(null);
+        } else {
+          if (!(_oVariety.getValue() instanceof rlbot.flat.String3DT)) _oVariety.setValue(new rlbot.flat.String3DT());
+          ((rlbot.flat.String3D) _oVarietyValue).unpackInto((rlbot.flat.String3DT) _oVariety.getValue());
+        }
+        break;
+      case rlbot.flat.RenderType.Rect2D:
+        if (_varietyRect2DAccessor == null) _varietyRect2DAccessor = new rlbot.flat.Rect2D();
+        _oVarietyValue = variety(_varietyRect2DAccessor);
+        if (_oVarietyValue == null) {
+          _oVariety.setValue(null);
+        } else {
+          if (!(_oVariety.getValue() instanceof rlbot.flat.Rect2DT)) _oVariety.setValue(new rlbot.flat.Rect2DT());
+          ((rlbot.flat.Rect2D) _oVarietyValue).unpackInto((rlbot.flat.Rect2DT) _oVariety.getValue());
+        }
+        break;
+      case rlbot.flat.RenderType.Rect3D:
+        if (_varietyRect3DAccessor == null) _varietyRect3DAccessor = new rlbot.flat.Rect3D();
+        _oVarietyValue = variety(_varietyRect3DAccessor);
+        if (_oVarietyValue == null) {
+          _oVariety.setValue(null);
+        } else {
+          if (!(_oVariety.getValue() instanceof rlbot.flat.Rect3DT)) _oVariety.setValue(new rlbot.flat.Rect3DT());
+          ((rlbot.flat.Rect3D) _oVarietyValue).unpackInto((rlbot.flat.Rect3DT) _oVariety.getValue());
+        }
+        break;
+      default: break;
+    }
+    _o.setVariety(_oVariety);
+  }
   public static int pack(FlatBufferBuilder builder, RenderMessageT _o) {
     if (_o == null) return 0;
     byte _varietyType = _o.getVariety() == null ? rlbot.flat.RenderType.NONE : _o.getVariety().getType();
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -85,6 +86,13 @@ public final class RenderingStatus extends Table {
     boolean _oStatus = status();
     _o.setStatus(_oStatus);
   }
+  /**
+   * Like {@link #unpackTo(RenderingStatusT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(RenderingStatusT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, RenderingStatusT _o) {
     if (_o == null) return 0;
     return createRenderingStatus(
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -67,6 +68,13 @@ public final class Rotator extends Struct {
     float _oRoll = roll();
     _o.setRoll(_oRoll);
   }
+  /**
+   * Like {@link #unpackTo(RotatorT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(RotatorT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, RotatorT _o) {
     if (_o == null) return 0;
     return createRotator(
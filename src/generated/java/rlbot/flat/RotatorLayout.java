@@ -0,0 +1,41 @@
+// automatically generated by codegen/FlatbuffersPostProcessor.java, do not modify
+
+package rlbot.flat;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Read-only access to {@link Rotator} structs straight from a buffer using precomputed field offsets.
+ * Positions are absolute buffer positions, fx. as returned by the {@code fooPosition} methods of tables.
+ */
+@SuppressWarnings("unused")
+public final class RotatorLayout {
+  private static final VarHandle FLOAT = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /** The size of the struct in bytes. */
+  public static final int SIZE = 12;
+  /** The number of float fields in the struct. */
+  public static final int FLOAT_COUNT = 3;
+
+  public static final int PITCH = 0;
+  public static final int YAW = 4;
+  public static final int ROLL = 8;
+
+  private RotatorLayout() {}
+
+  public static float pitch(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + PITCH); }
+  public static float yaw(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + YAW); }
+  public static float roll(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + ROLL); }
+
+  /**
+   * Copy {@code count} consecutive structs starting at {@code pos} into {@code dst} with
+   * {@link #FLOAT_COUNT} floats per struct in field order.
+   */
+  public static void copyTo(ByteBuffer bb, int pos, int count, float[] dst, int dstOffset) {
+    bb.duplicate().position(pos).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(dst, dstOffset, count * FLOAT_COUNT);
+  }
+}
+
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -77,6 +78,33 @@ public final class RotatorPartial extends Table {
     if (roll() != null) roll().unpackTo(_o.getRoll());
     else _o.setRoll(null);
   }
+  private rlbot.flat.Float _pitchAccessor;
+  private rlbot.flat.Float _yawAccessor;
+  private rlbot.flat.Float _rollAccessor;
+  /**
+   * Like {@link #unpackTo(RotatorPartialT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(RotatorPartialT _o) {
+    if (_pitchAccessor == null) _pitchAccessor = new rlbot.flat.Float();
+    if (pitch(_pitchAccessor) != null) {
+      if (_o.getPitch() == null) _o.setPitch(new rlbot.flat.FloatT());
+      _pitchAccessor.unpackInto(_o.getPitch());
+    }
+    else _o.setPitch(null);
+    if (_yawAccessor == null) _yawAccessor = new rlbot.flat.Float();
+    if (yaw(_yawAccessor) != null) {
+      if (_o.getYaw() == null) _o.setYaw(new rlbot.flat.FloatT());
+      _yawAccessor.unpackInto(_o.getYaw());
+    }
+    else _o.setYaw(null);
+    if (_rollAccessor == null) _rollAccessor = new rlbot.flat.Float();
+    if (roll(_rollAccessor) != null) {
+      if (_o.getRoll() == null) _o.setRoll(new rlbot.flat.FloatT());
+      _rollAccessor.unpackInto(_o.getRoll());
+    }
+    else _o.setRoll(null);
+  }
   public static int pack(FlatBufferBuilder builder, RotatorPartialT _o) {
     if (_o == null) return 0;
     startRotatorPartial(builder);
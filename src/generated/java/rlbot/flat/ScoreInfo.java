@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -95,6 +96,13 @@ public final class ScoreInfo extends Struct {
     long _oDemolitions = demolitions();
     _o.setDemolitions(_oDemolitions);
   }
+  /**
+   * Like {@link #unpackTo(ScoreInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(ScoreInfoT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, ScoreInfoT _o) {
     if (_o == null) return 0;
     return createScoreInfo(
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -116,6 +117,13 @@ public final class ScriptConfiguration extends Table {
     String _oAgentId = agentId();
     _o.setAgentId(_oAgentId);
   }
+  /**
+   * Like {@link #unpackTo(ScriptConfigurationT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(ScriptConfigurationT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, ScriptConfigurationT _o) {
     if (_o == null) return 0;
     int _name = _o.getName() == null ? 0 : builder.createString(_o.getName());
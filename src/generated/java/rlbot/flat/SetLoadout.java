@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -78,6 +79,21 @@ public final class SetLoadout extends Table {
     if (loadout() != null) _o.setLoadout(loadout().unpack());
     else _o.setLoadout(null);
   }
+  private rlbot.flat.PlayerLoadout _loadoutAccessor;
+  /**
+   * Like {@link #unpackTo(SetLoadoutT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(SetLoadoutT _o) {
+    long _oIndex = index();
+    _o.setIndex(_oIndex);
+    if (_loadoutAccessor == null) _loadoutAccessor = new rlbot.flat.PlayerLoadout();
+    if (loadout(_loadoutAccessor) != null) {
+      if (_o.getLoadout() == null) _o.setLoadout(new rlbot.flat.PlayerLoadoutT());
+      _loadoutAccessor.unpackInto(_o.getLoadout());
+    }
+    else _o.setLoadout(null);
+  }
   public static int pack(FlatBufferBuilder builder, SetLoadoutT _o) {
     if (_o == null) return 0;
     int _loadout = _o.getLoadout() == null ? 0 : rlbot.flat.PlayerLoadout.pack(builder, _o.getLoadout());
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -62,6 +63,13 @@ public final class SphereShape extends Table {
     float _oDiameter = diameter();
     _o.setDiameter(_oDiameter);
   }
+  /**
+   * Like {@link #unpackTo(SphereShapeT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(SphereShapeT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, SphereShapeT _o) {
     if (_o == null) return 0;
     return createSphereShape(
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -64,6 +65,13 @@ public final class StartCommand extends Table {
     String _oConfigPath = configPath();
     _o.setConfigPath(_oConfigPath);
   }
+  /**
+   * Like {@link #unpackTo(StartCommandT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(StartCommandT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, StartCommandT _o) {
     if (_o == null) return 0;
     int _configPath = _o.getConfigPath() == null ? 0 : builder.createString(_o.getConfigPath());
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -61,6 +62,13 @@ public final class StopCommand extends Table {
     boolean _oShutdownServer = shutdownServer();
     _o.setShutdownServer(_oShutdownServer);
   }
+  /**
+   * Like {@link #unpackTo(StopCommandT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(StopCommandT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, StopCommandT _o) {
     if (_o == null) return 0;
     return createStopCommand(
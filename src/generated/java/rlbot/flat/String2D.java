@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -115,6 +116,38 @@ public final class String2D extends Table {
     int _oVAlign = vAlign();
     _o.setVAlign(_oVAlign);
   }
+  private rlbot.flat.Color _foregroundAccessor;
+  private rlbot.flat.Color _backgroundAccessor;
+  /**
+   * Like {@link #unpackTo(String2DT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(String2DT _o) {
+    String _oText = text();
+    _o.setText(_oText);
+    float _oX = x();
+    _o.setX(_oX);
+    float _oY = y();
+    _o.setY(_oY);
+    float _oScale = scale();
+    _o.setScale(_oScale);
+    if (_foregroundAccessor == null) _foregroundAccessor = new rlbot.flat.Color();
+    if (foreground(_foregroundAccessor) != null) {
+      if (_o.getForeground() == null) _o.setForeground(new rlbot.flat.ColorT());
+      _foregroundAccessor.unpackInto(_o.getForeground());
+    }
+    else _o.setForeground(null);
+    if (_backgroundAccessor == null) _backgroundAccessor = new rlbot.flat.Color();
+    if (background(_backgroundAccessor) != null) {
+      if (_o.getBackground() == null) _o.setBackground(new rlbot.flat.ColorT());
+      _backgroundAccessor.unpackInto(_o.getBackground());
+    }
+    else _o.setBackground(null);
+    int _oHAlign = hAlign();
+    _o.setHAlign(_oHAlign);
+    int _oVAlign = vAlign();
+    _o.setVAlign(_oVAlign);
+  }
   public static int pack(FlatBufferBuilder builder, String2DT _o) {
     if (_o == null) return 0;
     int _text = _o.getText() == null ? 0 : builder.createString(_o.getText());
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -62,6 +63,13 @@ public final class TeamInfo extends Struct {
     long _oScore = score();
     _o.setScore(_oScore);
   }
+  /**
+   * Like {@link #unpackTo(TeamInfoT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(TeamInfoT _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, TeamInfoT _o) {
     if (_o == null) return 0;
     return createTeamInfo(
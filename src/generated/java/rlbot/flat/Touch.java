@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -39,11 +40,21 @@ public final class Touch extends Table {
    */
   public rlbot.flat.Vector3 location() { return location(new rlbot.flat.Vector3()); }
   public rlbot.flat.Vector3 location(rlbot.flat.Vector3 obj) { int o = __offset(6); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.Vector3Layout}.
+   */
+  public int locationPosition() { int o = __offset(6); return o != 0 ? o + bb_pos : 0; }
   /**
    * The direction of the touch as a unit vector pointing from the point of contact towards the center of the ball.
    */
   public rlbot.flat.Vector3 normal() { return normal(new rlbot.flat.Vector3()); }
   public rlbot.flat.Vector3 normal(rlbot.flat.Vector3 obj) { int o = __offset(8); return o != 0 ? obj.__assign(o + bb_pos, bb) : null; }
+  /**
+   * @return the absolute position of this struct in {@link #getByteBuffer()}, or 0 if absent.
+   * Use with {@link rlbot.flat.Vector3Layout}.
+   */
+  public int normalPosition() { int o = __offset(8); return o != 0 ? o + bb_pos : 0; }
   /**
    * The index of the ball that was touched (in case there are multiple balls).
    */
@@ -82,6 +93,30 @@ public final class Touch extends Table {
     long _oBallIndex = ballIndex();
     _o.setBallIndex(_oBallIndex);
   }
+  private rlbot.flat.Vector3 _locationAccessor;
+  private rlbot.flat.Vector3 _normalAccessor;
+  /**
+   * Like {@link #unpackTo(TouchT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(TouchT _o) {
+    float _oGameSeconds = gameSeconds();
+    _o.setGameSeconds(_oGameSeconds);
+    if (_locationAccessor == null) _locationAccessor = new rlbot.flat.Vector3();
+    if (location(_locationAccessor) != null) {
+      if (_o.getLocation() == null) _o.setLocation(new rlbot.flat.Vector3T());
+      _locationAccessor.unpackInto(_o.getLocation());
+    }
+    else _o.setLocation(null);
+    if (_normalAccessor == null) _normalAccessor = new rlbot.flat.Vector3();
+    if (normal(_normalAccessor) != null) {
+      if (_o.getNormal() == null) _o.setNormal(new rlbot.flat.Vector3T());
+      _normalAccessor.unpackInto(_o.getNormal());
+    }
+    else _o.setNormal(null);
+    long _oBallIndex = ballIndex();
+    _o.setBallIndex(_oBallIndex);
+  }
   public static int pack(FlatBufferBuilder builder, TouchT _o) {
     if (_o == null) return 0;
     startTouch(builder);
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -54,6 +55,13 @@ public final class Vector2 extends Struct {
     float _oY = y();
     _o.setY(_oY);
   }
+  /**
+   * Like {@link #unpackTo(Vector2T)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(Vector2T _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, Vector2T _o) {
     if (_o == null) return 0;
     return createVector2(
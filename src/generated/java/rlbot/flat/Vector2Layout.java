@@ -0,0 +1,39 @@
+// automatically generated by codegen/FlatbuffersPostProcessor.java, do not modify
+
+package rlbot.flat;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Read-only access to {@link Vector2} structs straight from a buffer using precomputed field offsets.
+ * Positions are absolute buffer positions, fx. as returned by the {@code fooPosition} methods of tables.
+ */
+@SuppressWarnings("unused")
+public final class Vector2Layout {
+  private static final VarHandle FLOAT = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /** The size of the struct in bytes. */
+  public static final int SIZE = 8;
+  /** The number of float fields in the struct. */
+  public static final int FLOAT_COUNT = 2;
+
+  public static final int X = 0;
+  public static final int Y = 4;
+
+  private Vector2Layout() {}
+
+  public static float x(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + X); }
+  public static float y(ByteBuffer bb, int pos) { return (float) FLOAT.get(bb, pos + Y); }
+
+  /**
+   * Copy {@code count} consecutive structs starting at {@code pos} into {@code dst} with
+   * {@link #FLOAT_COUNT} floats per struct in field order.
+   */
+  public static void copyTo(ByteBuffer bb, int pos, int count, float[] dst, int dstOffset) {
+    bb.duplicate().position(pos).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(dst, dstOffset, count * FLOAT_COUNT);
+  }
+}
+
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -59,6 +60,13 @@ public final class Vector3 extends Struct {
     float _oZ = z();
     _o.setZ(_oZ);
   }
+  /**
+   * Like {@link #unpackTo(Vector3T)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(Vector3T _o) {
+    unpackTo(_o);
+  }
   public static int pack(FlatBufferBuilder builder, Vector3T _o) {
     if (_o == null) return 0;
     return createVector3(
@@ -1,4 +1,5 @@
 // automatically generated by the FlatBuffers compiler, do not modify
+// post-processed by codegen/FlatbuffersPostProcessor.java, do not modify
 
 package rlbot.flat;
 
@@ -67,6 +68,33 @@ public final class Vector3Partial extends Table {
     if (z() != null) z().unpackTo(_o.getZ());
     else _o.setZ(null);
   }
+  private rlbot.flat.Float _xAccessor;
+  private rlbot.flat.Float _yAccessor;
+  private rlbot.flat.Float _zAccessor;
+  /**
+   * Like {@link #unpackTo(Vector3PartialT)}, but reuses the child objects and arrays already in {@code _o},
+   * and the accessors of the children. Vectors are only reallocated when their length changes.
+   */
+  public void unpackInto(Vector3PartialT _o) {
+    if (_xAccessor == null) _xAccessor = new rlbot.flat.Float();
+    if (x(_xAccessor) != null) {
+      if (_o.getX() == null) _o.setX(new rlbot.flat.FloatT());
+      _xAccessor.unpackInto(_o.getX());
+    }
+    else _o.setX(null);
+    if (_yAccessor == null) _yAccessor = new rlbot.flat.Float();
+    if (y(_yAccessor) != null) {
+      if (_o.getY() == null) _o.setY(new rlbot.flat.FloatT());
+      _yAccessor.unpackInto(_o.getY());
+    }
+    else _o.setY(null);
+    if (_zAccessor == null) _zAccessor = new rlbot.flat.Float();
+    if (z(_zAccessor) != null) {
+      if (_o.getZ() == null) _o.setZ(new rlbot.flat.FloatT());
+      _zAccessor.unpackInto(_o.getZ());
+    }
+    else _o.setZ(null);
+  }
   public static int pack(FlatBufferBuilder builder, Vector3PartialT _o) {
     if (_o == null) return 0;
     startVector3Partial(builder);
@@ -0,0 +1,79 @@
+package rlbot.commons.prediction;
+
+import org.openjdk.jmh.annotations.*;
+import rlbot.flat.BallInfoT;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and the Vector API {@link InterceptKernel} on a full 6 second ball prediction.
+ * <p>
+ * Run with:
+ * <pre>
+ *     mvn -Pbenchmark test-compile exec:exec
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class InterceptKernelBenchmark {
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    @Param({"3", "6"})
+    public int cars;
+
+    private InterceptKernel impl;
+    private BallPredictionBuffer ball;
+    private float[] carX, carY, carSpeed;
+    private int[] slices;
+    private float[] margins;
+
+    @Setup
+    public void setup() {
+        impl = kernel.equals("vector") ? InterceptKernelLoader.vector() : new ScalarInterceptKernel();
+        if (impl == null) {
+            throw new IllegalStateException("The Vector API intercept kernel is not available");
+        }
+
+        var info = new BallInfoT();
+        var physics = info.getPhysics();
+        physics.getLocation().setZ(93);
+        physics.getVelocity().setX(1200);
+        physics.getVelocity().setY(-900);
+        physics.getVelocity().setZ(800);
+        ball = new BallPredictionBuffer();
+        new BallPredictor().predict(info, BallPredictor.DEFAULT_GRAVITY, 0, ball);
+        ball.times(); // Decode before measuring
+
+        // Cars far from the ball, so the kernels scan most of the prediction
+        var random = new Random(42);
+        carX = new float[cars];
+        carY = new float[cars];
+        carSpeed = new float[cars];
+        for (int c = 0; c < cars; c++) {
+            carX[c] = (random.nextFloat() * 2 - 1) * 4000;
+            carY[c] = random.nextBoolean() ? -5000 : 5000;
+            carSpeed[c] = 1400 + random.nextFloat() * 900;
+        }
+        slices = new int[cars];
+        margins = new float[cars * ball.size()];
+    }
+
+    @Benchmark
+    public int[] firstReachable() {
+        impl.firstReachable(ball, carX, carY, carSpeed, cars, 0, 300, slices);
+        return slices;
+    }
+
+    @Benchmark
+    public float[] interceptMargins() {
+        impl.interceptMargins(ball, carX, carY, carSpeed, cars, 0, margins);
+        return margins;
+    }
+}
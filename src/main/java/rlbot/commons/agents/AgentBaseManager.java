@@ -1,9 +1,17 @@
 package rlbot.commons.agents;
 
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.commons.prediction.BallPredictionBufferPool;
+import rlbot.commons.prediction.BallPredictionQueries;
+import rlbot.commons.prediction.BallPredictor;
+import rlbot.commons.prediction.PacketExtrapolator;
 import rlbot.flat.*;
+import rlbot.commons.protocol.GamePacketCache;
 import rlbot.commons.protocol.RLBotListenerAdapter;
 import rlbot.commons.protocol.RLBotInterface;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 /**
@@ -29,9 +37,57 @@ public abstract class AgentBaseManager extends RLBotListenerAdapter {
     private MatchConfigurationT matchConfig;
     private FieldInfoT fieldInfo;
     private boolean initialized = false;
+    private boolean outliveMatches = false;
+    private int matchesStarted = 0;
+
+    /**
+     * The required messages received for the upcoming match.
+     */
+    private static final int MATCH_CONFIG = 1, FIELD_INFO = 2, TEAM_INFO = 4, ALL_INFO = 7;
+    private int receivedInfo = 0;
+
+    private final BallPredictionBufferPool ballPredictionPool = new BallPredictionBufferPool();
+    private int ballPredictionSlices = Integer.MAX_VALUE;
+    private BallPredictor ballPredictor;
+    private PacketExtrapolator packetExtrapolator;
+    private boolean reuseGamePackets = false;
+    private final GamePacketPool gamePacketPool = new GamePacketPool();
+    private PhasePolicy phasePolicy = PhasePolicy.ALWAYS;
+    private Supplier<TickRate> tickRateFactory = TickRate::everyTick;
+    private float inputTolerance = -1;
+    private int inputKeepAliveTicks;
+    private InputDeduplicator inputDeduplicator;
+
+    /**
+     * The caches shared with other managers of an {@link AgentHost}, or null.
+     */
+    private GamePacketCache sharedGamePackets;
+    private SharedBallPredictions sharedBallPredictions;
+    private long latestFrameNum = -1;
+
+    private int warmUpTicks = 0;
+    private Thread warmUpThread;
+    private volatile boolean stopWarmUp = false;
+
+    /**
+     * The smoothed interval between processed game packets.
+     */
+    private volatile double packetIntervalNanos = TimeUnit.SECONDS.toNanos(1) / 120.0;
+    private long lastPacketNanos = 0;
 
     protected GamePacketT latestGamePacket;
-    protected BallPredictionT latestBallPrediction;
+    /**
+     * The pooled packet holding the latest game packet if game packets are reused, or null.
+     * The manager holds one reference, which is released when a newer packet arrives;
+     * implementers must {@link PooledGamePacket#retain()} it if they hand the packet to other threads.
+     */
+    PooledGamePacket latestPooledGamePacket;
+    /**
+     * The latest ball prediction, copied straight from the flatbuffer message and decoded when first read.
+     * The manager holds one reference, which is released when a newer prediction arrives;
+     * implementers must {@link BallPredictionBuffer#retain()} it if they hand it to other threads.
+     */
+    protected BallPredictionBuffer latestBallPrediction;
 
     /**
      * AgentBaseManager constructor.
@@ -61,21 +117,59 @@ public abstract class AgentBaseManager extends RLBotListenerAdapter {
      *
      */
     private void tryInitialize() {
-        if (initialized || matchConfig == null || fieldInfo == null || teamInfo == null) {
+        if (initialized || receivedInfo != ALL_INFO) {
             return;
         }
 
+        if (inputTolerance >= 0) {
+            // Kept across matches, since the threads of the previous match's agents may still be sending
+            int players = matchConfig.getPlayerConfigurations().length;
+            if (inputDeduplicator == null) {
+                inputDeduplicator = new InputDeduplicator(players, inputTolerance, inputKeepAliveTicks);
+            } else {
+                inputDeduplicator.newMatch(players);
+            }
+        }
+
+        boolean firstMatch = matchesStarted == 0;
         try {
-            logger.info("Initializing agent: " + agentId);
-            initialize();
+            if (firstMatch) {
+                logger.info("Initializing agent: " + agentId);
+                initialize();
+            } else {
+                logger.info("Starting new match for agent: " + agentId);
+                long start = System.nanoTime();
+                startNewMatch();
+                logger.info("Agent " + agentId + " ready for the new match in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            }
         } catch (Exception e) {
             logger.severe("Failed to initialize agent: " + agentId);
             e.printStackTrace();
             return;
         }
 
+        stopPipelineWarmUp();
+        if (warmUpTicks > 0 && firstMatch) {
+            long start = System.nanoTime();
+            warmUpAgents(warmUpTicks);
+            logger.info("Warmed up agent " + agentId + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+
         rlbot.sendInitComplete();
         initialized = true;
+        matchesStarted++;
+    }
+
+    /**
+     * Record that one of the messages required for initialization has been received. If the agents are already
+     * initialized, this is the start of a new match on a connection that outlives matches.
+     */
+    private void receive(int info) {
+        if (initialized) {
+            initialized = false;
+            receivedInfo = 0;
+        }
+        receivedInfo |= info;
     }
 
     /**
@@ -84,13 +178,52 @@ public abstract class AgentBaseManager extends RLBotListenerAdapter {
      */
     abstract void initialize();
 
+    /**
+     * Prepare the agents for a new match on a connection that outlives matches. Implementers are expected to
+     * keep the agents that accept the new match, see fx. {@link Bot#onNewMatch(MatchConfigurationT, FieldInfoT)},
+     * and to replace the others like {@link AgentBaseManager#initialize()} would.
+     */
+    abstract void startNewMatch();
+
+    /**
+     * Run the agents implementing {@link WarmUpParticipant} on synthetic game packets, discarding their outputs.
+     * Invoked after {@link AgentBaseManager#initialize()} if a warm-up is enabled.
+     *
+     * @param ticks the number of ticks to run.
+     */
+    abstract void warmUpAgents(int ticks);
+
     @Override
     public void onGamePacket(GamePacketT packet) {
         latestGamePacket = packet;
+        latestFrameNum = packet.getMatchInfo().getFrameNum();
+    }
+
+    @Override
+    public void onRawGamePacket(GamePacket packet) {
+        if (!reuseGamePackets) {
+            return;
+        }
+        var pooled = gamePacketPool.acquire(packet);
+        if (latestPooledGamePacket != null) {
+            latestPooledGamePacket.release();
+        }
+        latestPooledGamePacket = pooled;
+        onGamePacket(pooled.packet());
+    }
+
+    /**
+     * Game packets are decoded into reused objects if enabled, which makes unpacking them redundant
+     * unless another listener of the connection wants them.
+     */
+    @Override
+    public boolean wantsUnpackedGamePackets() {
+        return !reuseGamePackets;
     }
 
     @Override
     public void onFieldInfo(FieldInfoT fieldInfo) {
+        receive(FIELD_INFO);
         this.fieldInfo = fieldInfo;
         logger.info("Received field info!");
         tryInitialize();
@@ -98,18 +231,39 @@ public abstract class AgentBaseManager extends RLBotListenerAdapter {
 
     @Override
     public void onMatchConfig(MatchConfigurationT config) {
+        receive(MATCH_CONFIG);
         this.matchConfig = config;
         logger.info("Received match config!");
         tryInitialize();
     }
 
     @Override
-    public void onBallPrediction(BallPredictionT prediction) {
-        this.latestBallPrediction = prediction;
+    public void onRawBallPrediction(BallPrediction prediction) {
+        BallPredictionBuffer buffer;
+        if (sharedBallPredictions != null && ballPredictionSlices == Integer.MAX_VALUE) {
+            buffer = sharedBallPredictions.acquire(latestFrameNum, prediction);
+        } else {
+            buffer = ballPredictionPool.acquire();
+            buffer.fill(prediction, ballPredictionSlices, latestBallPrediction);
+        }
+        if (latestBallPrediction != null) {
+            latestBallPrediction.release();
+        }
+        latestBallPrediction = buffer;
+    }
+
+    /**
+     * Ball predictions are decoded into buffers, which makes unpacking them into objects redundant
+     * unless another listener of the connection wants them.
+     */
+    @Override
+    public boolean wantsUnpackedBallPredictions() {
+        return false;
     }
 
     @Override
     public void onControllableTeamInfo(ControllableTeamInfoT teamInfo) {
+        receive(TEAM_INFO);
         this.teamInfo = teamInfo;
         logger.info("Received team info!");
         tryInitialize();
@@ -138,7 +292,15 @@ public abstract class AgentBaseManager extends RLBotListenerAdapter {
      * @param wantsComms whether match communication messages should be sent to this agent.
      */
     public void run(boolean wantsBallPrediction, boolean wantsComms) {
-        rlbot.connect(agentId, wantsBallPrediction, wantsComms, false);
+        if (sharedGamePackets != null) {
+            if (packetExtrapolator == null && !reuseGamePackets) {
+                rlbot.setGamePacketCache(sharedGamePackets);
+            } else {
+                logger.info("Agent " + agentId + " extrapolates or reuses game packets, so it decodes them itself.");
+            }
+        }
+        rlbot.connect(agentId, wantsBallPrediction, wantsComms, outliveMatches);
+        startPipelineWarmUp();
 
         try {
             while (true) {
@@ -150,7 +312,15 @@ public abstract class AgentBaseManager extends RLBotListenerAdapter {
                     case MoreMsgsQueued:
                         continue;
                     case NoIncomingMsgs:
-                        if (latestGamePacket != null) {
+                        if (latestGamePacket != null && !initialized) {
+                            // Between matches, or not initialized yet
+                            latestGamePacket = null;
+                        } else if (latestGamePacket != null) {
+                            measurePacketInterval();
+                            if (packetExtrapolator != null) {
+                                packetExtrapolator.apply(latestGamePacket, System.nanoTime());
+                            }
+                            predictBall();
                             processPacket();
                             latestGamePacket = null;
                         }
@@ -160,15 +330,79 @@ public abstract class AgentBaseManager extends RLBotListenerAdapter {
             logger.severe("An error occurred while handling a game packet.");
             e.printStackTrace();
         } finally {
+            stopPipelineWarmUp();
             retire();
+            if (latestBallPrediction != null) {
+                latestBallPrediction.release();
+                latestBallPrediction = null;
+            }
+            if (latestPooledGamePacket != null) {
+                latestPooledGamePacket.release();
+                latestPooledGamePacket = null;
+            }
+        }
+    }
+
+    private void startPipelineWarmUp() {
+        if (warmUpTicks <= 0) {
+            return;
+        }
+        // The players of the match are not known yet, so we assume a 3v3
+        var warmUp = new JitWarmUp(new int[]{0, 0, 0, 1, 1, 1});
+        warmUpThread = new Thread(() -> warmUp.runPipeline(warmUpTicks, () -> stopWarmUp), "Warm-up " + agentId);
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
+
+    private void stopPipelineWarmUp() {
+        if (warmUpThread == null) {
+            return;
+        }
+        stopWarmUp = true;
+        try {
+            warmUpThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        warmUpThread = null;
+    }
+
+    private void measurePacketInterval() {
+        long now = System.nanoTime();
+        if (lastPacketNanos != 0) {
+            packetIntervalNanos += 0.1 * ((now - lastPacketNanos) - packetIntervalNanos);
+        }
+        lastPacketNanos = now;
+    }
+
+    /**
+     * @return the smoothed interval between processed game packets in nanoseconds.
+     */
+    public double getPacketIntervalNanos() {
+        return packetIntervalNanos;
+    }
+
+    /**
+     * Replace the latest ball prediction with a client-side prediction of the latest game packet's first ball.
+     */
+    private void predictBall() {
+        if (ballPredictor == null || latestGamePacket.getBalls().length == 0) {
+            return;
         }
+        var buffer = ballPredictionPool.acquire();
+        ballPredictor.predict(latestGamePacket, 0, buffer);
+        if (latestBallPrediction != null) {
+            latestBallPrediction.release();
+        }
+        latestBallPrediction = buffer;
     }
 
     /**
      * Invoked when a new game packet is ready to be processed.
      * See {@link AgentBaseManager#latestGamePacket} and {@link AgentBaseManager#latestBallPrediction}.
      * Ball prediction may be {@code null} if the user did not request ball prediction messages.
-     * Game packets can also arrive before initialization is complete.
+     * Only invoked once initialization is complete. Game packets arriving before that, or between matches while the
+     * agents are prepared for the next one, are dropped.
      */
     protected abstract void processPacket();
 
@@ -178,6 +412,188 @@ public abstract class AgentBaseManager extends RLBotListenerAdapter {
      */
     protected abstract void retire();
 
+    /**
+     * Limit the ball prediction given to the agent(s) to the given number of seconds.
+     * The remaining slices are never copied or decoded, which is useful if the agents only look a few seconds ahead.
+     * By default, the full prediction is kept.
+     *
+     * @param seconds the number of seconds of ball prediction to keep.
+     */
+    public void setBallPredictionHorizon(float seconds) {
+        this.ballPredictionSlices = (int) Math.min(Integer.MAX_VALUE,
+                Math.ceil(seconds * BallPredictionQueries.SLICES_PER_SECOND) + 1);
+    }
+
+    /**
+     * Predict the ball's trajectory in this process instead of using the ball prediction from RLBot.
+     * Combine this with {@link AgentBaseManager#run(boolean, boolean)} without ball prediction
+     * to avoid receiving the ball prediction messages entirely. The prediction is only computed for
+     * game packets that are processed. Default is {@code null}, i.e. use the ball prediction from RLBot.
+     *
+     * @param predictor the predictor to use, or {@code null}.
+     */
+    public void setBallPredictor(BallPredictor predictor) {
+        this.ballPredictor = predictor;
+    }
+
+    /**
+     * Extrapolate the cars and balls of each processed game packet by its measured age, so the agents see
+     * the game as it is when their inputs are applied, see {@link PacketExtrapolator}. The client-side ball prediction
+     * of {@link AgentBaseManager#setBallPredictor(BallPredictor)} starts from the extrapolated packet.
+     * The packet is extrapolated on the thread reading the socket before it is dispatched, since all agents of the
+     * manager share it. The time the tick then waits for the agent's thread is not part of the measured age, so
+     * increase the {@link PacketExtrapolator#setLead(float) lead} if the agents are usually busy when a tick arrives.
+     * Must be called before {@link AgentBaseManager#run()}. Default is {@code null}, i.e. no extrapolation.
+     *
+     * @param extrapolator the extrapolator to use, or {@code null}.
+     */
+    public void setPacketExtrapolator(PacketExtrapolator extrapolator) {
+        this.packetExtrapolator = extrapolator;
+    }
+
+    /**
+     * Decode game packets with {@link GamePacket#unpackInto(GamePacketT)} into a small pool of object graphs that are
+     * reused for later packets, instead of unpacking every packet into thousands of new objects.
+     * A packet is only overwritten once the manager and its agents are done with the tick it belongs to, so agents must
+     * not keep references to a packet, or to any object in it, beyond that tick.
+     * Game packets are then not shared with the other managers of an {@link AgentHost}.
+     * Must be called before {@link AgentBaseManager#run()}. Default is {@code false}.
+     *
+     * @param reuse whether to reuse decoded game packets.
+     */
+    public void setReuseGamePackets(boolean reuse) {
+        this.reuseGamePackets = reuse;
+    }
+
+    /**
+     * @return the delay in seconds the latest game packet was extrapolated by, or 0 without an extrapolator.
+     * Does not include the time the tick waits to be picked up by the agent's thread.
+     */
+    public float getPacketDelay() {
+        return packetExtrapolator == null ? 0 : packetExtrapolator.getAppliedDelay();
+    }
+
+    /**
+     * Keep the connection open between matches, so the agents can be reused in consecutive matches instead of
+     * starting a new process for each match. When a new match starts, the agents are asked whether they can
+     * continue, see fx. {@link Bot#onNewMatch(MatchConfigurationT, FieldInfoT)}, and only the others are
+     * recreated by the factory. Must be called before {@link AgentBaseManager#run()}. Default is {@code false}.
+     *
+     * @param outlive whether the connection should outlive matches.
+     */
+    public void setOutliveMatches(boolean outlive) {
+        this.outliveMatches = outlive;
+    }
+
+    /**
+     * @return the number of matches the agents of this manager have been initialized for.
+     */
+    public int getMatchesStarted() {
+        return matchesStarted;
+    }
+
+    /**
+     * Warm up the JIT compiler before the match starts, so kickoff does not run in the interpreter.
+     * While waiting for the match configuration, a background thread decodes synthetic game packets and
+     * ball predictions and packs inputs. Once the agents have been created, the agents implementing
+     * {@link WarmUpParticipant} are run on synthetic packets too, and their outputs are discarded. RLBot is told
+     * that initialization is complete only after that. Must be called before {@link AgentBaseManager#run()}.
+     * Default is 0, i.e. no warm-up.
+     *
+     * @param ticks the number of synthetic ticks, fx. 2000.
+     */
+    public void setWarmUp(int ticks) {
+        this.warmUpTicks = ticks;
+    }
+
+    /**
+     * Set how often the agents compute their outputs in each match phase, fx. {@link PhasePolicy#SKIP_NON_PLAYABLE}.
+     * Agents implementing {@link PhasePolicy} use their own policy instead. Default is {@link PhasePolicy#ALWAYS}.
+     *
+     * @param policy the policy to use.
+     */
+    public void setPhasePolicy(PhasePolicy policy) {
+        this.phasePolicy = policy;
+    }
+
+    /**
+     * Set how often the agents compute their outputs, fx. {@code () -> TickRate.every(2)} or
+     * {@code () -> TickRate.adaptive(0.8, 8)}. The factory is invoked once per agent during initialization.
+     * Must be called before {@link AgentBaseManager#run()}. Default is {@link TickRate#everyTick()}.
+     *
+     * @param factory the factory creating a tick rate per agent.
+     */
+    public void setTickRate(Supplier<TickRate> factory) {
+        this.tickRateFactory = factory;
+    }
+
+    /**
+     * @return a new tick rate for an agent of this manager.
+     */
+    protected TickRate newTickRate() {
+        return tickRateFactory.get();
+    }
+
+    /**
+     * Stop sending controller inputs that do not differ from the last input sent for the same player,
+     * see {@link InputDeduplicator}. Must be called before {@link AgentBaseManager#run()}. Disabled by default.
+     *
+     * @param tolerance the largest difference of the analog values that is considered unchanged. Use 0 to only
+     *                  suppress identical inputs.
+     * @param keepAliveTicks send an unchanged input anyway every {@code keepAliveTicks}th time, fx. 30.
+     */
+    public void setInputDeduplication(float tolerance, int keepAliveTicks) {
+        this.inputTolerance = Math.max(0, tolerance);
+        this.inputKeepAliveTicks = keepAliveTicks;
+    }
+
+    /**
+     * @return the number of controller inputs suppressed by the input deduplication.
+     */
+    public long getSuppressedInputs() {
+        return inputDeduplicator == null ? 0 : inputDeduplicator.getSuppressedInputs();
+    }
+
+    /**
+     * Send the input of a player, unless the input deduplication finds it redundant.
+     *
+     * @param index the index of the player.
+     * @param controller the input of the player.
+     */
+    protected void sendPlayerInput(int index, ControllerStateT controller) {
+        if (inputDeduplicator == null || inputDeduplicator.shouldSend(index, controller)) {
+            rlbot.sendPlayerInput(index, controller);
+        }
+    }
+
+    /**
+     * Make sure the next input of a player is sent, even if it equals the last one. Invoked on phase changes,
+     * since RLBot may reset the inputs of the cars, fx. at kickoff.
+     *
+     * @param index the index of the player.
+     */
+    protected void invalidateSentInput(int index) {
+        if (inputDeduplicator != null) {
+            inputDeduplicator.invalidate(index);
+        }
+    }
+
+    /**
+     * Share decoded game packets and ball predictions with the other managers of an {@link AgentHost}.
+     */
+    void share(GamePacketCache gamePackets, SharedBallPredictions ballPredictions) {
+        this.sharedGamePackets = gamePackets;
+        this.sharedBallPredictions = ballPredictions;
+    }
+
+    /**
+     * @param agent an agent of this manager.
+     * @return the phase policy of the given agent.
+     */
+    protected PhasePolicy phasePolicyOf(Object agent) {
+        return agent instanceof PhasePolicy policy ? policy : phasePolicy;
+    }
+
     public ControllableTeamInfoT getTeamInfo() {
         return teamInfo;
     }
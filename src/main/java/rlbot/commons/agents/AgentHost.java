@@ -0,0 +1,108 @@
+package rlbot.commons.agents;
+
+import rlbot.commons.protocol.GamePacketCache;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Runs several agents in one JVM, fx. all Java bots of a match, instead of a process per agent.
+ * Each agent keeps its own manager and {@link rlbot.commons.protocol.RLBotInterface} connection,
+ * but every game packet and ball prediction is only decoded once and then shared between the connections,
+ * see {@link GamePacketCache}. This saves startup time, memory, and the decoding time of every tick.
+ * <p>
+ * Shared game packets and ball predictions are read-only. Agents must not modify them.
+ * Managers with a {@link rlbot.commons.prediction.PacketExtrapolator} or a custom ball prediction horizon
+ * decode their own copies.
+ * <p>
+ * The agent ID of each manager must be given explicitly, so the {@code RLBOT_AGENT_ID} environment variable
+ * should not be set for the host process.
+ * <p>
+ * Example usage:
+ * <pre>
+ *     {@code
+ *         var host = new AgentHost();
+ *         host.add(new BotManager(new RLBotInterface(), "myname/examplebot/v0.1", ExampleBot::new));
+ *         host.add(new HivemindManager(new RLBotInterface(), "myname/examplehivemind/v0.1", ExampleHivemind::new));
+ *         host.run();
+ *     }
+ * </pre>
+ */
+public final class AgentHost {
+
+    private record HostedAgent(AgentBaseManager manager, boolean wantsBallPrediction, boolean wantsComms) {}
+
+    private final Logger logger = Logger.getLogger(AgentHost.class.getName());
+
+    private final GamePacketCache gamePackets = new GamePacketCache();
+    private final SharedBallPredictions ballPredictions = new SharedBallPredictions();
+    private final List<HostedAgent> agents = new ArrayList<>();
+
+    /**
+     * Add an agent that wants both ball prediction and match comms.
+     *
+     * @param manager the manager of the agent. Must have its own {@link rlbot.commons.protocol.RLBotInterface}.
+     * @return this host.
+     */
+    public AgentHost add(AgentBaseManager manager) {
+        return add(manager, true, true);
+    }
+
+    /**
+     * Add an agent.
+     *
+     * @param manager the manager of the agent. Must have its own {@link rlbot.commons.protocol.RLBotInterface}.
+     * @param wantsBallPrediction whether ball prediction messages should be sent to this agent.
+     * @param wantsComms whether match communication messages should be sent to this agent.
+     * @return this host.
+     */
+    public AgentHost add(AgentBaseManager manager, boolean wantsBallPrediction, boolean wantsComms) {
+        for (var agent : agents) {
+            if (agent.manager.getRlbotInterface() == manager.getRlbotInterface()) {
+                throw new IllegalArgumentException("Agent " + manager.getAgentId() + " shares its connection with agent " + agent.manager.getAgentId());
+            }
+        }
+        manager.share(gamePackets, ballPredictions);
+        agents.add(new HostedAgent(manager, wantsBallPrediction, wantsComms));
+        return this;
+    }
+
+    /**
+     * Connect all agents and run them on a thread each until all of them terminate.
+     */
+    public void run() {
+        var ids = new HashSet<String>();
+        for (var agent : agents) {
+            if (!ids.add(agent.manager.getAgentId())) {
+                logger.warning("Multiple agents of the host use the agent ID " + agent.manager.getAgentId()
+                        + ". Is the RLBOT_AGENT_ID environment variable set?");
+            }
+        }
+
+        var threads = new ArrayList<Thread>();
+        for (var agent : agents) {
+            var thread = new Thread(() -> agent.manager.run(agent.wantsBallPrediction, agent.wantsComms),
+                    "Agent " + agent.manager.getAgentId());
+            thread.start();
+            threads.add(thread);
+        }
+        try {
+            for (var thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ballPredictions.clear();
+        }
+    }
+
+    /**
+     * @return the number of game packets that were decoded once and reused by another connection.
+     */
+    public long getSharedDecodes() {
+        return gamePackets.getHits();
+    }
+}
@@ -1,11 +1,15 @@
 package rlbot.commons.agents;
 
+import rlbot.commons.prediction.BallPredictionBuffer;
 import rlbot.flat.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * An interface for individual bots managed by a {@link BotManager}.
  *
  * @see BotManager
+ * @see InPlaceBot
  */
 public interface Bot {
 
@@ -18,14 +22,42 @@ public interface Bot {
      */
     PlayerLoadoutT getInitialLoadout();
 
+    /**
+     * Start loading what the bot needs before the match starts, fx. large lookup tables, without blocking
+     * the construction of the other bots. The manager waits for the returned future to complete before telling
+     * RLBot that initialization is complete, and logs how long each bot took.
+     * Invoked right after the bot is constructed, on the bot's own executor unless parallel construction is disabled.
+     * @return a future completing once the bot is ready, or {@code null} if there is nothing to load. Default is {@code null}.
+     */
+    default CompletableFuture<Void> preload() {
+        return null;
+    }
+
     /**
      * Process the latest game state and return this bot's next input.
+     * Short-lived scratch objects, including the returned controller state, can be obtained from
+     * {@link TickArena#current()} to avoid allocating every tick.
      * @param packet the latest game packet.
      * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
      * @return the bot's next input.
+     * @see Bot#getOutputFromBuffer(GamePacketT, BallPredictionBuffer)
      */
     ControllerStateT getOutput(GamePacketT packet, BallPredictionT ballPrediction);
 
+    /**
+     * Process the latest game state and return this bot's next input. This is the method invoked by the
+     * {@link BotManager}. Override it to read the ball prediction from a {@link BallPredictionBuffer}
+     * instead of thousands of prediction slice objects. The buffer is shared with other bots and only
+     * valid until this method returns.
+     * By default, this delegates to {@link Bot#getOutput(GamePacketT, BallPredictionT)}.
+     * @param packet the latest game packet.
+     * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     * @return the bot's next input.
+     */
+    default ControllerStateT getOutputFromBuffer(GamePacketT packet, BallPredictionBuffer ballPrediction) {
+        return getOutput(packet, ballPrediction == null ? null : ballPrediction.asBallPredictionT());
+    }
+
     /**
      * Process an incoming {@link MatchComm} message.
      * See the index and team field to determine the sender.
@@ -33,6 +65,46 @@ public interface Bot {
      */
     void onMatchCommReceived(MatchCommT comm);
 
+    /**
+     * Process the {@link MatchComm} messages received since the previous tick. The {@link BotManager} invokes
+     * this on the bot's own thread right before {@link Bot#getOutput}, so no synchronization is needed.
+     * On ticks the bot skips, see {@link PhasePolicy} and {@link TickRate}, the messages are still delivered
+     * with each game packet.
+     * By default, this calls {@link Bot#onMatchCommReceived(MatchCommT)} for each message.
+     * @param comms the received messages. The array is reused, so do not keep a reference to it.
+     * @param count the number of messages in the array.
+     */
+    default void onMatchCommsReceived(MatchCommT[] comms, int count) {
+        for (int i = 0; i < count; i++) {
+            onMatchCommReceived(comms[i]);
+        }
+    }
+
+    /**
+     * Invoked when the {@link MatchPhase} changes, fx. to warm up caches before a kickoff.
+     * Invoked on the agent's own thread before the first tick of the new phase, even if that tick is skipped
+     * by the manager's {@link PhasePolicy}.
+     * @param previousPhase the previous phase, or -1 if this is the first phase seen.
+     * @param phase the new phase.
+     */
+    default void onPhaseChange(int previousPhase, int phase) {
+
+    }
+
+    /**
+     * Invoked when a new match starts on a connection that outlives matches, see
+     * {@link AgentBaseManager#setOutliveMatches(boolean)}. Return {@code true} to keep using this bot in the new match,
+     * fx. to keep its lookup tables and caches. Return {@code false} to have it retired and replaced by a new
+     * instance from the factory. The bot is only kept if it controls the same cars as before.
+     * Invoked on the bot's own thread between ticks, before the first tick of the new match.
+     * @param matchConfig the configuration of the new match.
+     * @param fieldInfo the field of the new match.
+     * @return whether this bot is ready for the new match. Default is {@code false}.
+     */
+    default boolean onNewMatch(MatchConfigurationT matchConfig, FieldInfoT fieldInfo) {
+        return false;
+    }
+
     /**
      * Invoked when this bot is shut down. Use this to dispose of resources.
      */
@@ -0,0 +1,199 @@
+package rlbot.commons.agents;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Defines which threads the bots of a {@link BotManager} run on. Every tick of a bot is run as a task on the
+ * bot's executor, and the manager makes sure a bot never processes two ticks at the same time.
+ * <p>
+ * Available execution models:
+ * <ul>
+ *     <li>{@link #platformThreads()}: a dedicated, named thread per bot. This is the default.</li>
+ *     <li>{@link #platformThreads(int, boolean)}: like above, with a custom priority and daemon flag.</li>
+ *     <li>{@link #fixedPool(int)}: all bots share a fixed number of threads.</li>
+ *     <li>{@link #virtualThreads()}: a virtual thread per tick. Requires Java 21+.</li>
+ * </ul>
+ * The shared pool and virtual threads are useful when hosting many low-compute bots in one JVM,
+ * fx. for training, where a dedicated OS thread per bot wastes memory and scheduler time.
+ * <p>
+ * An execution model can be shared by several managers, fx. in an {@link AgentHost}. The executors it creates are
+ * reference counted, and an executor is only shut down once every bot using it has been retired.
+ * <p>
+ * Example usage:
+ * <pre>
+ *     {@code
+ *         var execution = BotExecution.isVirtualThreadsSupported()
+ *                 ? BotExecution.virtualThreads()
+ *                 : BotExecution.fixedPool(4);
+ *         var botManager = new BotManager(rlbot, "myname/examplebot/v0.1", ExampleBot::new, execution);
+ *     }
+ * </pre>
+ */
+public abstract class BotExecution {
+
+    /**
+     * The executors created by this execution model, and the number of bots currently using each of them.
+     */
+    private final Map<ExecutorService, Integer> executors = new HashMap<>();
+
+    /**
+     * Get the executor that should run the ticks of the given bot. Invoked once per bot during initialization.
+     *
+     * @param name the in-game name of the bot, fx. Nexto (2).
+     * @param index the index of the bot.
+     * @return the executor of the bot.
+     */
+    protected abstract Executor executorFor(String name, int index);
+
+    /**
+     * Register an executor to be shut down once no bot uses it anymore.
+     */
+    protected final <E extends ExecutorService> E track(E executor) {
+        synchronized (executors) {
+            executors.putIfAbsent(executor, 0);
+        }
+        return executor;
+    }
+
+    /**
+     * Get the executor of a bot, see {@link #executorFor(String, int)}, and count the bot as one of its users.
+     * Invoked by the {@link BotManager}, which hands the executor back with {@link #release(Executor)}.
+     */
+    final Executor acquire(String name, int index) {
+        var executor = executorFor(name, index);
+        synchronized (executors) {
+            var users = executors.get(executor);
+            if (users != null) {
+                executors.put((ExecutorService) executor, users + 1);
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Stop counting a bot as a user of the given executor. Tracked executors are shut down once no bot uses them.
+     * Already submitted tasks are still run.
+     */
+    final void release(Executor executor) {
+        synchronized (executors) {
+            var users = executors.get(executor);
+            if (users == null) {
+                return; // Not created by this execution model
+            }
+            if (users <= 1) {
+                executors.remove(executor);
+                ((ExecutorService) executor).shutdown();
+            } else {
+                executors.put((ExecutorService) executor, users - 1);
+            }
+        }
+    }
+
+    /**
+     * Shut down all executors of this execution model, even if bots still use them. Already submitted tasks are still run.
+     * The {@link BotManager} only shuts down the executors of its own bots, see {@link #release(Executor)}.
+     */
+    public void shutdown() {
+        synchronized (executors) {
+            for (var executor : executors.keySet()) {
+                executor.shutdown();
+            }
+            executors.clear();
+        }
+    }
+
+    /**
+     * @return an execution model with a dedicated non-daemon thread of normal priority per bot.
+     */
+    public static BotExecution platformThreads() {
+        return platformThreads(Thread.NORM_PRIORITY, false);
+    }
+
+    /**
+     * @param priority the priority of the threads, see {@link Thread#setPriority(int)}.
+     * @param daemon whether the threads are daemon threads, i.e. do not keep the JVM alive.
+     * @return an execution model with a dedicated thread per bot.
+     */
+    public static BotExecution platformThreads(int priority, boolean daemon) {
+        return new BotExecution() {
+            @Override
+            protected Executor executorFor(String name, int index) {
+                ThreadFactory factory = runnable -> {
+                    var thread = new Thread(runnable, "Bot " + name + " #" + index);
+                    thread.setPriority(priority);
+                    thread.setDaemon(daemon);
+                    return thread;
+                };
+                return track(Executors.newSingleThreadExecutor(factory));
+            }
+        };
+    }
+
+    /**
+     * @param threads the number of threads shared by all bots.
+     * @return an execution model where all bots share a fixed number of non-daemon threads.
+     */
+    public static BotExecution fixedPool(int threads) {
+        return new BotExecution() {
+            private ExecutorService pool;
+
+            @Override
+            protected synchronized Executor executorFor(String name, int index) {
+                if (pool == null || pool.isShutdown()) {
+                    var count = new AtomicInteger();
+                    pool = track(Executors.newFixedThreadPool(threads,
+                            runnable -> new Thread(runnable, "Bot pool #" + count.getAndIncrement())));
+                }
+                return pool;
+            }
+        };
+    }
+
+    /**
+     * @return {@code true} if the running JVM supports virtual threads, i.e. Java 21+.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * Requires Java 21+, see {@link #isVirtualThreadsSupported()}.
+     *
+     * @return an execution model where each tick of a bot runs on a new virtual thread.
+     * @throws UnsupportedOperationException if virtual threads are not supported.
+     */
+    public static BotExecution virtualThreads() {
+        if (!isVirtualThreadsSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21+, running " + Runtime.version());
+        }
+        return new BotExecution() {
+            @Override
+            protected Executor executorFor(String name, int index) {
+                return track(newVirtualThreadPerTaskExecutor("Bot " + name + " #" + index));
+            }
+        };
+    }
+
+    /**
+     * Equivalent to {@code Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name).factory())}.
+     * The library targets Java 16, so the Java 21 API is accessed reflectively.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+        try {
+            var builderClass = Class.forName("java.lang.Thread$Builder");
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class).invoke(builder, name);
+            var factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create virtual thread executor", e);
+        }
+    }
+}
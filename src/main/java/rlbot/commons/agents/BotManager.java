@@ -1,13 +1,29 @@
 package rlbot.commons.agents;
 
+import rlbot.commons.prediction.BallPredictionBuffer;
 import rlbot.flat.*;
 import rlbot.commons.protocol.RLBotInterface;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * A standard manager for RLBot bots, handling bot lifecycle including initialization, packet reading,
@@ -15,10 +31,21 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * The manager must be constructed with an {@link RLBotInterface}, a default agent ID, and a {@link BotFactory}
  * that is used to initialize new bot instances once all the required information has arrived.
  * <p>
- * Each bot controlled by this manager is run on a dedicated thread
+ * Each bot controlled by this manager is run on a dedicated thread by default
  * (there may be more than one bot/thread if the manager controls a hivemind).
+ * A different {@link BotExecution} can be given to run the bots on a shared pool or on virtual threads.
  * Use the {@link HivemindManager} for custom handling of the hivemind's agents.
  * <p>
+ * In deadline mode, see {@link BotManager#setDeadline(double, DeadlineFallback, boolean)}, a fallback input is
+ * sent for bots that do not produce their output in time. Bots can check their remaining time with
+ * {@link TickBudget#current()}.
+ * <p>
+ * Match comms are put in a bounded mailbox per bot and delivered in a batch on the bot's own thread before its
+ * next tick, or with the next game packet if the bot skips the tick, see {@link Bot#onMatchCommsReceived(MatchCommT[], int)}.
+ * <p>
+ * If the bot implements {@link InPlaceBot}, the manager owns one controller state per bot
+ * and the bot writes its output into that instead of returning a new one every tick.
+ * <p>
  * Example usage:
  * <pre>
  *     {@code
@@ -30,19 +57,65 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class BotManager extends AgentBaseManager {
 
-    private record GameTickData(GamePacketT packet, BallPredictionT ballPred) {}
+    /**
+     * The data of a single tick. The ball prediction and the pooled packet, if any, are retained on behalf of the
+     * bot process and must be released once the bot is done with them. A scheduled deadline holds its own reference
+     * to the pooled packet, which it releases once it has run or been cancelled.
+     * The compute flag is cleared if the tick is only dispatched to notify the bot of a phase change.
+     * The resolved flag is set by whoever answers the tick first, the bot or the deadline.
+     * The deadline is the scheduled fallback of the tick in deadline mode, which is cancelled once the bot is done.
+     */
+    private record GameTickData(GamePacketT packet, PooledGamePacket pooledPacket, BallPredictionBuffer ballPred,
+                                boolean compute, long deadlineNanos, AtomicBoolean resolved,
+                                AtomicReference<ScheduledFuture<?>> deadline) {}
 
     /**
      * A bot process managed by this manager.
-     * The queue is a single-message queue holding the latest game packet and ball prediction.
+     * The pending tick holds the latest game packet and ball prediction not yet processed by the bot.
      * Ball prediction may be {@code null}.
+     * The scheduled flag is set while a task running the bot is submitted to its executor,
+     * which ensures the bot never processes two ticks at the same time.
+     * The mailbox holds match comms not yet delivered to the bot, and the inbox is the reused array they are
+     * delivered in. The events are other work to run on the bot's thread between ticks, like preparing for a new match.
+     * The phase is the last match phase seen by the bot, and the rate decides which ticks the bot computes.
+     * The output is the reusable controller state of {@link InPlaceBot}s.
      */
-    private record BotProcess(Bot bot, String name, int index, AtomicBoolean running,
-                              BlockingQueue<GameTickData> queue) {}
+    private record BotProcess(Bot bot, String name, int index, Executor executor, AtomicBoolean running,
+                              AtomicReference<GameTickData> pending, AtomicBoolean scheduled, AtomicBoolean retired,
+                              Mailbox<MatchCommT> mailbox, MatchCommT[] inbox, Queue<Runnable> events,
+                              AtomicInteger phase, TickRate rate,
+                              TickArena arena, TickBudget budget, ControllerStateT output) {}
 
     private final BotFactory botFactory;
+    private final BotExecution execution;
     private List<BotProcess> botProcesses;
 
+    /**
+     * The executor of each player index, reused across matches on connections that outlive matches.
+     */
+    private final Map<Integer, Executor> executors = new HashMap<>();
+
+    private double budgetFraction = 1.0;
+
+    // Deadline mode
+    private DeadlineFallback fallback;
+    private boolean sendLateOutputs;
+    private ScheduledExecutorService deadlines;
+    /**
+     * The arena of the deadline thread, so fallbacks never touch the arenas of the bots.
+     */
+    private final TickArena deadlineArena = new TickArena();
+    private final AtomicLong missedDeadlines = new AtomicLong();
+
+    /**
+     * The match phase of the latest dispatched tick.
+     */
+    private int dispatchedPhase = -1;
+
+    private int mailboxCapacity = 64;
+    private boolean parallelConstruction = true;
+    private final AtomicLong droppedMatchComms = new AtomicLong();
+
     /**
      * Construct a BotManager. The manager must be constructed with an {@link RLBotInterface},
      * a default agent ID that should match the player configuration agent ID, and a {@link BotFactory}
@@ -53,30 +126,117 @@ public class BotManager extends AgentBaseManager {
      * @param botFactory a {@link BotFactory} to create {@link Bot} instances.
      */
     public BotManager(RLBotInterface rlbot, String defaultAgentId, BotFactory botFactory) {
+        this(rlbot, defaultAgentId, botFactory, BotExecution.platformThreads());
+    }
+
+    /**
+     * Construct a BotManager running its bots with the given {@link BotExecution}.
+     * See {@link BotManager#BotManager(RLBotInterface, String, BotFactory)}.
+     * @param rlbot an {@link RLBotInterface} connection to use.
+     * @param defaultAgentId a default agent ID used to identify what agent this connection controls if the process
+     *                       is not started by RLBot. It should match the agent ID in the player configuration.
+     * @param botFactory a {@link BotFactory} to create {@link Bot} instances.
+     * @param execution the {@link BotExecution} defining which threads the bots run on.
+     */
+    public BotManager(RLBotInterface rlbot, String defaultAgentId, BotFactory botFactory, BotExecution execution) {
         super(rlbot, defaultAgentId);
         this.botFactory = botFactory;
+        this.execution = execution;
     }
 
     @Override
     void initialize() {
         // Create bot processes
-        var playerConfs = getMatchConfig().getPlayerConfigurations();
-        var info = getTeamInfo();
-        var team = (int) info.getTeam();
-        var agents = info.getControllables();
-        botProcesses = new ArrayList<>();
-        for (var agent : agents) {
-            var index = (int) agent.getIndex();
-            var name = playerConfs[index].getVariety().asCustomBot().getName();
-            var bot = botFactory.create(getRlbotInterface(), index, team, name, getAgentId(), getMatchConfig(), getFieldInfo());
-            var running = new AtomicBoolean(true);
-            var queue = new ArrayBlockingQueue<GameTickData>(1);
-            var process = new BotProcess(bot, name, index, running, queue);
-            botProcesses.add(process);
-            new Thread(() -> botLoop(process)).start();
-        }
-
-        // Set their loadouts
+        var agents = getTeamInfo().getControllables();
+        var indices = new int[agents.length];
+        for (int i = 0; i < agents.length; i++) {
+            indices[i] = (int) agents[i].getIndex();
+        }
+        botProcesses = new ArrayList<>(createProcesses(indices));
+        sendLoadouts();
+    }
+
+    /**
+     * Create the bots of the given indices, in parallel on their executors unless disabled, and wait for
+     * their {@link Bot#preload()} to complete.
+     */
+    private List<BotProcess> createProcesses(int[] indices) {
+        var team = (int) getTeamInfo().getTeam();
+        var futures = new ArrayList<CompletableFuture<BotProcess>>();
+        for (int index : indices) {
+            var name = getMatchConfig().getPlayerConfigurations()[index].getVariety().asCustomBot().getName();
+            var executor = executors.computeIfAbsent(index, i -> execution.acquire(name, i));
+            Supplier<BotProcess> create = () -> {
+                long start = System.nanoTime();
+                var bot = botFactory.create(getRlbotInterface(), index, team, name, getAgentId(), getMatchConfig(), getFieldInfo());
+                logger.info("Created " + name + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+                return new BotProcess(bot, name, index, executor, new AtomicBoolean(true),
+                        new AtomicReference<>(), new AtomicBoolean(false), new AtomicBoolean(false),
+                        new Mailbox<>(mailboxCapacity), new MatchCommT[mailboxCapacity], new ConcurrentLinkedQueue<>(),
+                        new AtomicInteger(-1), newTickRate(),
+                        new TickArena(), new TickBudget(), new ControllerStateT());
+            };
+            if (parallelConstruction) {
+                futures.add(CompletableFuture.supplyAsync(create, executor).thenCompose(this::preload));
+                continue;
+            }
+            try {
+                futures.add(preload(create.get()));
+            } catch (RuntimeException e) {
+                // Do not build the remaining bots, but clean up the ones built so far below
+                futures.add(CompletableFuture.failedFuture(e));
+                break;
+            }
+        }
+
+        var processes = new ArrayList<BotProcess>();
+        RuntimeException failure = null;
+        for (var future : futures) {
+            // Wait for every bot, so none is still being built when the others are retired
+            try {
+                processes.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            // Retire the bots that were built, so their threads do not outlive the failed initialization
+            retireAndWait(processes);
+            for (int index : indices) {
+                var executor = executors.remove(index);
+                if (executor != null) {
+                    execution.release(executor);
+                }
+            }
+            throw failure;
+        }
+        return processes;
+    }
+
+    private CompletableFuture<BotProcess> preload(BotProcess process) {
+        long start = System.nanoTime();
+        CompletableFuture<Void> preload;
+        try {
+            preload = process.bot.preload();
+        } catch (RuntimeException e) {
+            preload = CompletableFuture.failedFuture(e);
+        }
+        if (preload == null) {
+            return CompletableFuture.completedFuture(process);
+        }
+        return preload.handle((ignored, e) -> {
+            if (e != null) {
+                logger.severe(process.name + " failed to preload: " + e.getMessage());
+            } else {
+                logger.info("Preloaded " + process.name + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            }
+            return process;
+        });
+    }
+
+    private void sendLoadouts() {
         for (var botProcess : botProcesses) {
             var loadout = botProcess.bot.getInitialLoadout();
             if (loadout != null) {
@@ -88,30 +248,378 @@ public class BotManager extends AgentBaseManager {
         }
     }
 
+    @Override
+    void startNewMatch() {
+        var agents = getTeamInfo().getControllables();
+        boolean sameCars = agents.length == botProcesses.size();
+        for (int i = 0; sameCars && i < agents.length; i++) {
+            sameCars = botProcesses.get(i).index == (int) agents[i].getIndex();
+        }
+
+        // Ask the bots in parallel, each on its own thread between ticks
+        var accepts = new ArrayList<CompletableFuture<Boolean>>();
+        for (int i = 0; i < agents.length; i++) {
+            var previous = sameCars ? botProcesses.get(i) : null;
+            accepts.add(previous != null ? runOnBot(previous, () -> acceptsNewMatch(previous))
+                    : CompletableFuture.completedFuture(false));
+        }
+
+        var processes = new ArrayList<BotProcess>();
+        var replaced = new ArrayList<Integer>();
+        for (int i = 0; i < agents.length; i++) {
+            if (accepts.get(i).join()) {
+                var previous = botProcesses.get(i);
+                // The phase of the new match is delivered to the bot as a phase change
+                previous.phase.set(-1);
+                processes.add(previous);
+            } else {
+                processes.add(null);
+                replaced.add(i);
+            }
+        }
+
+        // Retire the bots that were not kept before their replacements are built on the same executors
+        retireAndWait(botProcesses.stream().filter(process -> !processes.contains(process)).toList());
+
+        var created = createProcesses(replaced.stream().mapToInt(i -> (int) agents[i].getIndex()).toArray());
+        for (int i = 0; i < replaced.size(); i++) {
+            processes.set(replaced.get(i), created.get(i));
+        }
+        botProcesses = processes;
+        dispatchedPhase = -1;
+        sendLoadouts();
+    }
+
+    /**
+     * Retire the given bots on their own threads and wait for them to finish.
+     */
+    private void retireAndWait(List<BotProcess> processes) {
+        var retirements = new ArrayList<CompletableFuture<Boolean>>();
+        for (var process : processes) {
+            retirements.add(runOnBot(process, () -> {
+                process.running.set(false);
+                retireBot(process);
+                return true;
+            }));
+        }
+        retirements.forEach(CompletableFuture::join);
+    }
+
+    /**
+     * Run the given work on the bot's thread between ticks, so it never overlaps with a tick of the bot.
+     */
+    private <T> CompletableFuture<T> runOnBot(BotProcess process, Supplier<T> work) {
+        var result = new CompletableFuture<T>();
+        process.events.add(() -> {
+            try {
+                result.complete(work.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        schedule(process);
+        return result;
+    }
+
+    private boolean acceptsNewMatch(BotProcess process) {
+        try {
+            return process.running.get() && process.bot.onNewMatch(getMatchConfig(), getFieldInfo());
+        } catch (RuntimeException e) {
+            logger.severe(process.name + " encountered an error while preparing for a new match: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    void warmUpAgents(int ticks) {
+        var warmUps = new ArrayList<CompletableFuture<Void>>();
+        for (var process : botProcesses) {
+            if (process.bot instanceof WarmUpParticipant participant) {
+                warmUps.add(CompletableFuture.runAsync(() -> warmUpBot(process, participant, ticks), process.executor));
+            }
+        }
+        CompletableFuture.allOf(warmUps.toArray(CompletableFuture[]::new)).join();
+    }
+
     /**
-     * The main loop of the bot processes.
+     * Run the bot on synthetic ticks. Runs on the bot's executor, so the bot is warmed up where it will run.
      */
-    private void botLoop(BotProcess process) {
+    private void warmUpBot(BotProcess process, WarmUpParticipant participant, int ticks) {
+        var warmUp = JitWarmUp.of(getMatchConfig());
+        process.arena.activate();
+        process.budget.activate();
+        process.budget.setDeadline(Long.MAX_VALUE);
         try {
-            while (process.running.get()) {
-                var tick = process.queue.take(); // Blocking
-                ControllerStateT controller;
+            participant.onWarmUpStarted();
+            for (int t = 0; t < ticks; t++) {
+                var packet = warmUp.nextPacket();
+                var ballPrediction = warmUp.nextBallPrediction(packet);
                 try {
-                    controller = process.bot.getOutput(tick.packet, tick.ballPred);
-                } catch (RuntimeException e) {
-                    logger.severe(process.name + " encountered an error while processing game packet: " + e.getMessage());
-                    return;
+                    if (process.bot instanceof InPlaceBot inPlaceBot) {
+                        if (inPlaceBot.writeOutputFromBuffer(packet, ballPrediction, process.output)) {
+                            warmUp.send(process.index, process.output);
+                        }
+                    } else {
+                        warmUp.send(process.index, process.bot.getOutputFromBuffer(packet, ballPrediction));
+                    }
+                } finally {
+                    ballPrediction.release();
+                    process.arena.reset();
                 }
+            }
+        } catch (RuntimeException e) {
+            logger.severe(process.name + " encountered an error during warm-up: " + e.getMessage());
+        } finally {
+            participant.onWarmUpFinished();
+        }
+    }
+
+    /**
+     * Set whether the bots are constructed in parallel, each on its own executor, see {@link BotExecution}.
+     * The bot factory must then be thread-safe. If disabled, the bots are constructed one after another on the thread
+     * reading messages from RLBot. Either way, the manager waits for the {@link Bot#preload()} of every bot before
+     * telling RLBot that initialization is complete. Must be called before {@link BotManager#run()}. Default is {@code true}.
+     *
+     * @param parallel whether to construct the bots in parallel.
+     */
+    public void setParallelConstruction(boolean parallel) {
+        this.parallelConstruction = parallel;
+    }
+
+    /**
+     * Set the number of match comms each bot can have waiting for its next tick. Further messages are dropped,
+     * see {@link BotManager#getDroppedMatchComms()}. Must be called before {@link BotManager#run()}. Default is 64.
+     *
+     * @param capacity the capacity of each bot's mailbox.
+     */
+    public void setMailboxCapacity(int capacity) {
+        this.mailboxCapacity = capacity;
+    }
+
+    /**
+     * @return the number of match comms dropped because a bot's mailbox was full.
+     */
+    public long getDroppedMatchComms() {
+        return droppedMatchComms.get();
+    }
+
+    /**
+     * Enable deadline mode. Each tick, the bots get a time budget of the given fraction of the measured interval
+     * between game packets. If a bot has not produced its output when the budget runs out, the fallback input
+     * is sent instead. If the bot implements {@link DeadlineFallback} itself, its own fallback is used.
+     * <p>
+     * Must be called before {@link BotManager#run()}.
+     *
+     * @param budgetFraction the fraction of the packet interval the bots may use, fx. 0.8.
+     * @param fallback the fallback used for bots that do not implement {@link DeadlineFallback},
+     *                 fx. {@link DeadlineFallback#KEEP_LAST_INPUT} or {@link DeadlineFallback#NEUTRAL}.
+     * @param sendLateOutputs whether outputs produced after the deadline are still sent, in which case they apply
+     *                        to the next tick, or discarded.
+     */
+    public void setDeadline(double budgetFraction, DeadlineFallback fallback, boolean sendLateOutputs) {
+        this.budgetFraction = budgetFraction;
+        this.fallback = fallback;
+        this.sendLateOutputs = sendLateOutputs;
+        if (deadlines == null) {
+            var executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                var thread = new Thread(runnable, "Bot deadlines");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            deadlines = executor;
+        }
+    }
+
+    /**
+     * @return the number of ticks where a bot missed its deadline and the fallback was used.
+     */
+    public long getMissedDeadlines() {
+        return missedDeadlines.get();
+    }
+
+    /**
+     * @param index the index of a bot of this manager.
+     * @return the tick rate of the bot, fx. to report its effective rate, or {@code null} if there is no such bot.
+     */
+    public TickRate getTickRate(int index) {
+        var processes = botProcesses;
+        if (processes == null) {
+            return null;
+        }
+        for (var process : processes) {
+            if (process.index == index) {
+                return process.rate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Invoked on the deadline thread once the budget of a tick has run out.
+     * The fallback gets the deadline thread's own arena.
+     */
+    private void onDeadline(BotProcess process, GameTickData tick) {
+        try {
+            if (!tick.resolved.compareAndSet(false, true)) {
+                return; // The bot was in time
+            }
+            missedDeadlines.incrementAndGet();
+            var policy = process.bot instanceof DeadlineFallback botFallback ? botFallback : fallback;
+            deadlineArena.activate();
+            try {
+                var controller = policy.fallbackOutput(tick.packet);
                 if (controller != null) {
-                    var input = new PlayerInputT();
-                    input.setPlayerIndex(process.index);
-                    input.setControllerState(controller);
-                    getRlbotInterface().sendPlayerInput(input);
+                    // Bypasses the input deduplication, whose slot of the bot is owned by the bot's thread
+                    getRlbotInterface().sendPlayerInput(process.index, controller);
+                    invalidateSentInput(process.index);
+                }
+            } catch (RuntimeException e) {
+                logger.severe(process.name + " encountered an error in its deadline fallback: " + e.getMessage());
+            } finally {
+                deadlineArena.reset();
+            }
+        } finally {
+            releaseDeadlinePacket(tick);
+        }
+    }
+
+    /**
+     * Make sure a task running the bot is submitted to its executor.
+     */
+    private void schedule(BotProcess process) {
+        if (process.scheduled.compareAndSet(false, true)) {
+            try {
+                process.executor.execute(() -> runBot(process));
+            } catch (RejectedExecutionException e) {
+                process.scheduled.set(false);
+                logger.severe(process.name + " could not be scheduled: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Run the bot on its pending events, match comms, and ticks until there are none left. Runs on the bot's executor.
+     */
+    private void runBot(BotProcess process) {
+        process.arena.activate();
+        process.budget.activate();
+        while (true) {
+            // Events run even for stopped bots, so whoever waits for them is not left hanging
+            Runnable event;
+            while ((event = process.events.poll()) != null) {
+                event.run();
+            }
+            GameTickData tick = null;
+            if (!process.running.get()) {
+                retireBot(process);
+            } else {
+                deliverMatchComms(process);
+                tick = process.pending.getAndSet(null);
+            }
+            if (tick == null) {
+                process.scheduled.set(false);
+                // An event, tick, match comm, or retirement may have arrived after we looked, in which case we continue ourselves
+                boolean more = !process.events.isEmpty() || (process.running.get()
+                        ? process.pending.get() != null || !process.mailbox.isEmpty()
+                        : !process.retired.get());
+                if (more && process.scheduled.compareAndSet(false, true)) {
+                    continue;
+                }
+                return;
+            }
+            processTick(process, tick);
+        }
+    }
+
+    private void processTick(BotProcess process, GameTickData tick) {
+        process.budget.setDeadline(tick.deadlineNanos);
+
+        int phase = tick.packet.getMatchInfo().getMatchPhase();
+        int previousPhase = process.phase.getAndSet(phase);
+        if (phase != previousPhase) {
+            invalidateSentInput(process.index);
+            try {
+                process.bot.onPhaseChange(previousPhase, phase);
+            } catch (RuntimeException e) {
+                logger.severe(process.name + " encountered an error while handling a phase change: " + e.getMessage());
+            }
+        }
+        if (!tick.compute) {
+            // Only dispatched to deliver the phase change
+            finishTick(process, tick);
+            return;
+        }
+
+        try {
+            ControllerStateT controller;
+            long start = System.nanoTime();
+            try {
+                if (process.bot instanceof InPlaceBot inPlaceBot) {
+                    var send = inPlaceBot.writeOutputFromBuffer(tick.packet, tick.ballPred, process.output);
+                    controller = send ? process.output : null;
+                } else {
+                    controller = process.bot.getOutputFromBuffer(tick.packet, tick.ballPred);
                 }
+            } catch (RuntimeException e) {
+                logger.severe(process.name + " encountered an error while processing game packet: " + e.getMessage());
+                process.running.set(false);
+                return;
+            }
+            process.rate.recordCompute(start, System.nanoTime() - start, getPacketIntervalNanos());
+            if (TickArena.isStale(controller)) {
+                // Its values were poisoned when the arena was reset, so it must not reach the game
+                logger.warning(process.name + " returned a controller state obtained from the arena during a previous tick. It is not sent.");
+                controller = null;
+            }
+            // In deadline mode, the fallback may have been sent already
+            boolean inTime = tick.resolved.compareAndSet(false, true);
+            if (controller != null && (inTime || sendLateOutputs)) {
+                sendPlayerInput(process.index, controller);
             }
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
         } finally {
+            finishTick(process, tick);
+        }
+    }
+
+    /**
+     * Resolve the tick and recycle the bot's scratch objects of the tick.
+     */
+    private void finishTick(BotProcess process, GameTickData tick) {
+        resolve(tick);
+        process.arena.reset();
+    }
+
+    /**
+     * Mark the tick as answered, so its fallback is not sent, and release its ball prediction.
+     */
+    private static void resolve(GameTickData tick) {
+        if (tick == null) {
+            return;
+        }
+        tick.resolved.set(true);
+        var deadline = tick.deadline.get();
+        if (deadline != null && deadline.cancel(false)) {
+            releaseDeadlinePacket(tick);
+        }
+        release(tick);
+    }
+
+    private void deliverMatchComms(BotProcess process) {
+        int count;
+        while ((count = process.mailbox.drainTo(process.inbox)) > 0) {
+            try {
+                process.bot.onMatchCommsReceived(process.inbox, count);
+            } catch (Exception e) {
+                logger.severe(process.name + " encountered an error while processing match comms: " + e.getMessage());
+            }
+            Arrays.fill(process.inbox, 0, count, null);
+        }
+    }
+
+    private void retireBot(BotProcess process) {
+        if (process.retired.compareAndSet(false, true)) {
+            resolve(process.pending.getAndSet(null));
             process.bot.onRetire();
         }
     }
@@ -121,26 +629,82 @@ public class BotManager extends AgentBaseManager {
         if (botProcesses == null) {
             return;
         }
+        long now = System.nanoTime();
+        long budget = (long) (getPacketIntervalNanos() * budgetFraction);
+        long frameNum = latestGamePacket.getMatchInfo().getFrameNum();
+
+        int phase = latestGamePacket.getMatchInfo().getMatchPhase();
+        boolean phaseChanged = phase != dispatchedPhase;
+        dispatchedPhase = phase;
+
         for (var process : botProcesses) {
-            try {
-                // There can only be 1 element in the queue,
-                // so we clear in case the bot process is slow and missed the previous packet
-                process.queue.clear();
-                process.queue.put(new GameTickData(latestGamePacket, latestBallPrediction));
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+            if (!process.running.get()) {
+                continue;
+            }
+            boolean compute = phasePolicyOf(process.bot).shouldCompute(latestGamePacket)
+                    && process.rate.shouldCompute(frameNum);
+            if (!compute && !phaseChanged) {
+                // Only wake the bot's thread to deliver its match comms, so they do not pile up while it skips ticks
+                if (!process.mailbox.isEmpty()) {
+                    schedule(process);
+                }
+                continue;
             }
+            if (latestBallPrediction != null) {
+                latestBallPrediction.retain();
+            }
+            var pooledPacket = latestPooledGamePacket;
+            if (pooledPacket != null) {
+                pooledPacket.retain();
+            }
+            var tick = new GameTickData(latestGamePacket, pooledPacket, latestBallPrediction, compute, now + budget,
+                    new AtomicBoolean(false), new AtomicReference<>());
+            if (deadlines != null && compute) {
+                if (pooledPacket != null) {
+                    pooledPacket.retain(); // Held by the deadline
+                }
+                tick.deadline.set(deadlines.schedule(() -> onDeadline(process, tick), budget, TimeUnit.NANOSECONDS));
+            }
+            // Only the latest tick is kept, so a slow bot skips the ticks it missed
+            release(process.pending.getAndSet(tick));
+            schedule(process);
+        }
+    }
+
+    private static void release(GameTickData tick) {
+        if (tick == null) {
+            return;
+        }
+        if (tick.ballPred != null) {
+            tick.ballPred.release();
+        }
+        if (tick.pooledPacket != null) {
+            tick.pooledPacket.release();
+        }
+    }
+
+    private static void releaseDeadlinePacket(GameTickData tick) {
+        if (tick.pooledPacket != null) {
+            tick.pooledPacket.release();
         }
     }
 
     @Override
     protected void retire() {
-        if (botProcesses == null) {
-            return;
+        if (botProcesses != null) {
+            for (var process : botProcesses) {
+                process.running.set(false);
+                // The bot's executor calls the retire method
+                schedule(process);
+            }
         }
-        for (var process : botProcesses) {
-            process.running.set(false);
-            // Bot loop calls retire method
+        // Lets the retirement tasks finish. Executors shared with other managers keep running
+        for (var executor : executors.values()) {
+            execution.release(executor);
+        }
+        executors.clear();
+        if (deadlines != null) {
+            deadlines.shutdownNow();
         }
     }
 
@@ -150,10 +714,9 @@ public class BotManager extends AgentBaseManager {
             return;
         }
         for (var process : botProcesses) {
-            try {
-                process.bot.onMatchCommReceived(comm);
-            } catch (Exception e) {
-                logger.severe(process.name + " encountered an error while processing match comms: " + e.getMessage());
+            // Delivered on the bot's thread with the next game packet
+            if (!process.mailbox.offer(comm)) {
+                droppedMatchComms.incrementAndGet();
             }
         }
     }
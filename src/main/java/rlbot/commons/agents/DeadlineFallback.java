@@ -0,0 +1,42 @@
+package rlbot.commons.agents;
+
+import rlbot.flat.ControllerStateT;
+import rlbot.flat.GamePacketT;
+
+/**
+ * Provides the input sent for a bot that did not produce its output before the deadline of a tick.
+ * A {@link Bot} can implement this interface itself to supply a cheap policy of its own, which then takes
+ * precedence over the fallback configured on the {@link BotManager}.
+ * <p>
+ * The fallback is invoked on a separate thread while the bot is still busy, so it must be fast and must not
+ * touch state that the bot modifies in {@link Bot#getOutput}. {@link TickArena#current()} returns an arena of the
+ * deadline thread, which is reset once the fallback input has been sent.
+ *
+ * @see BotManager#setDeadline(double, DeadlineFallback, boolean)
+ */
+@FunctionalInterface
+public interface DeadlineFallback {
+
+    /**
+     * Sends nothing, which keeps the car on its last input.
+     */
+    DeadlineFallback KEEP_LAST_INPUT = packet -> null;
+
+    /**
+     * Sends a neutral input, i.e. no throttle, steering, or buttons.
+     */
+    DeadlineFallback NEUTRAL = new DeadlineFallback() {
+        private final ControllerStateT neutral = new ControllerStateT();
+
+        @Override
+        public ControllerStateT fallbackOutput(GamePacketT packet) {
+            return neutral;
+        }
+    };
+
+    /**
+     * @param packet the game packet of the tick that missed its deadline.
+     * @return the input to send, or {@code null} to keep the car on its last input.
+     */
+    ControllerStateT fallbackOutput(GamePacketT packet);
+}
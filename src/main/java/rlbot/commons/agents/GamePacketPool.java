@@ -0,0 +1,35 @@
+package rlbot.commons.agents;
+
+import rlbot.flat.GamePacket;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A thread-safe pool of {@link PooledGamePacket}s. Packets return to the pool once their reference count
+ * drops to zero, so the number of decoded packets is bounded by the number of ticks in flight at the same time.
+ */
+final class GamePacketPool {
+
+    private final ConcurrentLinkedQueue<PooledGamePacket> free = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Decode a game packet into an unused packet of the pool, reusing its objects.
+     * Must only be called by one thread at a time.
+     *
+     * @param raw the received game packet.
+     * @return the decoded packet with a reference count of one.
+     */
+    PooledGamePacket acquire(GamePacket raw) {
+        var pooled = free.poll();
+        if (pooled == null) {
+            pooled = new PooledGamePacket(this);
+        }
+        raw.unpackInto(pooled.packet());
+        pooled.retain();
+        return pooled;
+    }
+
+    void recycle(PooledGamePacket packet) {
+        free.offer(packet);
+    }
+}
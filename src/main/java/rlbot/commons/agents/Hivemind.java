@@ -1,5 +1,6 @@
 package rlbot.commons.agents;
 
+import rlbot.commons.prediction.BallPredictionBuffer;
 import rlbot.flat.*;
 
 import java.util.Map;
@@ -13,6 +14,7 @@ import java.util.Map;
  *
  * @see HivemindManager
  * @see BotManager
+ * @see InPlaceHivemind
  */
 public interface Hivemind {
 
@@ -31,9 +33,22 @@ public interface Hivemind {
      * @param packet the latest game packet.
      * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
      * @return the bots' next input.
+     * @see Hivemind#getOutputsFromBuffer(GamePacketT, BallPredictionBuffer)
      */
     Map<Integer, ControllerStateT> getOutputs(GamePacketT packet, BallPredictionT ballPrediction);
 
+    /**
+     * Process the latest game state and returns the next inputs for the cars controlled by this connection,
+     * reading the ball prediction from a {@link BallPredictionBuffer} that is only valid until this method returns.
+     * This is the method invoked by the {@link HivemindManager}. By default, this delegates to {@link Hivemind#getOutputs(GamePacketT, BallPredictionT)}.
+     * @param packet the latest game packet.
+     * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     * @return the bots' next input.
+     */
+    default Map<Integer, ControllerStateT> getOutputsFromBuffer(GamePacketT packet, BallPredictionBuffer ballPrediction) {
+        return getOutputs(packet, ballPrediction == null ? null : ballPrediction.asBallPredictionT());
+    }
+
     /**
      * Process an incoming {@link MatchComm} message.
      * See the index and team field to determine the sender.
@@ -41,6 +56,32 @@ public interface Hivemind {
      */
     void onMatchCommReceived(MatchCommT comm);
 
+    /**
+     * Invoked when the {@link MatchPhase} changes, fx. to warm up caches before a kickoff.
+     * Invoked on the agent's own thread before the first tick of the new phase, even if that tick is skipped
+     * by the manager's {@link PhasePolicy}.
+     * @param previousPhase the previous phase, or -1 if this is the first phase seen.
+     * @param phase the new phase.
+     */
+    default void onPhaseChange(int previousPhase, int phase) {
+
+    }
+
+    /**
+     * Invoked when a new match starts on a connection that outlives matches, see
+     * {@link AgentBaseManager#setOutliveMatches(boolean)}. Return {@code true} to keep using this hivemind in the new match,
+     * fx. to keep its lookup tables and caches. Return {@code false} to have it retired and replaced by a new
+     * instance from the factory. The hivemind is only kept if it controls the same cars as before.
+     * Invoked on the hivemind's thread between ticks, i.e. its compute thread if enabled, before the first tick
+     * of the new match.
+     * @param matchConfig the configuration of the new match.
+     * @param fieldInfo the field of the new match.
+     * @return whether this hivemind is ready for the new match. Default is {@code false}.
+     */
+    default boolean onNewMatch(MatchConfigurationT matchConfig, FieldInfoT fieldInfo) {
+        return false;
+    }
+
     /**
      * Invoked when this hivemind is shut down. Use this to dispose of resources.
      */
@@ -1,14 +1,20 @@
 package rlbot.commons.agents;
 
 import rlbot.flat.ControllerStateT;
+import rlbot.flat.GamePacketT;
 import rlbot.flat.MatchCommT;
-import rlbot.flat.PlayerInputT;
+import rlbot.flat.PlayerLoadoutT;
 import rlbot.flat.SetLoadoutT;
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.commons.prediction.InterceptKernel;
 import rlbot.commons.protocol.RLBotInterface;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +27,17 @@ import java.util.stream.Collectors;
  * of the hivemind's bots.
  * Use the {@link BotManager} if you simply want one thread per car.
  * <p>
+ * If the hivemind implements {@link InPlaceHivemind}, the manager owns one controller state per car
+ * and the hivemind writes its outputs into those instead of returning a map every tick.
+ * Optionally, see {@link HivemindManager#setComputeThread(boolean)}, the hivemind runs on a dedicated compute thread
+ * instead of the thread reading messages from RLBot.
+ * <p>
+ * If the hivemind implements {@link ParallelHivemind}, the cars are computed in parallel on a {@link ForkJoinPool}
+ * after a sequential team phase.
+ * <p>
+ * If the hivemind implements {@link InterceptAware}, the ball prediction is evaluated against all of its cars at once
+ * with an {@link InterceptKernel} every tick, to coordinate which car goes for the ball.
+ * <p>
  * Example usage:
  * <pre>
  *     {@code
@@ -33,10 +50,59 @@ import java.util.stream.Collectors;
 public class HivemindManager extends AgentBaseManager {
 
     private final HivemindFactory hivemindFactory;
+    private final TickArena arena = new TickArena();
     private Hivemind hivemind;
     private List<Integer> indices;
     private int team;
 
+    /**
+     * The packet and ball prediction of the tick being processed.
+     */
+    private GamePacketT tickPacket;
+    private BallPredictionBuffer tickBallPrediction;
+
+    /**
+     * The match phase of the latest dispatched tick, and of the latest tick seen by the hivemind.
+     */
+    private int dispatchedPhase = -1;
+    private int hivemindPhase = -1;
+
+    private TickRate tickRate;
+
+    /**
+     * The source of synthetic packets while warming up, or null.
+     */
+    private JitWarmUp warmUp;
+
+    private boolean useComputeThread = false;
+    private TickWorker worker;
+
+    /**
+     * The car of each slot, and the controller state of each slot for in-place hiveminds.
+     * Slot {@code i} controls the car {@code slotIndices[i]}.
+     */
+    private int[] slotIndices;
+    private ControllerStateT[] slotOutputs;
+    private boolean[] slotWritten;
+
+    /**
+     * The cars of each slot as a struct of arrays and their earliest reachable slices, for {@link InterceptAware} hiveminds.
+     */
+    private float[] carX, carY, carSpeed;
+    private int[] firstReachable;
+
+    /**
+     * The reusable car phase tasks of parallel hiveminds, one per slot.
+     */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private CarTask[] carTasks;
+    private final RecursiveAction carPhase = new RecursiveAction() {
+        @Override
+        protected void compute() {
+            ForkJoinTask.invokeAll(carTasks);
+        }
+    };
+
     /**
      * Construct a HivemindManager. The manager must be constructed with an {@link RLBotInterface},
      * a default agent ID that should match the player configuration agent ID, and a {@link HivemindFactory}
@@ -53,6 +119,8 @@ public class HivemindManager extends AgentBaseManager {
 
     @Override
     void initialize() {
+        tickRate = newTickRate();
+
         // Create hivemind
         var playerConfs = getMatchConfig().getPlayerConfigurations();
         var info = getTeamInfo();
@@ -62,30 +130,265 @@ public class HivemindManager extends AgentBaseManager {
 
         hivemind = hivemindFactory.create(getRlbotInterface(), indices, team, names, getAgentId(), getMatchConfig(), getFieldInfo());
 
-        // Set their loadouts
+        slotIndices = indices.stream().mapToInt(i -> i).toArray();
+        if (hivemind instanceof InterceptAware) {
+            carX = new float[slotIndices.length];
+            carY = new float[slotIndices.length];
+            carSpeed = new float[slotIndices.length];
+            firstReachable = new int[slotIndices.length];
+        }
+        if (hivemind instanceof InPlaceHivemind inPlaceHivemind) {
+            slotOutputs = new ControllerStateT[slotIndices.length];
+            for (int i = 0; i < slotOutputs.length; i++) {
+                slotOutputs[i] = new ControllerStateT();
+            }
+            slotWritten = new boolean[slotIndices.length];
+            if (hivemind instanceof ParallelHivemind) {
+                carTasks = new CarTask[slotIndices.length];
+                for (int i = 0; i < carTasks.length; i++) {
+                    carTasks[i] = new CarTask(i);
+                }
+            }
+        }
+        if (useComputeThread) {
+            worker = new TickWorker("Hivemind " + getAgentId(), this::processTick);
+        }
+
+        sendLoadouts();
+    }
+
+    private void sendLoadouts() {
+        if (hivemind instanceof InPlaceHivemind inPlaceHivemind) {
+            var loadouts = inPlaceHivemind.getInitialSlotLoadouts();
+            if (loadouts != null) {
+                for (int i = 0; i < Math.min(loadouts.length, slotIndices.length); i++) {
+                    sendLoadout(slotIndices[i], loadouts[i]);
+                }
+            }
+            return;
+        }
+
         var loadouts = hivemind.getInitialLoadouts();
         if (loadouts != null) {
             for (var indexLoadout : loadouts.entrySet()) {
-                if (indexLoadout.getValue() == null) {
-                    continue;
-                }
-                var cmd = new SetLoadoutT();
-                cmd.setIndex(indexLoadout.getKey());
-                cmd.setLoadout(indexLoadout.getValue());
-                getRlbotInterface().sendSetLoadout(cmd);
+                sendLoadout(indexLoadout.getKey(), indexLoadout.getValue());
             }
         }
     }
 
+    @Override
+    void startNewMatch() {
+        var newIndices = Arrays.stream(getTeamInfo().getControllables()).map(a -> (int) a.getIndex()).toList();
+        if (newIndices.equals(indices) && acceptsNewMatch()) {
+            dispatchedPhase = -1;
+            sendLoadouts();
+            return;
+        }
+
+        // Replace the hivemind
+        if (worker != null) {
+            worker.stop();
+            worker = null;
+        }
+        hivemind.onRetire();
+        hivemind = null;
+        dispatchedPhase = -1;
+        hivemindPhase = -1;
+        initialize();
+    }
+
+    /**
+     * Ask the hivemind on its own thread whether it is kept, so it is never called while inside a tick.
+     */
+    private boolean acceptsNewMatch() {
+        return worker != null ? worker.call(this::tryAcceptNewMatch) : tryAcceptNewMatch();
+    }
+
+    private boolean tryAcceptNewMatch() {
+        try {
+            if (!hivemind.onNewMatch(getMatchConfig(), getFieldInfo())) {
+                return false;
+            }
+            // The phase of the new match is delivered to the hivemind as a phase change
+            hivemindPhase = -1;
+            return true;
+        } catch (RuntimeException e) {
+            logger.severe("Hivemind '" + getAgentId() + "' (team " + team + ") encountered an error while preparing for a new match: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Set the pool running the car phases of a {@link ParallelHivemind}. Default is the common pool.
+     *
+     * @param pool the fork join pool to use.
+     */
+    public void setForkJoinPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Run the hivemind on a dedicated compute thread fed with the latest tick, so a slow hivemind does not stop
+     * the reading of messages from RLBot. Ticks arriving while the hivemind is busy replace each other, see
+     * {@link HivemindManager#getSkippedTicks()}. Match comms are also handled on the compute thread.
+     * Must be called before {@link HivemindManager#run()}. Default is {@code false}.
+     *
+     * @param enabled whether to use a dedicated compute thread.
+     */
+    public void setComputeThread(boolean enabled) {
+        this.useComputeThread = enabled;
+    }
+
+    /**
+     * @return the tick rate of the hivemind, fx. to report its effective rate, or {@code null} before initialization.
+     */
+    public TickRate getTickRate() {
+        return tickRate;
+    }
+
+    private boolean shouldCompute(GamePacketT packet) {
+        return phasePolicyOf(hivemind).shouldCompute(packet) && tickRate.shouldCompute(packet.getMatchInfo().getFrameNum());
+    }
+
+    /**
+     * @return the number of ticks skipped by the compute thread because a newer tick arrived first.
+     * Always 0 without a compute thread.
+     */
+    public long getSkippedTicks() {
+        return worker == null ? 0 : worker.getSkippedTicks();
+    }
+
+    private void sendLoadout(int index, PlayerLoadoutT loadout) {
+        if (loadout == null) {
+            return;
+        }
+        var cmd = new SetLoadoutT();
+        cmd.setIndex(index);
+        cmd.setLoadout(loadout);
+        getRlbotInterface().sendSetLoadout(cmd);
+    }
+
     @Override
     protected void processPacket() {
         if (hivemind == null) {
             // We have not initialized yet
             return;
         }
+        int phase = latestGamePacket.getMatchInfo().getMatchPhase();
+        boolean phaseChanged = phase != dispatchedPhase;
+        dispatchedPhase = phase;
+        // The tick rate is only evaluated here, on the thread reading messages
+        boolean compute = shouldCompute(latestGamePacket);
+        if (!phaseChanged && !compute) {
+            return;
+        }
+        if (worker != null) {
+            worker.submit(latestGamePacket, latestPooledGamePacket, latestBallPrediction, compute);
+        } else {
+            processTick(latestGamePacket, latestBallPrediction, compute);
+        }
+    }
+
+    private void processTick(GamePacketT packet, BallPredictionBuffer ballPrediction, boolean compute) {
+        int phase = packet.getMatchInfo().getMatchPhase();
+        if (phase != hivemindPhase) {
+            int previousPhase = hivemindPhase;
+            hivemindPhase = phase;
+            for (int index : indices) {
+                invalidateSentInput(index);
+            }
+            try {
+                hivemind.onPhaseChange(previousPhase, phase);
+            } catch (RuntimeException e) {
+                logger.severe("Hivemind '" + getAgentId() + "' (team " + team + ") encountered an error while handling a phase change: " + e.getMessage());
+            }
+        }
+        if (!compute) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        computeTick(packet, ballPrediction);
+        tickRate.recordCompute(start, System.nanoTime() - start, getPacketIntervalNanos());
+    }
+
+    private void computeTick(GamePacketT packet, BallPredictionBuffer ballPrediction) {
+        tickPacket = packet;
+        tickBallPrediction = ballPrediction;
+        arena.activate();
+        try {
+            if (hivemind instanceof InterceptAware interceptAware && ballPrediction != null) {
+                computeIntercepts(interceptAware);
+            }
+            if (hivemind instanceof ParallelHivemind parallelHivemind) {
+                processPacketParallel(parallelHivemind);
+            } else if (hivemind instanceof InPlaceHivemind inPlaceHivemind) {
+                processPacketInPlace(inPlaceHivemind);
+            } else {
+                processPacketMap();
+            }
+        } finally {
+            // The inputs have been sent, so the hivemind's scratch objects of this tick can be recycled
+            arena.reset();
+        }
+    }
+
+    /**
+     * Evaluate the ball prediction against all cars of the hivemind at once and hand the result to the hivemind.
+     */
+    private void computeIntercepts(InterceptAware interceptAware) {
+        try {
+            int cars = slotIndices.length;
+            InterceptKernel.loadCars(tickPacket, slotIndices, cars, interceptAware.interceptBoostSpeed(),
+                    interceptAware.interceptSpeed(), carX, carY, carSpeed);
+            InterceptKernel.get().firstReachable(tickBallPrediction, carX, carY, carSpeed, cars,
+                    tickPacket.getMatchInfo().getSecondsElapsed(), interceptAware.interceptMaxHeight(), firstReachable);
+            interceptAware.onIntercepts(tickBallPrediction, firstReachable);
+        } catch (RuntimeException e) {
+            logger.severe("Hivemind '" + getAgentId() + "' (team " + team + ") encountered an error while computing intercepts: " + e.getMessage());
+        }
+    }
+
+    @Override
+    void warmUpAgents(int ticks) {
+        if (!(hivemind instanceof WarmUpParticipant participant)) {
+            return;
+        }
+        warmUp = JitWarmUp.of(getMatchConfig());
+        try {
+            participant.onWarmUpStarted();
+            for (int t = 0; t < ticks; t++) {
+                var packet = warmUp.nextPacket();
+                var ballPrediction = warmUp.nextBallPrediction(packet);
+                try {
+                    computeTick(packet, ballPrediction);
+                } finally {
+                    ballPrediction.release();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.severe("Hivemind '" + getAgentId() + "' (team " + team + ") encountered an error during warm-up: " + e.getMessage());
+        } finally {
+            warmUp = null;
+            participant.onWarmUpFinished();
+        }
+    }
+
+    /**
+     * Send an input, or discard it during the warm-up.
+     */
+    private void send(int index, ControllerStateT controller) {
+        if (warmUp != null) {
+            warmUp.send(index, controller);
+        } else {
+            sendPlayerInput(index, controller);
+        }
+    }
+
+    private void processPacketMap() {
         Map<Integer, ControllerStateT> controllers;
         try {
-            controllers = hivemind.getOutputs(latestGamePacket, latestBallPrediction);
+            controllers = hivemind.getOutputsFromBuffer(tickPacket, tickBallPrediction);
         } catch (Exception e) {
             logger.severe("Hivemind '" + getAgentId() + "' (team " + team + ") encountered an error while processing game packet: " + e.getMessage());
             return;
@@ -96,16 +399,86 @@ public class HivemindManager extends AgentBaseManager {
                 if (indexController.getValue() == null) {
                     continue;
                 }
-                var input = new PlayerInputT();
-                input.setPlayerIndex(indexController.getKey());
-                input.setControllerState(indexController.getValue());
-                getRlbotInterface().sendPlayerInput(input);
+                if (TickArena.isStale(indexController.getValue())) {
+                    // Its values were poisoned when the arena was reset, so it must not reach the game
+                    logger.warning("Hivemind '" + getAgentId() + "' (team " + team + ") returned a controller state obtained from the arena during a previous tick. It is not sent.");
+                    continue;
+                }
+                send(indexController.getKey(), indexController.getValue());
+            }
+        }
+    }
+
+    private void processPacketInPlace(InPlaceHivemind inPlaceHivemind) {
+        Arrays.fill(slotWritten, false);
+        try {
+            inPlaceHivemind.getOutputsFromBuffer(tickPacket, tickBallPrediction, slotOutputs, slotWritten);
+        } catch (Exception e) {
+            logger.severe("Hivemind '" + getAgentId() + "' (team " + team + ") encountered an error while processing game packet: " + e.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < slotIndices.length; i++) {
+            if (slotWritten[i]) {
+                send(slotIndices[i], slotOutputs[i]);
+            }
+        }
+    }
+
+    private void processPacketParallel(ParallelHivemind parallelHivemind) {
+        Arrays.fill(slotWritten, false);
+        try {
+            parallelHivemind.planTeam(tickPacket, tickBallPrediction);
+        } catch (Exception e) {
+            logger.severe("Hivemind '" + getAgentId() + "' (team " + team + ") encountered an error while planning: " + e.getMessage());
+            return;
+        }
+
+        // Fork all car phases and wait for them to join
+        for (var task : carTasks) {
+            task.reinitialize();
+        }
+        carPhase.reinitialize();
+        pool.invoke(carPhase);
+
+        for (int i = 0; i < slotIndices.length; i++) {
+            if (slotWritten[i]) {
+                send(slotIndices[i], slotOutputs[i]);
+            }
+            carTasks[i].arena.reset();
+        }
+    }
+
+    /**
+     * The car phase of a {@link ParallelHivemind} for a single slot. Never serialized.
+     */
+    @SuppressWarnings("serial")
+    private class CarTask extends RecursiveAction {
+        private final int slot;
+        private final TickArena arena = new TickArena();
+
+        CarTask(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        protected void compute() {
+            arena.activate();
+            try {
+                slotWritten[slot] = ((ParallelHivemind) hivemind).writeCarOutput(slot, tickPacket,
+                        tickBallPrediction, slotOutputs[slot]);
+            } catch (Exception e) {
+                logger.severe("Hivemind '" + getAgentId() + "' (team " + team + ") encountered an error in slot " + slot
+                        + " while processing game packet: " + e.getMessage());
             }
         }
     }
 
     @Override
     protected void retire() {
+        if (worker != null) {
+            worker.stop();
+        }
         if (hivemind != null) {
             hivemind.onRetire();
         }
@@ -117,6 +490,14 @@ public class HivemindManager extends AgentBaseManager {
             // We have not initialized yet
             return;
         }
+        if (worker != null) {
+            worker.execute(() -> handleMatchComm(comm));
+        } else {
+            handleMatchComm(comm);
+        }
+    }
+
+    private void handleMatchComm(MatchCommT comm) {
         try {
             hivemind.onMatchCommReceived(comm);
         } catch (RuntimeException e) {
@@ -0,0 +1,59 @@
+package rlbot.commons.agents;
+
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.flat.*;
+
+/**
+ * A {@link Bot} that writes its output into a controller state owned by the {@link BotManager}
+ * instead of returning a new one every tick. The manager sends the controller state without copying it,
+ * so an in-place bot can run without any per-tick allocation.
+ *
+ * @see BotManager
+ */
+public interface InPlaceBot extends Bot {
+
+    /**
+     * Process the latest game state and write this bot's next input.
+     * The controller state is owned by the manager and keeps its values from the previous tick.
+     * @param packet the latest game packet.
+     * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     * @param output the controller state to write the bot's next input into.
+     * @return {@code true} if the output should be sent, {@code false} to keep the car on its previous input.
+     * @see InPlaceBot#writeOutputFromBuffer(GamePacketT, BallPredictionBuffer, ControllerStateT)
+     */
+    boolean writeOutput(GamePacketT packet, BallPredictionT ballPrediction, ControllerStateT output);
+
+    /**
+     * Process the latest game state and write this bot's next input, reading the ball prediction
+     * from a shared {@link BallPredictionBuffer} that is only valid until this method returns.
+     * This is the method invoked by the {@link BotManager}.
+     * By default, this delegates to {@link InPlaceBot#writeOutput(GamePacketT, BallPredictionT, ControllerStateT)}.
+     * @param packet the latest game packet.
+     * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     * @param output the controller state to write the bot's next input into.
+     * @return {@code true} if the output should be sent, {@code false} to keep the car on its previous input.
+     */
+    default boolean writeOutputFromBuffer(GamePacketT packet, BallPredictionBuffer ballPrediction, ControllerStateT output) {
+        return writeOutput(packet, ballPrediction == null ? null : ballPrediction.asBallPredictionT(), output);
+    }
+
+    /**
+     * Writes the output into a new controller state, or returns {@code null} if the bot keeps its previous input.
+     * The {@link BotManager} uses {@link InPlaceBot#writeOutputFromBuffer(GamePacketT, BallPredictionBuffer, ControllerStateT)} directly.
+     */
+    @Override
+    default ControllerStateT getOutput(GamePacketT packet, BallPredictionT ballPrediction) {
+        var output = new ControllerStateT();
+        return writeOutput(packet, ballPrediction, output) ? output : null;
+    }
+
+    /**
+     * Writes the output into a new controller state, or returns {@code null} if the bot keeps its previous input.
+     * The {@link BotManager} uses {@link InPlaceBot#writeOutputFromBuffer(GamePacketT, BallPredictionBuffer, ControllerStateT)} directly.
+     */
+    @Override
+    default ControllerStateT getOutputFromBuffer(GamePacketT packet, BallPredictionBuffer ballPrediction) {
+        var output = new ControllerStateT();
+        return writeOutputFromBuffer(packet, ballPrediction, output) ? output : null;
+    }
+}
@@ -0,0 +1,121 @@
+package rlbot.commons.agents;
+
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.flat.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Hivemind} that writes its outputs into controller states owned by the {@link HivemindManager}
+ * instead of returning a new map every tick.
+ * <p>
+ * The cars of the hivemind are addressed by slot. Slot {@code i} is the car with index {@code indices.get(i)}
+ * in the list of indices given to the {@link HivemindFactory}.
+ *
+ * @see HivemindManager
+ */
+public interface InPlaceHivemind extends Hivemind {
+
+    /**
+     * Defines the bots' initial loadouts by slot. Use a {@code null} entry, or return {@code null}, to use
+     * the {@code loadout_file} specified in the bot toml file.
+     * See {@link Hivemind#getInitialLoadouts()} for details.
+     * @return the overwritten initial loadouts indexed by slot.
+     */
+    PlayerLoadoutT[] getInitialSlotLoadouts();
+
+    /**
+     * @return the index of the car of each slot, i.e. the list of indices given to the {@link HivemindFactory}.
+     */
+    List<Integer> getSlotIndices();
+
+    /**
+     * Process the latest game state and write the next inputs of the cars controlled by this connection.
+     * The controller states are owned by the manager and keep their values from the previous tick.
+     * Only the slots marked as written are sent.
+     * @param packet the latest game packet.
+     * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     * @param outputs the controller state of each slot.
+     * @param written whether the controller state of each slot was written and should be sent.
+     *                All entries are {@code false} when this method is invoked.
+     * @see InPlaceHivemind#getOutputsFromBuffer(GamePacketT, BallPredictionBuffer, ControllerStateT[], boolean[])
+     */
+    void getOutputs(GamePacketT packet, BallPredictionT ballPrediction, ControllerStateT[] outputs, boolean[] written);
+
+    /**
+     * Process the latest game state and write the next inputs of the cars controlled by this connection,
+     * reading the ball prediction from a {@link BallPredictionBuffer} that is only valid until this method returns.
+     * This is the method invoked by the {@link HivemindManager}.
+     * By default, this delegates to {@link InPlaceHivemind#getOutputs(GamePacketT, BallPredictionT, ControllerStateT[], boolean[])}.
+     * @param packet the latest game packet.
+     * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     * @param outputs the controller state of each slot.
+     * @param written whether the controller state of each slot was written and should be sent.
+     */
+    default void getOutputsFromBuffer(GamePacketT packet, BallPredictionBuffer ballPrediction, ControllerStateT[] outputs, boolean[] written) {
+        getOutputs(packet, ballPrediction == null ? null : ballPrediction.asBallPredictionT(), outputs, written);
+    }
+
+    /**
+     * Maps the slot loadouts of {@link InPlaceHivemind#getInitialSlotLoadouts()} to the indices of the slots.
+     * The {@link HivemindManager} uses the slot loadouts directly.
+     */
+    @Override
+    default Map<Integer, PlayerLoadoutT> getInitialLoadouts() {
+        var loadouts = getInitialSlotLoadouts();
+        if (loadouts == null) {
+            return null;
+        }
+        var indices = getSlotIndices();
+        var map = new HashMap<Integer, PlayerLoadoutT>();
+        for (int i = 0; i < Math.min(loadouts.length, indices.size()); i++) {
+            map.put(indices.get(i), loadouts[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Writes the outputs into new controller states and returns the written ones by index.
+     * The {@link HivemindManager} uses the in-place methods directly.
+     */
+    @Override
+    default Map<Integer, ControllerStateT> getOutputs(GamePacketT packet, BallPredictionT ballPrediction) {
+        var outputs = newSlotOutputs();
+        var written = new boolean[outputs.length];
+        getOutputs(packet, ballPrediction, outputs, written);
+        return writtenOutputs(outputs, written);
+    }
+
+    /**
+     * Writes the outputs into new controller states and returns the written ones by index.
+     * The {@link HivemindManager} uses the in-place methods directly.
+     */
+    @Override
+    default Map<Integer, ControllerStateT> getOutputsFromBuffer(GamePacketT packet, BallPredictionBuffer ballPrediction) {
+        var outputs = newSlotOutputs();
+        var written = new boolean[outputs.length];
+        getOutputsFromBuffer(packet, ballPrediction, outputs, written);
+        return writtenOutputs(outputs, written);
+    }
+
+    private ControllerStateT[] newSlotOutputs() {
+        var outputs = new ControllerStateT[getSlotIndices().size()];
+        for (int i = 0; i < outputs.length; i++) {
+            outputs[i] = new ControllerStateT();
+        }
+        return outputs;
+    }
+
+    private Map<Integer, ControllerStateT> writtenOutputs(ControllerStateT[] outputs, boolean[] written) {
+        var indices = getSlotIndices();
+        var map = new HashMap<Integer, ControllerStateT>();
+        for (int i = 0; i < outputs.length; i++) {
+            if (written[i]) {
+                map.put(indices.get(i), outputs[i]);
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,145 @@
+package rlbot.commons.agents;
+
+import rlbot.flat.ControllerStateT;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Suppresses controller inputs that do not differ from the last input sent for the same player.
+ * RLBot keeps using the last input of a player until a new one arrives, so in steady driving and while waiting
+ * for kickoff most inputs are redundant. An unchanged input is still sent every {@code keepAliveTicks}th time.
+ * <p>
+ * Analog values are compared with a tolerance against the last <i>sent</i> value, so slow drifts still get sent once
+ * they add up. Buttons are always compared exactly.
+ * <p>
+ * Each player has its own slot, owned by the thread sending the player's inputs, so the bots of a manager never
+ * contend with each other. The inputs of a player must therefore be passed to {@link #shouldSend(int, ControllerStateT)}
+ * by one thread at a time. {@link #invalidate(int)} may be called from any thread, fx. after sending an input that
+ * bypassed the deduplicator. See {@link AgentBaseManager#setInputDeduplication(float, int)}.
+ */
+public final class InputDeduplicator {
+
+    private static final int AXES = 5;
+
+    /**
+     * The last sent state of a player. Only the invalidated flag is written by other threads than the owner.
+     */
+    private static final class Slot {
+        private final float[] axes = new float[AXES];
+        private byte buttons;
+        private boolean hasSent;
+        private int unchangedTicks;
+        private volatile long suppressedInputs; // Single writer
+        private final AtomicBoolean invalidated = new AtomicBoolean();
+    }
+
+    private final float tolerance;
+    private final int keepAliveTicks;
+
+    /**
+     * Grown copy-on-write, so threads holding the previous array keep using the same slots.
+     */
+    private volatile Slot[] slots = new Slot[0];
+
+    /**
+     * @param players the number of players in the match. Inputs of players with a larger index are never suppressed.
+     * @param tolerance the largest difference of the analog values that is considered unchanged. Use 0 to only
+     *                  suppress identical inputs.
+     * @param keepAliveTicks send an unchanged input anyway every {@code keepAliveTicks}th time.
+     */
+    public InputDeduplicator(int players, float tolerance, int keepAliveTicks) {
+        this.tolerance = tolerance;
+        this.keepAliveTicks = Math.max(1, keepAliveTicks);
+        newMatch(players);
+    }
+
+    /**
+     * Prepare for a new match, so the first input of every player is sent. Players of the previous match keep
+     * their slots, so threads still sending their inputs are unaffected.
+     *
+     * @param players the number of players in the new match.
+     */
+    public synchronized void newMatch(int players) {
+        var current = slots;
+        if (players > current.length) {
+            var grown = Arrays.copyOf(current, players);
+            for (int i = current.length; i < players; i++) {
+                grown[i] = new Slot();
+            }
+            slots = grown;
+        }
+        for (var slot : slots) {
+            slot.invalidated.set(true);
+        }
+    }
+
+    /**
+     * Decide whether the input should be sent. If so, it is recorded as the last sent input of the player.
+     *
+     * @param index the index of the player.
+     * @param controller the input of the player.
+     * @return {@code true} if the input should be sent.
+     */
+    public boolean shouldSend(int index, ControllerStateT controller) {
+        var slots = this.slots;
+        if (index < 0 || index >= slots.length) {
+            return true;
+        }
+        var slot = slots[index];
+        var axes = slot.axes;
+        byte pressed = buttonsOf(controller);
+        boolean invalidated = slot.invalidated.get() && slot.invalidated.getAndSet(false);
+        if (!invalidated
+                && slot.hasSent
+                && slot.buttons == pressed
+                && Math.abs(axes[0] - controller.getThrottle()) <= tolerance
+                && Math.abs(axes[1] - controller.getSteer()) <= tolerance
+                && Math.abs(axes[2] - controller.getPitch()) <= tolerance
+                && Math.abs(axes[3] - controller.getYaw()) <= tolerance
+                && Math.abs(axes[4] - controller.getRoll()) <= tolerance
+                && ++slot.unchangedTicks < keepAliveTicks) {
+            slot.suppressedInputs++;
+            return false;
+        }
+        axes[0] = controller.getThrottle();
+        axes[1] = controller.getSteer();
+        axes[2] = controller.getPitch();
+        axes[3] = controller.getYaw();
+        axes[4] = controller.getRoll();
+        slot.buttons = pressed;
+        slot.hasSent = true;
+        slot.unchangedTicks = 0;
+        return true;
+    }
+
+    /**
+     * Forget the last sent input of a player, so the next input is always sent. May be called from any thread.
+     *
+     * @param index the index of the player.
+     */
+    public void invalidate(int index) {
+        var slots = this.slots;
+        if (index >= 0 && index < slots.length) {
+            slots[index].invalidated.set(true);
+        }
+    }
+
+    /**
+     * @return the number of inputs suppressed so far.
+     */
+    public long getSuppressedInputs() {
+        long suppressed = 0;
+        for (var slot : slots) {
+            suppressed += slot.suppressedInputs;
+        }
+        return suppressed;
+    }
+
+    private static byte buttonsOf(ControllerStateT controller) {
+        return (byte) ((controller.getJump() ? 1 : 0)
+                | (controller.getBoost() ? 2 : 0)
+                | (controller.getHandbrake() ? 4 : 0)
+                | (controller.getUseItem() ? 8 : 0));
+    }
+}
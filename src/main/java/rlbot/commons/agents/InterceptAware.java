@@ -0,0 +1,46 @@
+package rlbot.commons.agents;
+
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.commons.prediction.InterceptKernel;
+
+/**
+ * Implemented by hiveminds that coordinate which car goes for the ball. Every computed tick with a ball prediction,
+ * the {@link HivemindManager} evaluates the prediction against all cars of the hivemind at once with the
+ * {@link InterceptKernel} and hands the earliest reachable slice of each car to the hivemind before its outputs.
+ * <p>
+ * The cars are addressed by slot, like {@link InPlaceHivemind}, i.e. slot {@code i} is the car with index
+ * {@code indices.get(i)} in the list of indices given to the {@link HivemindFactory}.
+ *
+ * @see InterceptKernel
+ */
+public interface InterceptAware {
+
+    /**
+     * @return the average speed assumed for a car with full boost in uu/s.
+     */
+    default float interceptBoostSpeed() {
+        return 2300;
+    }
+
+    /**
+     * @return the average speed assumed for a car with no boost in uu/s.
+     */
+    default float interceptSpeed() {
+        return 1410;
+    }
+
+    /**
+     * @return the height above which ball prediction slices are ignored.
+     */
+    default float interceptMaxHeight() {
+        return 300;
+    }
+
+    /**
+     * Invoked on the hivemind's thread before its outputs of the tick are computed.
+     * @param ballPrediction the ball prediction the slices refer to.
+     * @param firstReachable the index of the earliest reachable slice of the car in each slot, or {@code -1} if none
+     *                       is reachable. The array is reused, so do not keep a reference to it beyond the tick.
+     */
+    void onIntercepts(BallPredictionBuffer ballPrediction, int[] firstReachable);
+}
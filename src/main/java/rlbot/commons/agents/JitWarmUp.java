@@ -0,0 +1,189 @@
+package rlbot.commons.agents;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.commons.prediction.BallPredictionBufferPool;
+import rlbot.commons.prediction.BallPredictor;
+import rlbot.commons.protocol.SpecWriter;
+import rlbot.flat.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Produces synthetic game packets and ball predictions to warm up the JIT compiler before a match starts,
+ * see {@link AgentBaseManager#setWarmUp(int)}. Every packet is packed into a flatbuffer and decoded again
+ * through the same path as the packets from RLBot, and inputs are packed by a {@link SpecWriter}
+ * writing to nowhere. The cars and the ball are placed randomly each tick, so the agents take varied branches.
+ * <p>
+ * A warm-up is not thread-safe. Use one per thread.
+ */
+final class JitWarmUp {
+
+    private final int[] teams;
+    private final Random random = new Random(0x5eed);
+    private final FlatBufferBuilder builder = new FlatBufferBuilder(1 << 14);
+    private final SpecWriter writer = new SpecWriter(OutputStream.nullOutputStream());
+    private final BallPredictor predictor = new BallPredictor();
+    private final BallPredictionBufferPool pool = new BallPredictionBufferPool();
+    private final ControllerStateT input = new ControllerStateT();
+    private long frameNum = 0;
+
+    /**
+     * @param teams the team of each player of the synthetic packets.
+     */
+    JitWarmUp(int[] teams) {
+        this.teams = teams;
+    }
+
+    /**
+     * @param config the match configuration to mimic.
+     * @return a warm-up with the players of the given match.
+     */
+    static JitWarmUp of(MatchConfigurationT config) {
+        var players = config.getPlayerConfigurations();
+        var teams = new int[players.length];
+        for (int i = 0; i < players.length; i++) {
+            teams[i] = (int) players[i].getTeam();
+        }
+        return new JitWarmUp(teams);
+    }
+
+    /**
+     * Exercise the decoding, prediction, and input packing paths without any agents, until the given
+     * number of ticks have passed or the stop condition is met.
+     *
+     * @param ticks the number of ticks.
+     * @param stop the stop condition, checked every tick.
+     */
+    void runPipeline(int ticks, BooleanSupplier stop) {
+        for (int t = 0; t < ticks && !stop.getAsBoolean(); t++) {
+            var packet = nextPacket();
+            var prediction = nextBallPrediction(packet);
+            prediction.queries().nextGroundContact(0);
+            prediction.release();
+            for (int i = 0; i < teams.length; i++) {
+                input.setThrottle(random.nextFloat());
+                input.setSteer(random.nextFloat() * 2 - 1);
+                input.setBoost(random.nextBoolean());
+                send(i, input);
+            }
+        }
+    }
+
+    /**
+     * @return the next synthetic game packet, decoded from a flatbuffer.
+     */
+    GamePacketT nextPacket() {
+        var packet = new GamePacketT();
+        var info = new MatchInfoT();
+        info.setFrameNum(frameNum++);
+        info.setSecondsElapsed(frameNum / 120f);
+        info.setGameTimeRemaining(300 - frameNum / 120f);
+        info.setMatchPhase(frameNum % 2 == 0 ? MatchPhase.Active : MatchPhase.Kickoff);
+        info.setWorldGravityZ(BallPredictor.DEFAULT_GRAVITY);
+        info.setGameSpeed(1);
+        packet.setMatchInfo(info);
+
+        var players = new PlayerInfoT[teams.length];
+        for (int i = 0; i < players.length; i++) {
+            var player = new PlayerInfoT();
+            randomize(player.getPhysics(), 4000, 17);
+            var hitbox = new BoxShapeT();
+            hitbox.setLength(118);
+            hitbox.setWidth(84);
+            hitbox.setHeight(36);
+            player.setHitbox(hitbox);
+            player.setAirState(random.nextInt(2) == 0 ? AirState.OnGround : AirState.InAir);
+            player.setName("Warm-up " + i);
+            player.setAccolades(new String[0]);
+            player.setTeam(teams[i]);
+            player.setBoost(random.nextInt(101));
+            player.setIsBot(true);
+            player.setPlayerId(i);
+            players[i] = player;
+        }
+        packet.setPlayers(players);
+
+        var ball = new BallInfoT();
+        randomize(ball.getPhysics(), 3000, 93);
+        var sphere = new SphereShapeT();
+        sphere.setDiameter(185.5f);
+        var shape = new CollisionShapeUnion();
+        shape.setType(CollisionShape.SphereShape);
+        shape.setValue(sphere);
+        ball.setShape(shape);
+        packet.setBalls(new BallInfoT[]{ball});
+
+        var pads = new BoostPadStateT[34];
+        for (int i = 0; i < pads.length; i++) {
+            pads[i] = new BoostPadStateT();
+            pads[i].setIsActive(random.nextBoolean());
+        }
+        packet.setBoostPads(pads);
+        packet.setTeams(new TeamInfoT[]{new TeamInfoT(), new TeamInfoT()});
+
+        var msg = new CoreMessageUnion();
+        msg.setType(CoreMessage.GamePacket);
+        msg.setValue(packet);
+        return decode(msg).getMessage().asGamePacket();
+    }
+
+    /**
+     * @param packet a synthetic game packet.
+     * @return a ball prediction of the packet's ball, filled from a flatbuffer. The caller owns one reference.
+     */
+    BallPredictionBuffer nextBallPrediction(GamePacketT packet) {
+        var predicted = pool.acquire();
+        predictor.predict(packet, 0, predicted);
+        var msg = new CoreMessageUnion();
+        msg.setType(CoreMessage.BallPrediction);
+        msg.setValue(predicted.toBallPredictionT());
+        predicted.release();
+
+        var raw = pack(msg);
+        var buffer = pool.acquire();
+        buffer.fill((BallPrediction) raw.message(new BallPrediction()));
+        return buffer;
+    }
+
+    /**
+     * Pack the input of a player like {@link rlbot.commons.protocol.RLBotInterface#sendPlayerInput(int, ControllerStateT)},
+     * but discard it.
+     */
+    void send(int index, ControllerStateT controller) {
+        if (controller == null) {
+            return;
+        }
+        try {
+            writer.writePlayerInput(index, controller);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private CorePacketT decode(CoreMessageUnion msg) {
+        return pack(msg).unpack();
+    }
+
+    private CorePacket pack(CoreMessageUnion msg) {
+        var packet = new CorePacketT();
+        packet.setMessage(msg);
+        builder.clear();
+        builder.finish(CorePacket.pack(builder, packet));
+        return CorePacket.getRootAsCorePacket(builder.dataBuffer());
+    }
+
+    private void randomize(PhysicsT physics, float range, float z) {
+        physics.getLocation().setX((random.nextFloat() * 2 - 1) * range);
+        physics.getLocation().setY((random.nextFloat() * 2 - 1) * range);
+        physics.getLocation().setZ(z + random.nextFloat() * 500);
+        physics.getVelocity().setX((random.nextFloat() * 2 - 1) * 1500);
+        physics.getVelocity().setY((random.nextFloat() * 2 - 1) * 1500);
+        physics.getVelocity().setZ((random.nextFloat() * 2 - 1) * 500);
+        physics.getRotation().setYaw((random.nextFloat() * 2 - 1) * (float) Math.PI);
+        physics.getAngularVelocity().setZ((random.nextFloat() * 2 - 1) * 3);
+    }
+}
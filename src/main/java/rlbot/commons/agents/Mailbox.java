@@ -0,0 +1,65 @@
+package rlbot.commons.agents;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded lock-free single-producer single-consumer queue. Used to hand messages from the thread reading
+ * from RLBot to the thread running an agent without either of them waiting on the other.
+ * The consumer may move between threads, as long as consecutive drains are ordered by a happens-before relation.
+ */
+final class Mailbox<E> {
+
+    private final Object[] items;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // Next index to read, written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // Next index to write, written by the producer
+
+    /**
+     * @param capacity the minimum capacity. It is rounded up to a power of two.
+     */
+    Mailbox(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.items = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Add a message. Must only be called by the producer.
+     *
+     * @return {@code false} if the mailbox is full and the message was dropped.
+     */
+    boolean offer(E item) {
+        long t = tail.get();
+        if (t - head.get() >= items.length) {
+            return false;
+        }
+        items[(int) (t & mask)] = item;
+        tail.lazySet(t + 1); // Publishes the item
+        return true;
+    }
+
+    /**
+     * Move the queued messages into the given array. Must only be called by the consumer.
+     *
+     * @return the number of messages moved.
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(E[] dst) {
+        long h = head.get();
+        int n = (int) Math.min(tail.get() - h, dst.length);
+        for (int i = 0; i < n; i++) {
+            int index = (int) ((h + i) & mask);
+            dst[i] = (E) items[index];
+            items[index] = null;
+        }
+        head.lazySet(h + n);
+        return n;
+    }
+
+    /**
+     * @return {@code true} if there are no queued messages. May be called by either side.
+     */
+    boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+}
@@ -0,0 +1,56 @@
+package rlbot.commons.agents;
+
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.flat.*;
+
+/**
+ * An {@link InPlaceHivemind} whose cars are computed in parallel. Each tick consists of two phases:
+ * <ol>
+ *     <li>The team phase, {@link #planTeam}, runs once, fx. to assign roles.</li>
+ *     <li>The car phase, {@link #writeCarOutput}, runs for every car concurrently on a
+ *     {@link java.util.concurrent.ForkJoinPool}. The manager waits for all cars before sending the inputs.</li>
+ * </ol>
+ * The car phases run against the same packet and ball prediction, which must be treated as read-only,
+ * and may read the results of the team phase. Each car phase has its own {@link TickArena}.
+ *
+ * @see HivemindManager#setForkJoinPool(java.util.concurrent.ForkJoinPool)
+ */
+public interface ParallelHivemind extends InPlaceHivemind {
+
+    /**
+     * The team phase of a tick. Runs before the car phases of the tick.
+     * @param packet the latest game packet.
+     * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     */
+    void planTeam(GamePacketT packet, BallPredictionBuffer ballPrediction);
+
+    /**
+     * The car phase of a tick. Runs concurrently with the car phases of the other slots.
+     * @param slot the slot of the car, see {@link InPlaceHivemind}.
+     * @param packet the latest game packet.
+     * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     * @param output the controller state of the slot, which keeps its values from the previous tick.
+     * @return {@code true} if the output should be sent.
+     */
+    boolean writeCarOutput(int slot, GamePacketT packet, BallPredictionBuffer ballPrediction, ControllerStateT output);
+
+    /**
+     * Runs the phases sequentially on a buffer filled from the given ball prediction.
+     * The {@link HivemindManager} uses {@link #getOutputsFromBuffer(GamePacketT, BallPredictionBuffer, ControllerStateT[], boolean[])} instead.
+     */
+    @Override
+    default void getOutputs(GamePacketT packet, BallPredictionT ballPrediction, ControllerStateT[] outputs, boolean[] written) {
+        getOutputsFromBuffer(packet, ballPrediction == null ? null : BallPredictionBuffer.of(ballPrediction), outputs, written);
+    }
+
+    /**
+     * Runs the phases sequentially. The {@link HivemindManager} runs the car phases in parallel instead.
+     */
+    @Override
+    default void getOutputsFromBuffer(GamePacketT packet, BallPredictionBuffer ballPrediction, ControllerStateT[] outputs, boolean[] written) {
+        planTeam(packet, ballPrediction);
+        for (int slot = 0; slot < outputs.length; slot++) {
+            written[slot] = writeCarOutput(slot, packet, ballPrediction, outputs[slot]);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package rlbot.commons.agents;
+
+import rlbot.flat.GamePacketT;
+import rlbot.flat.MatchPhase;
+
+/**
+ * Decides how often an agent computes its output in each {@link MatchPhase}. During replays, countdowns, pauses,
+ * and so on, the cars cannot act, so computing the outputs every tick is wasted.
+ * <p>
+ * The policy is set on the manager with {@link AgentBaseManager#setPhasePolicy(PhasePolicy)}. An agent can
+ * implement this interface itself to use its own policy instead. The policy is consulted on the thread reading
+ * messages from RLBot, not on the agent's thread. Skipped ticks are not handed to the agent at all,
+ * so its thread stays parked. Agents are notified of phase changes through their {@code onPhaseChange} method,
+ * even if the policy skips the phase.
+ */
+@FunctionalInterface
+public interface PhasePolicy {
+
+    /**
+     * Compute every tick in all phases. This is the default.
+     */
+    PhasePolicy ALWAYS = phase -> 1;
+
+    /**
+     * Compute every tick in playable phases and never in the others, see {@link #isPlayable(int)}.
+     */
+    PhasePolicy SKIP_NON_PLAYABLE = phase -> isPlayable(phase) ? 1 : 0;
+
+    /**
+     * @param divisor compute every {@code divisor}th tick in non-playable phases.
+     * @return a policy computing every tick in playable phases and every {@code divisor}th tick in the others.
+     */
+    static PhasePolicy downsampleNonPlayable(int divisor) {
+        return phase -> isPlayable(phase) ? 1 : divisor;
+    }
+
+    /**
+     * @param phase a {@link MatchPhase}.
+     * @return {@code false} if the cars cannot act in the phase, i.e. during
+     * {@link MatchPhase#Countdown}, {@link MatchPhase#GoalScored}, {@link MatchPhase#Replay},
+     * {@link MatchPhase#Paused}, and {@link MatchPhase#Ended}.
+     */
+    static boolean isPlayable(int phase) {
+        return phase == MatchPhase.Inactive || phase == MatchPhase.Kickoff || phase == MatchPhase.Active;
+    }
+
+    /**
+     * @param phase a {@link MatchPhase}.
+     * @return compute every n'th tick in the given phase, where 1 is every tick and 0 is never.
+     */
+    int tickDivisor(int phase);
+
+    /**
+     * @param packet the game packet of a tick.
+     * @return {@code true} if the output should be computed for the given packet.
+     * Uses the frame number of the packet, so downsampled agents compute on the same frames.
+     */
+    default boolean shouldCompute(GamePacketT packet) {
+        var info = packet.getMatchInfo();
+        int divisor = tickDivisor(info.getMatchPhase());
+        return divisor == 1 || (divisor > 0 && info.getFrameNum() % divisor == 0);
+    }
+}
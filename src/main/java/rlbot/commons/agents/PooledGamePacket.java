@@ -0,0 +1,45 @@
+package rlbot.commons.agents;
+
+import rlbot.flat.GamePacketT;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A game packet decoded into an object graph that is reused for later packets, see
+ * {@link AgentBaseManager#setReuseGamePackets(boolean)}. It is reference counted like a
+ * {@link rlbot.commons.prediction.BallPredictionBuffer}: once everyone holding it has released it,
+ * it returns to its pool and is overwritten by a later packet.
+ */
+final class PooledGamePacket {
+
+    private final GamePacketPool pool;
+    private final GamePacketT packet = new GamePacketT();
+    private final AtomicInteger refs = new AtomicInteger();
+
+    PooledGamePacket(GamePacketPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return the decoded packet. Only valid while a reference is held.
+     */
+    GamePacketT packet() {
+        return packet;
+    }
+
+    /**
+     * Increment the reference count of this packet.
+     */
+    void retain() {
+        refs.incrementAndGet();
+    }
+
+    /**
+     * Decrement the reference count of this packet. Once no references remain, the packet is returned to its pool.
+     */
+    void release() {
+        if (refs.decrementAndGet() == 0) {
+            pool.recycle(this);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package rlbot.commons.agents;
 
+import rlbot.commons.prediction.BallPredictionBuffer;
 import rlbot.flat.*;
 
 /**
@@ -15,9 +16,21 @@ public interface Script {
      * Process the latest game state.
      * @param packet the latest game packet.
      * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     * @see Script#processBuffer(GamePacketT, BallPredictionBuffer)
      */
     void process(GamePacketT packet, BallPredictionT ballPrediction);
 
+    /**
+     * Process the latest game state, reading the ball prediction from a {@link BallPredictionBuffer}
+     * that is only valid until this method returns. This is the method invoked by the {@link ScriptManager}.
+     * By default, this delegates to {@link Script#process(GamePacketT, BallPredictionT)}.
+     * @param packet the latest game packet.
+     * @param ballPrediction the latest ball prediction. May be null if ball prediction was not requested.
+     */
+    default void processBuffer(GamePacketT packet, BallPredictionBuffer ballPrediction) {
+        process(packet, ballPrediction == null ? null : ballPrediction.asBallPredictionT());
+    }
+
     /**
      * Process an incoming {@link MatchComm} message.
      * See the index and team field to determine the sender.
@@ -25,6 +38,32 @@ public interface Script {
      */
     void onMatchCommReceived(MatchCommT comm);
 
+    /**
+     * Invoked when the {@link MatchPhase} changes, fx. to warm up caches before a kickoff.
+     * Invoked on the agent's own thread before the first tick of the new phase, even if that tick is skipped
+     * by the manager's {@link PhasePolicy}.
+     * @param previousPhase the previous phase, or -1 if this is the first phase seen.
+     * @param phase the new phase.
+     */
+    default void onPhaseChange(int previousPhase, int phase) {
+
+    }
+
+    /**
+     * Invoked when a new match starts on a connection that outlives matches, see
+     * {@link AgentBaseManager#setOutliveMatches(boolean)}. Return {@code true} to keep using this script in the new match,
+     * fx. to keep its lookup tables and caches. Return {@code false} to have it retired and replaced by a new
+     * instance from the factory. The script is only kept if it has the same index in the new match's script
+     * configurations as before. Invoked on the script's thread between ticks, i.e. its compute thread if enabled,
+     * before the first tick of the new match.
+     * @param matchConfig the configuration of the new match.
+     * @param fieldInfo the field of the new match.
+     * @return whether this script is ready for the new match. Default is {@code false}.
+     */
+    default boolean onNewMatch(MatchConfigurationT matchConfig, FieldInfoT fieldInfo) {
+        return false;
+    }
+
     /**
      * Invoked when the script is shut down. Use this to dispose of resources.
      */
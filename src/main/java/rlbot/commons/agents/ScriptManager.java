@@ -1,5 +1,7 @@
 package rlbot.commons.agents;
 
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.flat.GamePacketT;
 import rlbot.flat.MatchCommT;
 import rlbot.commons.protocol.RLBotInterface;
 
@@ -12,6 +14,9 @@ import rlbot.commons.protocol.RLBotInterface;
  * A script is a car-less observer of a match.
  * It can also do debug rendering, send match comms, and do state-setting.
  * <p>
+ * Optionally, see {@link ScriptManager#setComputeThread(boolean)}, the script runs on a dedicated compute thread
+ * instead of the thread reading messages from RLBot.
+ * <p>
  * Example usage:
  * <pre>
  *     {@code
@@ -26,10 +31,22 @@ import rlbot.commons.protocol.RLBotInterface;
 public class ScriptManager extends AgentBaseManager {
 
     private final ScriptFactory scriptFactory;
+    private final TickArena arena = new TickArena();
     private Script script;
     private int index;
     private String name;
 
+    /**
+     * The match phase of the latest dispatched tick, and of the latest tick seen by the script.
+     */
+    private int dispatchedPhase = -1;
+    private int scriptPhase = -1;
+
+    private TickRate tickRate;
+
+    private boolean useComputeThread = false;
+    private TickWorker worker;
+
     /**
      * Construct a ScriptManager. The manager must be constructed with an {@link RLBotInterface},
      * a default agent ID that should match the player configuration agent ID, and a {@link ScriptFactory}
@@ -44,13 +61,49 @@ public class ScriptManager extends AgentBaseManager {
         this.scriptFactory = scriptFactory;
     }
 
+    /**
+     * Run the script on a dedicated compute thread fed with the latest tick, so a slow script does not stop
+     * the reading of messages from RLBot. Ticks arriving while the script is busy replace each other, see
+     * {@link ScriptManager#getSkippedTicks()}. Match comms are also handled on the compute thread.
+     * Must be called before {@link ScriptManager#run()}. Default is {@code false}.
+     *
+     * @param enabled whether to use a dedicated compute thread.
+     */
+    public void setComputeThread(boolean enabled) {
+        this.useComputeThread = enabled;
+    }
+
+    /**
+     * @return the tick rate of the script, fx. to report its effective rate, or {@code null} before initialization.
+     */
+    public TickRate getTickRate() {
+        return tickRate;
+    }
+
+    private boolean shouldCompute(GamePacketT packet) {
+        return phasePolicyOf(script).shouldCompute(packet) && tickRate.shouldCompute(packet.getMatchInfo().getFrameNum());
+    }
+
+    /**
+     * @return the number of ticks skipped by the compute thread because a newer tick arrived first.
+     * Always 0 without a compute thread.
+     */
+    public long getSkippedTicks() {
+        return worker == null ? 0 : worker.getSkippedTicks();
+    }
+
     @Override
     void initialize() {
+        tickRate = newTickRate();
         var agent = getTeamInfo().getControllables()[0];
         index = (int) agent.getIndex();
         name = getMatchConfig().getScriptConfigurations()[index].getName();
 
         script = scriptFactory.create(getRlbotInterface(), index, getAgentId(), getMatchConfig(), getFieldInfo());
+
+        if (useComputeThread) {
+            worker = new TickWorker("Script " + name, this::processTick);
+        }
     }
 
     @Override
@@ -58,15 +111,121 @@ public class ScriptManager extends AgentBaseManager {
         if (script == null) {
             return;
         }
+        int phase = latestGamePacket.getMatchInfo().getMatchPhase();
+        boolean phaseChanged = phase != dispatchedPhase;
+        dispatchedPhase = phase;
+        // The tick rate is only evaluated here, on the thread reading messages
+        boolean compute = shouldCompute(latestGamePacket);
+        if (!phaseChanged && !compute) {
+            return;
+        }
+        if (worker != null) {
+            worker.submit(latestGamePacket, latestPooledGamePacket, latestBallPrediction, compute);
+        } else {
+            processTick(latestGamePacket, latestBallPrediction, compute);
+        }
+    }
+
+    private void processTick(GamePacketT packet, BallPredictionBuffer ballPrediction, boolean compute) {
+        int phase = packet.getMatchInfo().getMatchPhase();
+        if (phase != scriptPhase) {
+            int previousPhase = scriptPhase;
+            scriptPhase = phase;
+            try {
+                script.onPhaseChange(previousPhase, phase);
+            } catch (RuntimeException e) {
+                logger.severe(name + " encountered an error while handling a phase change: " + e.getMessage());
+            }
+        }
+        if (!compute) {
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        arena.activate();
         try {
-            script.process(latestGamePacket, latestBallPrediction);
+            script.processBuffer(packet, ballPrediction);
         } catch (Exception e) {
             logger.severe(name + " encountered an error while processing game packet: " + e.getMessage());
+        } finally {
+            arena.reset();
+        }
+        tickRate.recordCompute(start, System.nanoTime() - start, getPacketIntervalNanos());
+    }
+
+    @Override
+    void startNewMatch() {
+        var newIndex = (int) getTeamInfo().getControllables()[0].getIndex();
+        if (newIndex == index && acceptsNewMatch()) {
+            dispatchedPhase = -1;
+            return;
+        }
+
+        // Replace the script
+        if (worker != null) {
+            worker.stop();
+            worker = null;
+        }
+        script.onRetire();
+        script = null;
+        dispatchedPhase = -1;
+        scriptPhase = -1;
+        initialize();
+    }
+
+    /**
+     * Ask the script on its own thread whether it is kept, so it is never called while inside a tick.
+     */
+    private boolean acceptsNewMatch() {
+        return worker != null ? worker.call(this::tryAcceptNewMatch) : tryAcceptNewMatch();
+    }
+
+    private boolean tryAcceptNewMatch() {
+        try {
+            if (!script.onNewMatch(getMatchConfig(), getFieldInfo())) {
+                return false;
+            }
+            // The phase of the new match is delivered to the script as a phase change
+            scriptPhase = -1;
+            return true;
+        } catch (RuntimeException e) {
+            logger.severe(name + " encountered an error while preparing for a new match: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    void warmUpAgents(int ticks) {
+        if (!(script instanceof WarmUpParticipant participant)) {
+            return;
+        }
+        var warmUp = JitWarmUp.of(getMatchConfig());
+        try {
+            participant.onWarmUpStarted();
+            for (int t = 0; t < ticks; t++) {
+                var packet = warmUp.nextPacket();
+                var ballPrediction = warmUp.nextBallPrediction(packet);
+                arena.activate();
+                try {
+                    script.processBuffer(packet, ballPrediction);
+                } finally {
+                    ballPrediction.release();
+                    arena.reset();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.severe(name + " encountered an error during warm-up: " + e.getMessage());
+        } finally {
+            participant.onWarmUpFinished();
         }
     }
 
     @Override
     protected void retire() {
+        if (worker != null) {
+            worker.stop();
+        }
         if (script != null) {
             script.onRetire();
         }
@@ -77,6 +236,14 @@ public class ScriptManager extends AgentBaseManager {
         if (script == null) {
             return;
         }
+        if (worker != null) {
+            worker.execute(() -> handleMatchComm(comm));
+        } else {
+            handleMatchComm(comm);
+        }
+    }
+
+    private void handleMatchComm(MatchCommT comm) {
         try {
             script.onMatchCommReceived(comm);
         } catch (Exception e) {
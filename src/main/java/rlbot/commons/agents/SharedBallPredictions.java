@@ -0,0 +1,67 @@
+package rlbot.commons.agents;
+
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.commons.prediction.BallPredictionBufferPool;
+import rlbot.flat.BallPrediction;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Ball prediction buffers shared by the managers of an {@link AgentHost}. The first manager to receive the
+ * prediction of a frame fills a buffer, and the other managers retain the same buffer. Frames are identified by
+ * the 'frame_num' of the game packet received before the prediction.
+ */
+final class SharedBallPredictions {
+
+    private static final int FRAMES = 8;
+
+    private final BallPredictionBufferPool pool = new BallPredictionBufferPool();
+    private final Map<Long, BallPredictionBuffer> buffers = new LinkedHashMap<>();
+    private BallPredictionBuffer newest;
+
+    /**
+     * Get the buffer of the given frame, filling it if no other manager has yet.
+     *
+     * @param frameNum the frame of the prediction.
+     * @param prediction the received ball prediction.
+     * @return the buffer. The caller owns one reference.
+     */
+    synchronized BallPredictionBuffer acquire(long frameNum, BallPrediction prediction) {
+        var buffer = buffers.get(frameNum);
+        if (buffer == null) {
+            // The cache holds one reference of its own until the frame is evicted
+            buffer = pool.acquire();
+            buffer.fill(prediction, Integer.MAX_VALUE, newest);
+            buffers.put(frameNum, buffer);
+            newest = buffer;
+            evict(frameNum);
+        }
+        buffer.retain();
+        return buffer;
+    }
+
+    private void evict(long frameNum) {
+        Iterator<Map.Entry<Long, BallPredictionBuffer>> it = buffers.entrySet().iterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            long cached = entry.getKey();
+            if (cached <= frameNum - FRAMES || cached > frameNum + FRAMES) {
+                entry.getValue().release();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Release all cached buffers.
+     */
+    synchronized void clear() {
+        for (var buffer : buffers.values()) {
+            buffer.release();
+        }
+        buffers.clear();
+        newest = null;
+    }
+}
@@ -0,0 +1,202 @@
+package rlbot.commons.agents;
+
+import rlbot.flat.ControllerStateT;
+import rlbot.flat.Vector3T;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A per-tick scratch allocator for agents. The managers give each agent thread its own arena
+ * and reset it in bulk once the agent has produced its output for the tick. Objects obtained
+ * from the arena must therefore not be kept beyond the current tick.
+ * <p>
+ * Use {@link TickArena#current()} from within {@link Bot#getOutput}, {@link Hivemind#getOutputs},
+ * or {@link Script#process} to get the arena of the calling thread. A {@link ControllerStateT} from
+ * the arena may be returned as the agent's output, since the manager sends it before resetting the arena.
+ * <p>
+ * Run with {@code -Drlbot.arena.debug=true} to poison released objects with {@code NaN}, which makes
+ * references escaping the tick easy to spot. The managers will also log a warning and skip the input if an agent returns
+ * a controller state from a previous tick.
+ * <p>
+ * Example usage:
+ * <pre>
+ *     {@code
+ *         var arena = TickArena.current();
+ *         var controller = arena.controllerState();
+ *         var toBall = arena.vector3(ballX - carX, ballY - carY, 0);
+ *     }
+ * </pre>
+ */
+public final class TickArena {
+
+    /**
+     * Whether released arena objects should be poisoned to detect escaping references.
+     */
+    public static final boolean DEBUG = Boolean.getBoolean("rlbot.arena.debug");
+
+    private static final ThreadLocal<TickArena> CURRENT = new ThreadLocal<>();
+
+    private final ArrayList<Vector3T> vectors = new ArrayList<>();
+    private int vectorsUsed = 0;
+
+    private final ArrayList<ControllerStateT> controllers = new ArrayList<>();
+    private int controllersUsed = 0;
+
+    private final ArrayList<float[]> floatArrays = new ArrayList<>();
+    private int floatArraysUsed = 0;
+
+    private final ArrayList<int[]> intArrays = new ArrayList<>();
+    private int intArraysUsed = 0;
+
+    /**
+     * @return the arena of the calling agent thread, or {@code null} if the calling thread is not managed
+     * by an agent manager.
+     */
+    public static TickArena current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Make this arena the arena of the calling thread.
+     */
+    void activate() {
+        CURRENT.set(this);
+    }
+
+    /**
+     * @return a zeroed {@link Vector3T} valid until the end of the tick.
+     */
+    public Vector3T vector3() {
+        return vector3(0f, 0f, 0f);
+    }
+
+    /**
+     * @return a {@link Vector3T} with the given components valid until the end of the tick.
+     */
+    public Vector3T vector3(float x, float y, float z) {
+        Vector3T vec;
+        if (vectorsUsed < vectors.size()) {
+            vec = vectors.get(vectorsUsed);
+        } else {
+            vec = new Vector3T();
+            vectors.add(vec);
+        }
+        vectorsUsed++;
+        vec.setX(x);
+        vec.setY(y);
+        vec.setZ(z);
+        return vec;
+    }
+
+    /**
+     * @return a neutral {@link ControllerStateT} valid until the end of the tick.
+     */
+    public ControllerStateT controllerState() {
+        ControllerStateT controller;
+        if (controllersUsed < controllers.size()) {
+            controller = controllers.get(controllersUsed);
+        } else {
+            controller = new ControllerStateT();
+            controllers.add(controller);
+        }
+        controllersUsed++;
+        fill(controller, 0f);
+        return controller;
+    }
+
+    /**
+     * @param length the length of the array.
+     * @return a zeroed float array of the given length valid until the end of the tick.
+     */
+    public float[] floatArray(int length) {
+        // Arrays are recycled by exact length. Agents typically only use a few distinct lengths,
+        // so we look for an unused array of that length among the ones not yet handed out this tick.
+        for (int i = floatArraysUsed; i < floatArrays.size(); i++) {
+            var arr = floatArrays.get(i);
+            if (arr.length == length) {
+                swap(floatArrays, i, floatArraysUsed++);
+                Arrays.fill(arr, 0f);
+                return arr;
+            }
+        }
+        var arr = new float[length];
+        floatArrays.add(arr);
+        swap(floatArrays, floatArrays.size() - 1, floatArraysUsed++);
+        return arr;
+    }
+
+    /**
+     * @param length the length of the array.
+     * @return a zeroed int array of the given length valid until the end of the tick.
+     */
+    public int[] intArray(int length) {
+        for (int i = intArraysUsed; i < intArrays.size(); i++) {
+            var arr = intArrays.get(i);
+            if (arr.length == length) {
+                swap(intArrays, i, intArraysUsed++);
+                Arrays.fill(arr, 0);
+                return arr;
+            }
+        }
+        var arr = new int[length];
+        intArrays.add(arr);
+        swap(intArrays, intArrays.size() - 1, intArraysUsed++);
+        return arr;
+    }
+
+    /**
+     * Release all objects handed out since the last reset. Invoked by the managers once the tick is done.
+     * In debug mode the released objects are poisoned.
+     */
+    public void reset() {
+        if (DEBUG) {
+            for (int i = 0; i < vectorsUsed; i++) {
+                var vec = vectors.get(i);
+                vec.setX(Float.NaN);
+                vec.setY(Float.NaN);
+                vec.setZ(Float.NaN);
+            }
+            for (int i = 0; i < controllersUsed; i++) {
+                fill(controllers.get(i), Float.NaN);
+            }
+            for (int i = 0; i < floatArraysUsed; i++) {
+                Arrays.fill(floatArrays.get(i), Float.NaN);
+            }
+            for (int i = 0; i < intArraysUsed; i++) {
+                Arrays.fill(intArrays.get(i), Integer.MIN_VALUE);
+            }
+        }
+        vectorsUsed = 0;
+        controllersUsed = 0;
+        floatArraysUsed = 0;
+        intArraysUsed = 0;
+    }
+
+    /**
+     * Only meaningful in debug mode.
+     *
+     * @return {@code true} if the given controller state was obtained from an arena during a previous tick.
+     */
+    public static boolean isStale(ControllerStateT controller) {
+        return DEBUG && controller != null && Float.isNaN(controller.getThrottle());
+    }
+
+    private static void fill(ControllerStateT controller, float value) {
+        controller.setThrottle(value);
+        controller.setSteer(value);
+        controller.setPitch(value);
+        controller.setYaw(value);
+        controller.setRoll(value);
+        controller.setJump(false);
+        controller.setBoost(false);
+        controller.setHandbrake(false);
+        controller.setUseItem(false);
+    }
+
+    private static <E> void swap(ArrayList<E> list, int i, int j) {
+        if (i != j) {
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+}
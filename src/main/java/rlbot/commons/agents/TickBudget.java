@@ -0,0 +1,57 @@
+package rlbot.commons.agents;
+
+/**
+ * The time budget of the current tick. The {@link BotManager} derives the budget from the measured
+ * interval between game packets, so a bot can find out how much time it has left before its output is late,
+ * fx. to stop refining a plan early.
+ * <p>
+ * Use {@link TickBudget#current()} from within {@link Bot#getOutput} to get the budget of the calling bot.
+ *
+ * @see BotManager#setDeadline(double, DeadlineFallback, boolean)
+ */
+public final class TickBudget {
+
+    private static final ThreadLocal<TickBudget> CURRENT = new ThreadLocal<>();
+
+    private long deadlineNanos = Long.MAX_VALUE;
+
+    /**
+     * @return the budget of the calling bot thread, or {@code null} if the calling thread is not running a bot
+     * managed by a {@link BotManager}.
+     */
+    public static TickBudget current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Make this budget the budget of the calling thread.
+     */
+    void activate() {
+        CURRENT.set(this);
+    }
+
+    void setDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @return the deadline of the current tick in terms of {@link System#nanoTime()}.
+     */
+    public long deadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * @return the nanoseconds left until the deadline of the current tick. Negative if the deadline has passed.
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * @return {@code true} if the deadline of the current tick has passed.
+     */
+    public boolean isExpired() {
+        return remainingNanos() < 0;
+    }
+}
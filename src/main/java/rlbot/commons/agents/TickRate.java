@@ -0,0 +1,116 @@
+package rlbot.commons.agents;
+
+/**
+ * Decides which ticks an agent computes its output on, so cheap and expensive agents can run side by side with
+ * a predictable cadence instead of dropping packets at irregular times. Ticks are selected by
+ * {@code frameNum % divisor == 0}, where the divisor is either fixed or adapted to the agent's measured compute time.
+ * <p>
+ * A tick rate is stateful and belongs to a single agent. The managers create one per agent from the factory given to
+ * {@link AgentBaseManager#setTickRate(java.util.function.Supplier)}, fx. {@code () -> TickRate.adaptive(0.8, 8)}.
+ * The managers evaluate {@link #shouldCompute(long)} on the thread reading messages from RLBot only.
+ */
+public final class TickRate {
+
+    private final boolean adaptive;
+    private final double budgetFraction;
+    private final int maxDivisor;
+    private volatile int divisor;
+
+    private volatile double averageComputeNanos = -1;
+    private double averageIntervalNanos = -1;
+    private long lastComputeNanos = 0;
+    private volatile double effectiveRate = 0;
+
+    private TickRate(int divisor, boolean adaptive, double budgetFraction, int maxDivisor) {
+        this.divisor = divisor;
+        this.adaptive = adaptive;
+        this.budgetFraction = budgetFraction;
+        this.maxDivisor = maxDivisor;
+    }
+
+    /**
+     * @return a tick rate computing every tick. This is the default.
+     */
+    public static TickRate everyTick() {
+        return every(1);
+    }
+
+    /**
+     * @param divisor compute every {@code divisor}th frame.
+     * @return a fixed tick rate.
+     */
+    public static TickRate every(int divisor) {
+        return new TickRate(Math.max(1, divisor), false, 1, divisor);
+    }
+
+    /**
+     * Start by computing every tick. If the average compute time exceeds the given fraction of the packet interval,
+     * the divisor is increased until the agent keeps up. It is decreased again one step at a time once the agent
+     * is comfortably fast enough.
+     *
+     * @param budgetFraction the fraction of the packet interval the agent may use per tick it computes on.
+     * @param maxDivisor the largest divisor to use.
+     * @return an adaptive tick rate.
+     */
+    public static TickRate adaptive(double budgetFraction, int maxDivisor) {
+        return new TickRate(1, true, budgetFraction, Math.max(1, maxDivisor));
+    }
+
+    /**
+     * @param frameNum the frame number of the tick, see 'frame_num' in the MatchInfo.
+     * @return {@code true} if the agent should compute its output on the given frame.
+     */
+    public boolean shouldCompute(long frameNum) {
+        int d = divisor;
+        return d == 1 || frameNum % d == 0;
+    }
+
+    /**
+     * Record a computed tick. Invoked by the managers on the agent's thread.
+     *
+     * @param startNanos the start of the computation in terms of {@link System#nanoTime()}.
+     * @param durationNanos the duration of the computation.
+     * @param packetIntervalNanos the average interval between game packets.
+     */
+    void recordCompute(long startNanos, long durationNanos, double packetIntervalNanos) {
+        if (lastComputeNanos != 0) {
+            long interval = startNanos - lastComputeNanos;
+            averageIntervalNanos = averageIntervalNanos < 0 ? interval : averageIntervalNanos + 0.1 * (interval - averageIntervalNanos);
+            effectiveRate = 1e9 / averageIntervalNanos;
+        }
+        lastComputeNanos = startNanos;
+        averageComputeNanos = averageComputeNanos < 0 ? durationNanos : averageComputeNanos + 0.1 * (durationNanos - averageComputeNanos);
+
+        if (!adaptive) {
+            return;
+        }
+        double budget = packetIntervalNanos * budgetFraction;
+        int needed = (int) Math.min(maxDivisor, Math.max(1, Math.ceil(averageComputeNanos / budget)));
+        if (needed > divisor) {
+            divisor = needed;
+        } else if (divisor > 1 && averageComputeNanos < 0.8 * budget * (divisor - 1)) {
+            divisor--;
+        }
+    }
+
+    /**
+     * @return the current divisor, i.e. the agent computes every {@code divisor}th frame.
+     */
+    public int getDivisor() {
+        return divisor;
+    }
+
+    /**
+     * @return the measured number of computed ticks per second.
+     */
+    public double getEffectiveRate() {
+        return effectiveRate;
+    }
+
+    /**
+     * @return the average compute time of the agent in nanoseconds.
+     */
+    public double getAverageComputeNanos() {
+        return Math.max(0, averageComputeNanos);
+    }
+}
@@ -0,0 +1,164 @@
+package rlbot.commons.agents;
+
+import rlbot.commons.prediction.BallPredictionBuffer;
+import rlbot.flat.GamePacketT;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * A dedicated compute thread fed with the latest tick data, used by the {@link HivemindManager} and the
+ * {@link ScriptManager} to keep the user's code off the thread reading the socket.
+ * Only the latest tick is kept. Ticks replaced before the worker got to them are counted as skipped.
+ * Whether a tick is computed is decided by the submitting thread, so the agent's {@link TickRate} is only
+ * evaluated on a single thread.
+ * Other work, like handling match comms, can be queued with {@link #execute(Runnable)} and runs before the next tick.
+ */
+final class TickWorker {
+
+    /**
+     * The work of a tick.
+     */
+    @FunctionalInterface
+    interface Task {
+        /**
+         * @param packet the game packet of the tick.
+         * @param ballPrediction the ball prediction of the tick, or {@code null}.
+         * @param compute whether the agent should compute its output on the tick, or only observe a phase change.
+         */
+        void process(GamePacketT packet, BallPredictionBuffer ballPrediction, boolean compute);
+    }
+
+    private record Tick(GamePacketT packet, PooledGamePacket pooledPacket, BallPredictionBuffer ballPrediction,
+                        boolean compute) {}
+
+    private final Logger logger = Logger.getLogger(TickWorker.class.getName());
+
+    private final Task task;
+    private final Thread thread;
+    private final AtomicReference<Tick> pending = new AtomicReference<>();
+    private final ConcurrentLinkedQueue<Runnable> events = new ConcurrentLinkedQueue<>();
+    private final AtomicLong skippedTicks = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * @param name the name of the thread.
+     * @param task the work of a tick.
+     */
+    TickWorker(String name, Task task) {
+        this.task = task;
+        this.thread = new Thread(this::loop, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Hand a tick to the worker, replacing the pending tick if the worker has not started on it yet.
+     * The ball prediction and the pooled packet are retained until the worker is done with them.
+     * A replaced tick that should have been computed makes the replacing tick computed instead.
+     *
+     * @param pooledPacket the pooled packet the game packet was decoded into, or {@code null} if it is not reused.
+     */
+    void submit(GamePacketT packet, PooledGamePacket pooledPacket, BallPredictionBuffer ballPrediction,
+                boolean compute) {
+        if (ballPrediction != null) {
+            ballPrediction.retain();
+        }
+        if (pooledPacket != null) {
+            pooledPacket.retain();
+        }
+        var tick = new Tick(packet, pooledPacket, ballPrediction, compute);
+        var replaced = pending.getAndSet(tick);
+        if (replaced != null && replaced.compute && !compute) {
+            // Carry the compute over, unless the worker picked up the new tick in the meantime
+            pending.compareAndSet(tick, new Tick(packet, pooledPacket, ballPrediction, true));
+        }
+        if (replaced != null) {
+            skippedTicks.incrementAndGet();
+            release(replaced);
+        }
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Run the given work on the worker thread before the next tick.
+     */
+    void execute(Runnable event) {
+        events.add(event);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Run the given work on the worker thread before the next tick and wait for its result.
+     */
+    <T> T call(Supplier<T> work) {
+        var result = new CompletableFuture<T>();
+        execute(() -> {
+            try {
+                result.complete(work.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.join();
+    }
+
+    /**
+     * Stop the worker and wait for it to finish its current tick.
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        release(pending.getAndSet(null));
+    }
+
+    /**
+     * @return the number of ticks replaced by a newer tick before the worker got to them.
+     */
+    long getSkippedTicks() {
+        return skippedTicks.get();
+    }
+
+    private void loop() {
+        while (running) {
+            Runnable event;
+            while ((event = events.poll()) != null) {
+                event.run();
+            }
+            var tick = pending.getAndSet(null);
+            if (tick == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                task.process(tick.packet, tick.ballPrediction, tick.compute);
+            } catch (RuntimeException e) {
+                logger.severe("Compute thread encountered an error while processing game packet: " + e.getMessage());
+            } finally {
+                release(tick);
+            }
+        }
+    }
+
+    private static void release(Tick tick) {
+        if (tick == null) {
+            return;
+        }
+        if (tick.ballPrediction != null) {
+            tick.ballPrediction.release();
+        }
+        if (tick.pooledPacket != null) {
+            tick.pooledPacket.release();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package rlbot.commons.agents;
+
+/**
+ * Implemented by agents that want to be run on synthetic game packets before the match starts, so their code is
+ * compiled by the JIT before kickoff. See {@link AgentBaseManager#setWarmUp(int)}.
+ * <p>
+ * During the warm-up, the agent's usual output method is invoked with random packets and ball predictions,
+ * and its outputs are discarded. The agent should not send any messages to RLBot, like match comms or
+ * rendering, between {@link #onWarmUpStarted()} and {@link #onWarmUpFinished()}.
+ */
+public interface WarmUpParticipant {
+
+    /**
+     * Invoked before the warm-up ticks, on the thread that runs them.
+     */
+    default void onWarmUpStarted() {
+    }
+
+    /**
+     * Invoked after the warm-up ticks, on the thread that ran them. Use this to reset any state the synthetic
+     * packets may have left behind.
+     */
+    default void onWarmUpFinished() {
+    }
+}
@@ -0,0 +1,464 @@
+package rlbot.commons.prediction;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import rlbot.flat.BallPrediction;
+import rlbot.flat.BallPredictionT;
+import rlbot.flat.PredictionSliceLayout;
+import rlbot.flat.PredictionSliceT;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A ball prediction stored as a struct of arrays, i.e. one float array per component of the prediction slices.
+ * Slice {@code i} is described by {@code times()[i]}, {@code x()[i]}, {@code y()[i]}, and so on
+ * for {@code 0 <= i < size()}. The arrays may be longer than {@link #size()}.
+ * <p>
+ * The buffer is filled straight from the flatbuffer {@link BallPrediction} message with a bulk copy,
+ * avoiding the thousands of objects created by {@link BallPrediction#unpack()}. The slices are only split
+ * into the component arrays once the buffer is read. Buffers are reused between
+ * ticks, so agents must not keep a reference to a buffer beyond the tick it was given to them in.
+ * <p>
+ * Buffers handed out by the managers are reference counted and shared between agents; treat them as read-only.
+ *
+ * @see BallPredictionBufferPool
+ */
+public final class BallPredictionBuffer {
+
+    /**
+     * The number of slices compared when checking whether a prediction continues the previous one.
+     */
+    private static final int SHIFT_SAMPLES = 8;
+    private static final float SHIFT_TIME_TOLERANCE = 1e-3f;
+    private static final float SHIFT_LOCATION_TOLERANCE = 1f;
+    private static final float SHIFT_VELOCITY_TOLERANCE = 1f;
+
+    private final BallPredictionBufferPool pool;
+    private final AtomicInteger refs = new AtomicInteger();
+
+    private float[] raw = new float[0];
+    private float[] times = new float[0];
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private float[] z = new float[0];
+    private float[] pitch = new float[0];
+    private float[] yaw = new float[0];
+    private float[] roll = new float[0];
+    private float[] vx = new float[0];
+    private float[] vy = new float[0];
+    private float[] vz = new float[0];
+    private float[] avx = new float[0];
+    private float[] avy = new float[0];
+    private float[] avz = new float[0];
+    private int size = 0;
+    private volatile boolean decoded = true;
+
+    /**
+     * The object representation of this buffer, created on demand.
+     */
+    private BallPredictionT objects;
+
+    /**
+     * The query index of this buffer, created on demand.
+     */
+    private BallPredictionQueries queries;
+
+    /**
+     * Event flags of the first slices, carried over from the previous prediction by a shifted fill.
+     */
+    private byte[] inheritedFlags = new byte[0];
+    private int inheritedFlagCount = 0;
+
+    /**
+     * Construct an empty ball prediction buffer that is not part of a pool.
+     */
+    public BallPredictionBuffer() {
+        this(null);
+    }
+
+    BallPredictionBuffer(BallPredictionBufferPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Create a buffer holding the given ball prediction, fx. to pass an object prediction to code reading buffers.
+     * The prediction is packed into a flatbuffer first, so this is not meant for every tick.
+     *
+     * @param prediction the ball prediction.
+     * @return a new buffer that is not part of a pool.
+     */
+    public static BallPredictionBuffer of(BallPredictionT prediction) {
+        var builder = new FlatBufferBuilder(1024);
+        builder.finish(BallPrediction.pack(builder, prediction));
+        var buffer = new BallPredictionBuffer();
+        buffer.fill(BallPrediction.getRootAsBallPrediction(builder.dataBuffer()));
+        return buffer;
+    }
+
+    /**
+     * Replace the content of this buffer with the given ball prediction.
+     * See {@link #fill(BallPrediction, int)}.
+     *
+     * @param prediction the flatbuffer ball prediction message.
+     */
+    public void fill(BallPrediction prediction) {
+        fill(prediction, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Replace the content of this buffer with the first slices of the given ball prediction.
+     * Only the raw slices are copied here. They are split into the component arrays the first time
+     * the buffer is read, so predictions that are superseded or never read cost a single bulk copy.
+     * The arrays are reused and only grow if the prediction has more slices than ever before.
+     *
+     * @param prediction the flatbuffer ball prediction message.
+     * @param maxSlices the maximum number of slices to keep.
+     */
+    public synchronized void fill(BallPrediction prediction, int maxSlices) {
+        int n = Math.min(prediction.slicesLength(), maxSlices);
+        if (raw.length < n * PredictionSliceLayout.FLOAT_COUNT) {
+            raw = new float[n * PredictionSliceLayout.FLOAT_COUNT];
+        }
+        if (n > 0) {
+            PredictionSliceLayout.copyTo(prediction.getByteBuffer(), prediction.slicesPosition(0), n, raw, 0);
+        }
+        setSize(n);
+        decoded = false;
+    }
+
+    /**
+     * Replace the content of this buffer with the first slices of the given ball prediction, reusing the
+     * previous prediction if possible. While nothing touches the ball, a new prediction is the previous
+     * one shifted by the number of elapsed slices with a few new slices at the end. This is verified by
+     * comparing a few sampled slices within a small tolerance. If it holds, the overlapping slices are
+     * copied from the previous buffer's arrays and only the new tail is decoded. The event flags of the
+     * previous {@link BallPredictionQueries} are carried over as well. Otherwise, this is equivalent to
+     * {@link #fill(BallPrediction, int)}.
+     * <p>
+     * The previous buffer is only read. Since shifting is only worth it if the previous prediction was
+     * decoded, it is skipped if the previous buffer has not been read.
+     *
+     * @param prediction the flatbuffer ball prediction message.
+     * @param maxSlices the maximum number of slices to keep.
+     * @param previous the previous prediction, or {@code null}.
+     */
+    public synchronized void fill(BallPrediction prediction, int maxSlices, BallPredictionBuffer previous) {
+        if (previous == null || previous == this || !previous.isDecoded() || !fillShifted(prediction, maxSlices, previous)) {
+            fill(prediction, maxSlices);
+        }
+    }
+
+    private boolean fillShifted(BallPrediction prediction, int maxSlices, BallPredictionBuffer previous) {
+        int n = Math.min(prediction.slicesLength(), maxSlices);
+        int prevSize = previous.size;
+        if (n < 2 || prevSize < 2) {
+            return false;
+        }
+        var bb = prediction.getByteBuffer();
+        int base = prediction.slicesPosition(0);
+        var prevTimes = previous.times;
+        float spacing = (prevTimes[prevSize - 1] - prevTimes[0]) / (prevSize - 1);
+        int shift = Math.round((PredictionSliceLayout.gameSeconds(bb, base) - prevTimes[0]) / spacing);
+        if (shift < 0 || shift >= prevSize) {
+            return false;
+        }
+        int overlap = Math.min(prevSize - shift, n);
+        if (overlap < n / 2) {
+            return false; // Not worth it
+        }
+
+        // Verify sampled slices, including the first one, which is where a touch shows up first
+        for (int s = 0; s < SHIFT_SAMPLES; s++) {
+            int i = (overlap - 1) * s / (SHIFT_SAMPLES - 1);
+            int pos = base + i * PredictionSliceLayout.SIZE;
+            int j = shift + i;
+            if (Math.abs(PredictionSliceLayout.gameSeconds(bb, pos) - prevTimes[j]) > SHIFT_TIME_TOLERANCE
+                    || Math.abs(PredictionSliceLayout.physicsLocationX(bb, pos) - previous.x[j]) > SHIFT_LOCATION_TOLERANCE
+                    || Math.abs(PredictionSliceLayout.physicsLocationY(bb, pos) - previous.y[j]) > SHIFT_LOCATION_TOLERANCE
+                    || Math.abs(PredictionSliceLayout.physicsLocationZ(bb, pos) - previous.z[j]) > SHIFT_LOCATION_TOLERANCE
+                    || Math.abs(PredictionSliceLayout.physicsVelocityX(bb, pos) - previous.vx[j]) > SHIFT_VELOCITY_TOLERANCE
+                    || Math.abs(PredictionSliceLayout.physicsVelocityY(bb, pos) - previous.vy[j]) > SHIFT_VELOCITY_TOLERANCE
+                    || Math.abs(PredictionSliceLayout.physicsVelocityZ(bb, pos) - previous.vz[j]) > SHIFT_VELOCITY_TOLERANCE) {
+                return false;
+            }
+        }
+
+        grow(n);
+        System.arraycopy(previous.times, shift, times, 0, overlap);
+        System.arraycopy(previous.x, shift, x, 0, overlap);
+        System.arraycopy(previous.y, shift, y, 0, overlap);
+        System.arraycopy(previous.z, shift, z, 0, overlap);
+        System.arraycopy(previous.pitch, shift, pitch, 0, overlap);
+        System.arraycopy(previous.yaw, shift, yaw, 0, overlap);
+        System.arraycopy(previous.roll, shift, roll, 0, overlap);
+        System.arraycopy(previous.vx, shift, vx, 0, overlap);
+        System.arraycopy(previous.vy, shift, vy, 0, overlap);
+        System.arraycopy(previous.vz, shift, vz, 0, overlap);
+        System.arraycopy(previous.avx, shift, avx, 0, overlap);
+        System.arraycopy(previous.avy, shift, avy, 0, overlap);
+        System.arraycopy(previous.avz, shift, avz, 0, overlap);
+
+        // Decode the new tail
+        if (raw.length < n * PredictionSliceLayout.FLOAT_COUNT) {
+            raw = new float[n * PredictionSliceLayout.FLOAT_COUNT];
+        }
+        PredictionSliceLayout.copyTo(bb, base + overlap * PredictionSliceLayout.SIZE, n - overlap,
+                raw, overlap * PredictionSliceLayout.FLOAT_COUNT);
+        split(overlap, n);
+        setSize(n);
+        decoded = true;
+
+        var prevQueries = previous.existingQueries();
+        if (prevQueries != null) {
+            if (inheritedFlags.length < overlap) {
+                inheritedFlags = new byte[n];
+            }
+            prevQueries.copyFlags(shift, inheritedFlags, overlap);
+            inheritedFlags[0] = 0; // The first slice has no predecessor
+            inheritedFlagCount = overlap;
+        }
+        return true;
+    }
+
+    /**
+     * Split the raw slices into the component arrays, if not done already.
+     */
+    private void decode() {
+        if (decoded) {
+            return;
+        }
+        synchronized (this) {
+            if (decoded) {
+                return;
+            }
+            grow(size);
+            split(0, size);
+            decoded = true;
+        }
+    }
+
+    /**
+     * Split the raw slices {@code [from, to)} into the component arrays.
+     */
+    private void split(int from, int to) {
+        for (int i = from, j = from * PredictionSliceLayout.FLOAT_COUNT; i < to; i++, j += PredictionSliceLayout.FLOAT_COUNT) {
+            times[i] = raw[j];
+            x[i] = raw[j + 1];
+            y[i] = raw[j + 2];
+            z[i] = raw[j + 3];
+            pitch[i] = raw[j + 4];
+            yaw[i] = raw[j + 5];
+            roll[i] = raw[j + 6];
+            vx[i] = raw[j + 7];
+            vy[i] = raw[j + 8];
+            vz[i] = raw[j + 9];
+            avx[i] = raw[j + 10];
+            avy[i] = raw[j + 11];
+            avz[i] = raw[j + 12];
+        }
+    }
+
+    /**
+     * @return {@code true} if the slices have been split into the component arrays,
+     * i.e. if the buffer has been read since it was last filled.
+     */
+    public boolean isDecoded() {
+        return decoded;
+    }
+
+    /**
+     * Make sure the arrays can hold at least the given number of slices. Existing slices are kept.
+     *
+     * @param capacity the number of slices.
+     */
+    public void ensureCapacity(int capacity) {
+        decode();
+        grow(capacity);
+    }
+
+    private void grow(int capacity) {
+        if (times.length >= capacity) {
+            return;
+        }
+        times = Arrays.copyOf(times, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        pitch = Arrays.copyOf(pitch, capacity);
+        yaw = Arrays.copyOf(yaw, capacity);
+        roll = Arrays.copyOf(roll, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        vz = Arrays.copyOf(vz, capacity);
+        avx = Arrays.copyOf(avx, capacity);
+        avy = Arrays.copyOf(avy, capacity);
+        avz = Arrays.copyOf(avz, capacity);
+    }
+
+    /**
+     * Get the object representation of the ball prediction. It is created on the first call after the buffer
+     * was filled and shared by all callers, so agents that still use {@link BallPredictionT} only pay
+     * for the conversion once per prediction. Unlike the buffer, the returned object is never reused.
+     *
+     * @return the ball prediction as a {@link BallPredictionT}.
+     */
+    public synchronized BallPredictionT asBallPredictionT() {
+        if (objects == null) {
+            objects = toBallPredictionT();
+        }
+        return objects;
+    }
+
+    /**
+     * Get the query index of the ball prediction. It is built on the first call after the buffer
+     * was filled and shared by all callers.
+     *
+     * @return the {@link BallPredictionQueries} of this buffer.
+     */
+    public synchronized BallPredictionQueries queries() {
+        if (queries == null) {
+            queries = new BallPredictionQueries(this, inheritedFlags, inheritedFlagCount);
+        }
+        return queries;
+    }
+
+    private synchronized BallPredictionQueries existingQueries() {
+        return queries;
+    }
+
+    /**
+     * Convert this buffer to the object representation of the ball prediction.
+     *
+     * @return a new {@link BallPredictionT}.
+     */
+    public BallPredictionT toBallPredictionT() {
+        decode();
+        var slices = new PredictionSliceT[size];
+        for (int i = 0; i < size; i++) {
+            var slice = new PredictionSliceT();
+            slice.setGameSeconds(times[i]);
+            var physics = slice.getPhysics();
+            physics.getLocation().setX(x[i]);
+            physics.getLocation().setY(y[i]);
+            physics.getLocation().setZ(z[i]);
+            physics.getRotation().setPitch(pitch[i]);
+            physics.getRotation().setYaw(yaw[i]);
+            physics.getRotation().setRoll(roll[i]);
+            physics.getVelocity().setX(vx[i]);
+            physics.getVelocity().setY(vy[i]);
+            physics.getVelocity().setZ(vz[i]);
+            physics.getAngularVelocity().setX(avx[i]);
+            physics.getAngularVelocity().setY(avy[i]);
+            physics.getAngularVelocity().setZ(avz[i]);
+            slices[i] = slice;
+        }
+        var prediction = new BallPredictionT();
+        prediction.setSlices(slices);
+        return prediction;
+    }
+
+    /**
+     * Increment the reference count of this buffer.
+     */
+    public void retain() {
+        refs.incrementAndGet();
+    }
+
+    /**
+     * Decrement the reference count of this buffer. Once no references remain, the buffer is returned
+     * to its pool (if any) and may be refilled with a different prediction.
+     */
+    public void release() {
+        if (refs.decrementAndGet() == 0 && pool != null) {
+            pool.recycle(this);
+        }
+    }
+
+    /**
+     * @return the number of slices in the prediction.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Set the number of valid slices. Use {@link #ensureCapacity(int)} first when growing.
+     */
+    public synchronized void setSize(int size) {
+        this.size = size;
+        this.objects = null;
+        this.queries = null;
+        this.inheritedFlagCount = 0;
+    }
+
+    /**
+     * @return the game time of each slice. This corresponds to 'seconds_elapsed' in the MatchInfo.
+     */
+    public float[] times() {
+        decode();
+        return times;
+    }
+
+    public float[] x() {
+        decode();
+        return x;
+    }
+
+    public float[] y() {
+        decode();
+        return y;
+    }
+
+    public float[] z() {
+        decode();
+        return z;
+    }
+
+    public float[] pitch() {
+        decode();
+        return pitch;
+    }
+
+    public float[] yaw() {
+        decode();
+        return yaw;
+    }
+
+    public float[] roll() {
+        decode();
+        return roll;
+    }
+
+    public float[] vx() {
+        decode();
+        return vx;
+    }
+
+    public float[] vy() {
+        decode();
+        return vy;
+    }
+
+    public float[] vz() {
+        decode();
+        return vz;
+    }
+
+    /**
+     * @return the x component of the angular velocity of each slice.
+     */
+    public float[] avx() {
+        decode();
+        return avx;
+    }
+
+    public float[] avy() {
+        decode();
+        return avy;
+    }
+
+    public float[] avz() {
+        decode();
+        return avz;
+    }
+}
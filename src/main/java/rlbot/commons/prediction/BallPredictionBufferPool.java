@@ -0,0 +1,29 @@
+package rlbot.commons.prediction;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A thread-safe pool of {@link BallPredictionBuffer}s. Buffers return to the pool once their
+ * reference count drops to zero, so the number of buffers is bounded by the number of
+ * predictions in use at the same time.
+ */
+public final class BallPredictionBufferPool {
+
+    private final ConcurrentLinkedQueue<BallPredictionBuffer> free = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @return an unused buffer with a reference count of one.
+     */
+    public BallPredictionBuffer acquire() {
+        var buffer = free.poll();
+        if (buffer == null) {
+            buffer = new BallPredictionBuffer(this);
+        }
+        buffer.retain();
+        return buffer;
+    }
+
+    void recycle(BallPredictionBuffer buffer) {
+        free.offer(buffer);
+    }
+}
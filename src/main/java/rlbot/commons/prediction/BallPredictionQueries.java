@@ -0,0 +1,433 @@
+package rlbot.commons.prediction;
+
+/**
+ * Precomputed index over a {@link BallPredictionBuffer} for answering common questions about the ball's path,
+ * such as "when is the ball next below height h", "when does it enter our goal", or "what is the earliest
+ * slice a car can reach", without scanning every slice.
+ * <p>
+ * The index consists of:
+ * <ul>
+ *     <li>Time-to-index arithmetic based on the fixed spacing of the slices (120 Hz).</li>
+ *     <li>Per-slice event flags for ground contacts, wall and ceiling bounces, and goal line crossings.</li>
+ *     <li>Coarse and fine blocks of slices with their bounding boxes, so range queries can skip whole segments.</li>
+ * </ul>
+ * Use {@link BallPredictionBuffer#queries()} to get the index of a buffer. It is built once per prediction
+ * and shared by all agents, and it is immutable. Like the buffer, it must not be used beyond the current tick.
+ * <p>
+ * All search methods return a slice index, or {@code -1} if no slice matches.
+ * The event detection assumes a standard soccar field.
+ */
+public final class BallPredictionQueries {
+
+    /**
+     * The number of slices per second in ball predictions from RLBot.
+     */
+    public static final float SLICES_PER_SECOND = 120f;
+
+    public static final float BALL_RADIUS = 92.75f;
+    public static final float SIDE_WALL_X = 4096f;
+    public static final float BACK_WALL_Y = 5120f;
+    public static final float CEILING_Z = 2044f;
+    public static final float GOAL_LINE_Y = 5120f;
+
+    /**
+     * The ball touches the floor and bounces or starts rolling.
+     */
+    public static final int GROUND_CONTACT = 1;
+    /**
+     * The ball bounces off a side wall or back wall.
+     */
+    public static final int WALL_BOUNCE = 1 << 1;
+    public static final int CEILING_BOUNCE = 1 << 2;
+    /**
+     * The ball fully crosses the goal line of one of the goals.
+     */
+    public static final int GOAL_CROSSING = 1 << 3;
+
+    private static final int FINE = 8;
+    private static final int COARSE = 64;
+    private static final int BOUNDS = 6; // minX, maxX, minY, maxY, minZ, maxZ
+    private static final float CONTACT_TOLERANCE = 20f;
+
+    // The kinds of range queries. Their parameters are, in order:
+    private static final int BELOW = 0; // height
+    private static final int ABOVE = 1; // height
+    private static final int IN_BOX = 2; // minX, minY, minZ, maxX, maxY, maxZ
+    private static final int REACHABLE = 3; // carX, carY, nowSeconds, speed, maxHeight
+
+    private final BallPredictionBuffer buffer;
+    private final int size;
+    private final float startTime;
+    private final float secondsPerSlice;
+    private final byte[] flags;
+    private final int[] events;
+    private final float[] fineBounds;
+    private final float[] coarseBounds;
+
+    /**
+     * Build the index of the given buffer. Prefer {@link BallPredictionBuffer#queries()}, which shares the index.
+     *
+     * @param buffer the ball prediction.
+     */
+    public BallPredictionQueries(BallPredictionBuffer buffer) {
+        this(buffer, null, 0);
+    }
+
+    /**
+     * Build the index of the given buffer, reusing the event flags of its first slices.
+     *
+     * @param inheritedFlags the known event flags of the first slices.
+     * @param inheritedCount the number of known event flags.
+     */
+    BallPredictionQueries(BallPredictionBuffer buffer, byte[] inheritedFlags, int inheritedCount) {
+        this.buffer = buffer;
+        this.size = buffer.size();
+        var times = buffer.times();
+        this.startTime = size > 0 ? times[0] : 0f;
+        this.secondsPerSlice = size > 1 ? (times[size - 1] - times[0]) / (size - 1) : 1f / SLICES_PER_SECOND;
+        this.flags = new byte[size];
+        if (inheritedCount > 0) {
+            System.arraycopy(inheritedFlags, 0, flags, 0, Math.min(inheritedCount, size));
+        }
+        this.events = detectEvents(Math.max(1, inheritedCount));
+        this.fineBounds = computeBounds(FINE);
+        this.coarseBounds = computeBounds(COARSE);
+    }
+
+    private int[] detectEvents(int from) {
+        var x = buffer.x();
+        var y = buffer.y();
+        var z = buffer.z();
+        var vx = buffer.vx();
+        var vy = buffer.vy();
+        var vz = buffer.vz();
+        for (int i = from; i < size; i++) {
+            int f = 0;
+            if (vz[i - 1] < 0 && vz[i] >= 0 && z[i] < BALL_RADIUS + CONTACT_TOLERANCE) {
+                f |= GROUND_CONTACT;
+            }
+            if (vz[i - 1] > 0 && vz[i] <= 0 && z[i] > CEILING_Z - BALL_RADIUS - CONTACT_TOLERANCE) {
+                f |= CEILING_BOUNCE;
+            }
+            boolean sideWall = Math.signum(vx[i - 1]) == -Math.signum(vx[i]) && vx[i] != 0
+                    && Math.abs(x[i]) > SIDE_WALL_X - BALL_RADIUS - CONTACT_TOLERANCE;
+            boolean backWall = Math.signum(vy[i - 1]) == -Math.signum(vy[i]) && vy[i] != 0
+                    && Math.abs(y[i]) > BACK_WALL_Y - BALL_RADIUS - CONTACT_TOLERANCE;
+            if (sideWall || backWall) {
+                f |= WALL_BOUNCE;
+            }
+            if (Math.abs(y[i - 1]) <= GOAL_LINE_Y + BALL_RADIUS && Math.abs(y[i]) > GOAL_LINE_Y + BALL_RADIUS) {
+                f |= GOAL_CROSSING;
+            }
+            flags[i] = (byte) f;
+        }
+        int count = 0;
+        for (int i = 1; i < size; i++) {
+            if (flags[i] != 0) {
+                count++;
+            }
+        }
+        var events = new int[count];
+        for (int i = 1, j = 0; j < count; i++) {
+            if (flags[i] != 0) {
+                events[j++] = i;
+            }
+        }
+        return events;
+    }
+
+    private float[] computeBounds(int blockSize) {
+        var x = buffer.x();
+        var y = buffer.y();
+        var z = buffer.z();
+        int blocks = (size + blockSize - 1) / blockSize;
+        var bounds = new float[blocks * BOUNDS];
+        for (int b = 0; b < blocks; b++) {
+            float minX = Float.POSITIVE_INFINITY, maxX = Float.NEGATIVE_INFINITY;
+            float minY = Float.POSITIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+            float minZ = Float.POSITIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+            for (int i = b * blockSize, end = Math.min(size, i + blockSize); i < end; i++) {
+                minX = Math.min(minX, x[i]);
+                maxX = Math.max(maxX, x[i]);
+                minY = Math.min(minY, y[i]);
+                maxY = Math.max(maxY, y[i]);
+                minZ = Math.min(minZ, z[i]);
+                maxZ = Math.max(maxZ, z[i]);
+            }
+            int o = b * BOUNDS;
+            bounds[o] = minX;
+            bounds[o + 1] = maxX;
+            bounds[o + 2] = minY;
+            bounds[o + 3] = maxY;
+            bounds[o + 4] = minZ;
+            bounds[o + 5] = maxZ;
+        }
+        return bounds;
+    }
+
+    /**
+     * @return the number of slices in the prediction.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the buffer this index was built from.
+     */
+    public BallPredictionBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * @return the game time between two consecutive slices.
+     */
+    public float secondsPerSlice() {
+        return secondsPerSlice;
+    }
+
+    /**
+     * Find the slice closest to the given game time in constant time.
+     *
+     * @param gameSeconds the game time, comparable to 'seconds_elapsed' in the MatchInfo.
+     * @return the index of the nearest slice clamped to the prediction, or {@code -1} if the prediction is empty.
+     */
+    public int indexAt(float gameSeconds) {
+        if (size == 0) {
+            return -1;
+        }
+        int i = Math.round((gameSeconds - startTime) / secondsPerSlice);
+        return Math.max(0, Math.min(size - 1, i));
+    }
+
+    /**
+     * @param i a slice index.
+     * @return the event flags of the slice, fx. {@link #GROUND_CONTACT} or {@link #WALL_BOUNCE}.
+     */
+    public int flags(int i) {
+        return flags[i];
+    }
+
+    /**
+     * Copy the event flags of the slices {@code [from, from + count)} to the start of the given array.
+     */
+    void copyFlags(int from, byte[] dst, int count) {
+        System.arraycopy(flags, from, dst, 0, count);
+    }
+
+    /**
+     * Find the next slice with any of the given event flags.
+     *
+     * @param mask the event flags to look for, fx. {@code GROUND_CONTACT | WALL_BOUNCE}.
+     * @param from the first slice index to consider.
+     * @return the index of the first matching slice.
+     */
+    public int nextEvent(int mask, int from) {
+        for (int i = firstEventAtOrAfter(from); i < events.length; i++) {
+            if ((flags[events[i]] & mask) != 0) {
+                return events[i];
+            }
+        }
+        return -1;
+    }
+
+    public int nextGroundContact(int from) {
+        return nextEvent(GROUND_CONTACT, from);
+    }
+
+    public int nextWallBounce(int from) {
+        return nextEvent(WALL_BOUNCE, from);
+    }
+
+    /**
+     * Find the next slice where the ball fully crosses the goal line of the given team's goal.
+     *
+     * @param team the team defending the goal. The blue team (0) defends the goal at negative y.
+     * @param from the first slice index to consider.
+     * @return the index of the first slice past the goal line.
+     */
+    public int nextGoal(int team, int from) {
+        var y = buffer.y();
+        for (int i = firstEventAtOrAfter(from); i < events.length; i++) {
+            int s = events[i];
+            if ((flags[s] & GOAL_CROSSING) != 0 && (y[s] < 0) == (team == 0)) {
+                return s;
+            }
+        }
+        return -1;
+    }
+
+    private int firstEventAtOrAfter(int from) {
+        int lo = 0, hi = events.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (events[mid] < from) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @param height the height in unreal units. Remember that the ball's location is its center.
+     * @param from the first slice index to consider.
+     * @return the index of the first slice where the ball is below the given height.
+     */
+    public int firstBelow(float height, int from) {
+        return search(BELOW, from, height, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * @param height the height in unreal units. Remember that the ball's location is its center.
+     * @param from the first slice index to consider.
+     * @return the index of the first slice where the ball is above the given height.
+     */
+    public int firstAbove(float height, int from) {
+        return search(ABOVE, from, height, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Find the first slice where the ball's location is inside the given axis-aligned box, fx. a goal box.
+     *
+     * @param from the first slice index to consider.
+     * @return the index of the first slice inside the box.
+     */
+    public int firstInBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int from) {
+        return search(IN_BOX, from, minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Find the earliest slice a car can reach, assuming it drives straight towards the ball's ground position
+     * at the given average speed. Use the car's boost to choose the speed, fx. the max speed of 2300 uu/s
+     * when it has plenty of boost and about 1410 uu/s when it has none.
+     *
+     * @param carX the car's x coordinate.
+     * @param carY the car's y coordinate.
+     * @param nowSeconds the current game time, see 'seconds_elapsed' in the MatchInfo.
+     * @param speed the car's average speed in uu/s.
+     * @param maxHeight ignore slices where the ball is above this height.
+     * @param from the first slice index to consider.
+     * @return the index of the first reachable slice.
+     */
+    public int firstReachable(float carX, float carY, float nowSeconds, float speed, float maxHeight, int from) {
+        return search(REACHABLE, from, carX, carY, nowSeconds, speed, maxHeight, 0);
+    }
+
+    /**
+     * @return the lowest height of the ball in the slices {@code [from, to)}.
+     */
+    public float minHeight(int from, int to) {
+        return heightBound(from, to, 4, true);
+    }
+
+    /**
+     * @return the greatest height of the ball in the slices {@code [from, to)}.
+     */
+    public float maxHeight(int from, int to) {
+        return heightBound(from, to, 5, false);
+    }
+
+    private float heightBound(int from, int to, int component, boolean min) {
+        var values = buffer.z();
+        float result = min ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+        int i = Math.max(0, from);
+        to = Math.min(size, to);
+        while (i < to) {
+            float v;
+            if (i % COARSE == 0 && i + COARSE <= to) {
+                v = coarseBounds[i / COARSE * BOUNDS + component];
+                i += COARSE;
+            } else if (i % FINE == 0 && i + FINE <= to) {
+                v = fineBounds[i / FINE * BOUNDS + component];
+                i += FINE;
+            } else {
+                v = values[i];
+                i++;
+            }
+            result = min ? Math.min(result, v) : Math.max(result, v);
+        }
+        return result;
+    }
+
+    /**
+     * Coarse-to-fine search for the first matching slice. Blocks whose bounds rule out a match are skipped.
+     * The parameters of the query are passed as primitives, so searching does not allocate.
+     *
+     * @param query the kind of query, see {@link #BELOW}.
+     */
+    private int search(int query, int from, float p0, float p1, float p2, float p3, float p4, float p5) {
+        var times = buffer.times();
+        var x = buffer.x();
+        var y = buffer.y();
+        var z = buffer.z();
+        int i = Math.max(0, from);
+        while (i < size) {
+            if (i % COARSE == 0) {
+                int last = Math.min(size, i + COARSE) - 1;
+                if (!mayMatch(query, coarseBounds, i / COARSE * BOUNDS, times[last], p0, p1, p2, p3, p4, p5)) {
+                    i += COARSE;
+                    continue;
+                }
+            }
+            if (i % FINE == 0) {
+                int last = Math.min(size, i + FINE) - 1;
+                if (!mayMatch(query, fineBounds, i / FINE * BOUNDS, times[last], p0, p1, p2, p3, p4, p5)) {
+                    i += FINE;
+                    continue;
+                }
+            }
+            if (matches(query, x[i], y[i], z[i], times[i], p0, p1, p2, p3, p4, p5)) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Tests whether a block of slices may contain a match.
+     *
+     * @param lastTime the time of the last slice of the block.
+     */
+    private static boolean mayMatch(int query, float[] b, int o, float lastTime,
+                                    float p0, float p1, float p2, float p3, float p4, float p5) {
+        return switch (query) {
+            case BELOW -> b[o + 4] < p0;
+            case ABOVE -> b[o + 5] > p0;
+            case IN_BOX -> b[o] <= p3 && b[o + 1] >= p0
+                    && b[o + 2] <= p4 && b[o + 3] >= p1
+                    && b[o + 4] <= p5 && b[o + 5] >= p2;
+            case REACHABLE -> {
+                if (b[o + 4] > p4) {
+                    yield false;
+                }
+                // Lower bound of the distance from the car to any slice of the block
+                float dx = Math.max(0, Math.max(b[o] - p0, p0 - b[o + 1]));
+                float dy = Math.max(0, Math.max(b[o + 2] - p1, p1 - b[o + 3]));
+                float reach = p3 * (lastTime - p2);
+                yield reach >= 0 && dx * dx + dy * dy <= reach * reach;
+            }
+            default -> throw new IllegalArgumentException("Unknown query " + query);
+        };
+    }
+
+    private static boolean matches(int query, float x, float y, float z, float time,
+                                   float p0, float p1, float p2, float p3, float p4, float p5) {
+        return switch (query) {
+            case BELOW -> z < p0;
+            case ABOVE -> z > p0;
+            case IN_BOX -> x >= p0 && x <= p3
+                    && y >= p1 && y <= p4
+                    && z >= p2 && z <= p5;
+            case REACHABLE -> {
+                float reach = p3 * (time - p2);
+                float dx = x - p0;
+                float dy = y - p1;
+                yield z <= p4 && reach >= 0 && dx * dx + dy * dy <= reach * reach;
+            }
+            default -> throw new IllegalArgumentException("Unknown query " + query);
+        };
+    }
+}
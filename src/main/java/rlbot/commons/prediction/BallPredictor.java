@@ -0,0 +1,264 @@
+package rlbot.commons.prediction;
+
+import rlbot.flat.BallInfoT;
+import rlbot.flat.GamePacketT;
+
+/**
+ * A client-side ball trajectory predictor for the standard soccar field. It produces the same
+ * {@link BallPredictionBuffer} as the ball prediction from RLBot, but can predict any ball of the packet,
+ * which is useful in matches with multiple balls, or for connections that do not want the prediction stream
+ * from RLBot at all. See {@link rlbot.commons.agents.AgentBaseManager#setBallPredictor(BallPredictor)}.
+ * <p>
+ * The model includes gravity, drag, speed limits, and bounces with friction and spin off the floor, ceiling,
+ * side walls, back walls, and the diagonal corner walls. The curved transitions between the surfaces and
+ * the inside of the goals are approximated by flat planes, so predictions are less accurate near those.
+ * The rotation of the ball is not integrated and stays the same for all slices.
+ * <p>
+ * A predictor is not thread-safe, but it is cheap to create one per thread.
+ */
+public final class BallPredictor {
+
+    public static final float DEFAULT_GRAVITY = -650f;
+
+    private static final float RADIUS = BallPredictionQueries.BALL_RADIUS;
+    private static final float SIDE_WALL_X = BallPredictionQueries.SIDE_WALL_X;
+    private static final float BACK_WALL_Y = BallPredictionQueries.BACK_WALL_Y;
+    private static final float CEILING_Z = BallPredictionQueries.CEILING_Z;
+    private static final float CORNER = 8064f; // |x| + |y| of the diagonal corner walls
+    private static final float GOAL_HALF_WIDTH = 892.755f;
+    private static final float GOAL_HEIGHT = 642.775f;
+    private static final float GOAL_DEPTH = 880f;
+
+    private static final float DRAG = 0.0305f;
+    private static final float MAX_SPEED = 6000f;
+    private static final float MAX_ANGULAR_SPEED = 6f;
+    private static final float RESTITUTION = 0.6f;
+    private static final float FRICTION = 0.285f;
+    private static final float SLIP_FACTOR = 2f;
+    private static final float INV_SQRT_2 = (float) (1 / Math.sqrt(2));
+
+    private float horizon = 6f;
+    private float step = 1f / BallPredictionQueries.SLICES_PER_SECOND;
+
+    // Simulation state
+    private float px, py, pz, vx, vy, vz, wx, wy, wz;
+
+    /**
+     * Set how many seconds to predict. Default is 6 seconds, like the prediction from RLBot.
+     *
+     * @param seconds the prediction horizon in seconds.
+     */
+    public void setHorizon(float seconds) {
+        this.horizon = seconds;
+    }
+
+    /**
+     * Set the time between two slices. Default is 1/120 seconds, like the prediction from RLBot.
+     * The simulation itself never takes steps longer than 1/120 seconds.
+     *
+     * @param seconds the time between two slices in seconds.
+     */
+    public void setStep(float seconds) {
+        this.step = seconds;
+    }
+
+    public float getHorizon() {
+        return horizon;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    /**
+     * Predict the trajectory of the given ball of the packet.
+     *
+     * @param packet the game packet. The gravity and time are taken from its match info.
+     * @param ballIndex the index of the ball in {@link GamePacketT#getBalls()}.
+     * @param out the buffer to write the prediction into.
+     * @throws IndexOutOfBoundsException if the packet has no ball with the given index.
+     */
+    public void predict(GamePacketT packet, int ballIndex, BallPredictionBuffer out) {
+        var balls = packet.getBalls();
+        if (ballIndex < 0 || ballIndex >= balls.length) {
+            throw new IndexOutOfBoundsException("Ball index " + ballIndex + " out of bounds for " + balls.length + " balls");
+        }
+        var info = packet.getMatchInfo();
+        float gravity = info.getWorldGravityZ() != 0 ? info.getWorldGravityZ() : DEFAULT_GRAVITY;
+        predict(balls[ballIndex], gravity, info.getSecondsElapsed(), out);
+    }
+
+    /**
+     * Predict the trajectories of all balls of the packet.
+     *
+     * @param packet the game packet. The gravity and time are taken from its match info.
+     * @param out the buffers to write the predictions into, one per ball. Missing buffers are created.
+     *            Must be at least as long as {@link GamePacketT#getBalls()}.
+     */
+    public void predictAll(GamePacketT packet, BallPredictionBuffer[] out) {
+        for (int i = 0; i < packet.getBalls().length; i++) {
+            if (out[i] == null) {
+                out[i] = new BallPredictionBuffer();
+            }
+            predict(packet, i, out[i]);
+        }
+    }
+
+    /**
+     * Predict the trajectory of a ball.
+     *
+     * @param ball the current state of the ball.
+     * @param gravity the gravity, see 'world_gravity_z' in the MatchInfo.
+     * @param nowSeconds the current game time, see 'seconds_elapsed' in the MatchInfo.
+     * @param out the buffer to write the prediction into.
+     */
+    public void predict(BallInfoT ball, float gravity, float nowSeconds, BallPredictionBuffer out) {
+        var physics = ball.getPhysics();
+        px = physics.getLocation().getX();
+        py = physics.getLocation().getY();
+        pz = physics.getLocation().getZ();
+        vx = physics.getVelocity().getX();
+        vy = physics.getVelocity().getY();
+        vz = physics.getVelocity().getZ();
+        wx = physics.getAngularVelocity().getX();
+        wy = physics.getAngularVelocity().getY();
+        wz = physics.getAngularVelocity().getZ();
+        float pitch = physics.getRotation().getPitch();
+        float yaw = physics.getRotation().getYaw();
+        float roll = physics.getRotation().getRoll();
+
+        int substeps = Math.max(1, Math.round(step * BallPredictionQueries.SLICES_PER_SECOND));
+        float dt = step / substeps;
+        int n = Math.max(1, Math.round(horizon / step));
+        out.ensureCapacity(n);
+        // Fetch the arrays once, since every accessor checks whether the buffer is decoded
+        var times = out.times();
+        var x = out.x();
+        var y = out.y();
+        var z = out.z();
+        var pitches = out.pitch();
+        var yaws = out.yaw();
+        var rolls = out.roll();
+        var vxs = out.vx();
+        var vys = out.vy();
+        var vzs = out.vz();
+        var avx = out.avx();
+        var avy = out.avy();
+        var avz = out.avz();
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                for (int s = 0; s < substeps; s++) {
+                    step(dt, gravity);
+                }
+            }
+            times[i] = nowSeconds + i * step;
+            x[i] = px;
+            y[i] = py;
+            z[i] = pz;
+            pitches[i] = pitch;
+            yaws[i] = yaw;
+            rolls[i] = roll;
+            vxs[i] = vx;
+            vys[i] = vy;
+            vzs[i] = vz;
+            avx[i] = wx;
+            avy[i] = wy;
+            avz[i] = wz;
+        }
+        out.setSize(n);
+    }
+
+    private void step(float dt, float gravity) {
+        // Drag and gravity
+        float drag = 1 - DRAG * dt;
+        vx *= drag;
+        vy *= drag;
+        vz = vz * drag + gravity * dt;
+
+        float speed = (float) Math.sqrt(vx * vx + vy * vy + vz * vz);
+        if (speed > MAX_SPEED) {
+            float f = MAX_SPEED / speed;
+            vx *= f;
+            vy *= f;
+            vz *= f;
+        }
+        float spin = (float) Math.sqrt(wx * wx + wy * wy + wz * wz);
+        if (spin > MAX_ANGULAR_SPEED) {
+            float f = MAX_ANGULAR_SPEED / spin;
+            wx *= f;
+            wy *= f;
+            wz *= f;
+        }
+
+        px += vx * dt;
+        py += vy * dt;
+        pz += vz * dt;
+
+        // Collisions with the arena. Normals point into the field
+        collide(0, 0, 1, pz - RADIUS);
+        collide(0, 0, -1, CEILING_Z - RADIUS - pz);
+        collide(1, 0, 0, px + SIDE_WALL_X - RADIUS);
+        collide(-1, 0, 0, SIDE_WALL_X - RADIUS - px);
+        boolean inGoalMouth = Math.abs(px) < GOAL_HALF_WIDTH - RADIUS && pz < GOAL_HEIGHT - RADIUS;
+        float backWall = inGoalMouth ? BACK_WALL_Y + GOAL_DEPTH : BACK_WALL_Y;
+        collide(0, 1, 0, py + backWall - RADIUS);
+        collide(0, -1, 0, backWall - RADIUS - py);
+        if (!inGoalMouth) {
+            collide(-INV_SQRT_2, -INV_SQRT_2, 0, (CORNER - px - py) * INV_SQRT_2 - RADIUS);
+            collide(INV_SQRT_2, -INV_SQRT_2, 0, (CORNER + px - py) * INV_SQRT_2 - RADIUS);
+            collide(-INV_SQRT_2, INV_SQRT_2, 0, (CORNER - px + py) * INV_SQRT_2 - RADIUS);
+            collide(INV_SQRT_2, INV_SQRT_2, 0, (CORNER + px + py) * INV_SQRT_2 - RADIUS);
+        }
+    }
+
+    /**
+     * Resolve a collision with a plane, if the ball penetrates it.
+     *
+     * @param depth the distance from the ball's surface to the plane. Negative if penetrating.
+     */
+    private void collide(float nx, float ny, float nz, float depth) {
+        if (depth >= 0) {
+            return;
+        }
+        // Push the ball out of the plane
+        px -= nx * depth;
+        py -= ny * depth;
+        pz -= nz * depth;
+
+        float vn = vx * nx + vy * ny + vz * nz;
+        if (vn >= 0) {
+            return; // Already moving away from the plane
+        }
+
+        // Tangential velocity and slip of the contact point, i.e. v_t - R * (w x n)
+        float tx = vx - vn * nx;
+        float ty = vy - vn * ny;
+        float tz = vz - vn * nz;
+        float sx = tx - RADIUS * (wy * nz - wz * ny);
+        float sy = ty - RADIUS * (wz * nx - wx * nz);
+        float sz = tz - RADIUS * (wx * ny - wy * nx);
+        float slip = (float) Math.sqrt(sx * sx + sy * sy + sz * sz);
+
+        // Bounce along the normal
+        float dn = -(1 + RESTITUTION) * vn;
+        vx += dn * nx;
+        vy += dn * ny;
+        vz += dn * nz;
+
+        // Friction along the surface, which also spins the ball
+        if (slip > 1e-3f) {
+            float f = -FRICTION * Math.min(1, SLIP_FACTOR * -vn / slip);
+            float dx = f * sx;
+            float dy = f * sy;
+            float dz = f * sz;
+            vx += dx;
+            vy += dy;
+            vz += dz;
+            // Angular impulse of a solid sphere: dw = -(n x dv) / (0.4 * R)
+            float k = -1 / (0.4f * RADIUS);
+            wx += k * (ny * dz - nz * dy);
+            wy += k * (nz * dx - nx * dz);
+            wz += k * (nx * dy - ny * dx);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package rlbot.commons.prediction;
+
+import rlbot.flat.GamePacketT;
+
+/**
+ * Kernels evaluating the ball prediction against many cars at once, fx. to decide which car of a hivemind
+ * should go for the ball. The cars are given as a struct of arrays, see {@link #loadCars}, and the
+ * ball prediction as a {@link BallPredictionBuffer}.
+ * <p>
+ * Each car is assumed to drive straight towards the ball's ground position at its given average speed.
+ * A slice is reachable if the car can cover the distance to it before the ball gets there.
+ * <p>
+ * {@link #get()} returns an implementation using the JDK Vector API if the {@code jdk.incubator.vector}
+ * module is available (run with {@code --add-modules jdk.incubator.vector}), and a scalar implementation
+ * otherwise. Run with {@code -Drlbot.vector=false} to force the scalar implementation.
+ * The vector implementation is compiled separately from {@code src/vector/java}, so the rest of the library
+ * does not depend on the incubator module.
+ * <p>
+ * Hiveminds implementing {@link rlbot.commons.agents.InterceptAware} get the earliest reachable slice of each of
+ * their cars from the {@link rlbot.commons.agents.HivemindManager} every tick. The kernels can also be used directly:
+ * <pre>
+ *     {@code
+ *         var arena = TickArena.current();
+ *         float[] x = arena.floatArray(n), y = arena.floatArray(n), speed = arena.floatArray(n);
+ *         InterceptKernel.loadCars(packet, indices, n, 2300, 1410, x, y, speed);
+ *         int[] slices = arena.intArray(n);
+ *         InterceptKernel.get().firstReachable(ballPrediction, x, y, speed, n, now, 300, slices);
+ *     }
+ * </pre>
+ */
+public interface InterceptKernel {
+
+    /**
+     * Find the earliest reachable slice for each car.
+     *
+     * @param ball the ball prediction.
+     * @param carX the x coordinate of each car.
+     * @param carY the y coordinate of each car.
+     * @param carSpeed the average speed of each car in uu/s.
+     * @param cars the number of cars.
+     * @param nowSeconds the current game time, see 'seconds_elapsed' in the MatchInfo.
+     * @param maxHeight ignore slices where the ball is above this height.
+     * @param out the index of the earliest reachable slice of each car, or {@code -1} if none is reachable.
+     */
+    void firstReachable(BallPredictionBuffer ball, float[] carX, float[] carY, float[] carSpeed, int cars,
+                        float nowSeconds, float maxHeight, int[] out);
+
+    /**
+     * Compute the time-to-intercept margin of every car for every slice, i.e. the time until the ball
+     * reaches the slice minus the time the car needs to get there. Positive margins are reachable.
+     *
+     * @param ball the ball prediction.
+     * @param carX the x coordinate of each car.
+     * @param carY the y coordinate of each car.
+     * @param carSpeed the average speed of each car in uu/s.
+     * @param cars the number of cars.
+     * @param nowSeconds the current game time, see 'seconds_elapsed' in the MatchInfo.
+     * @param out the margins. The margin of car {@code c} at slice {@code i} is stored at {@code c * ball.size() + i},
+     *            so the array must hold at least {@code cars * ball.size()} elements.
+     */
+    void interceptMargins(BallPredictionBuffer ball, float[] carX, float[] carY, float[] carSpeed, int cars,
+                          float nowSeconds, float[] out);
+
+    /**
+     * @return the fastest available implementation.
+     */
+    static InterceptKernel get() {
+        return InterceptKernelLoader.INSTANCE;
+    }
+
+    /**
+     * Copy the ground positions of the given cars from the game packet into arrays and estimate their
+     * average speed from their boost amount.
+     *
+     * @param packet the game packet.
+     * @param indices the indices of the cars in the packet.
+     * @param cars the number of cars.
+     * @param boostSpeed the average speed assumed for a car with full boost.
+     * @param speed the average speed assumed for a car with no boost.
+     * @param outX the x coordinate of each car.
+     * @param outY the y coordinate of each car.
+     * @param outSpeed the estimated average speed of each car.
+     */
+    static void loadCars(GamePacketT packet, int[] indices, int cars, float boostSpeed, float speed,
+                         float[] outX, float[] outY, float[] outSpeed) {
+        var players = packet.getPlayers();
+        for (int c = 0; c < cars; c++) {
+            var player = players[indices[c]];
+            var location = player.getPhysics().getLocation();
+            outX[c] = location.getX();
+            outY[c] = location.getY();
+            outSpeed[c] = speed + (boostSpeed - speed) * Math.min(1f, player.getBoost() / 100f);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package rlbot.commons.prediction;
+
+import java.util.logging.Logger;
+
+/**
+ * Picks the {@link InterceptKernel} implementation once, see {@link InterceptKernel#get()}.
+ */
+final class InterceptKernelLoader {
+
+    private static final Logger logger = Logger.getLogger(InterceptKernel.class.getName());
+
+    static final InterceptKernel INSTANCE = create();
+
+    private InterceptKernelLoader() {}
+
+    private static InterceptKernel create() {
+        boolean enabled = Boolean.parseBoolean(System.getProperty("rlbot.vector", "true"));
+        var vector = enabled ? vector() : null;
+        return vector != null ? vector : new ScalarInterceptKernel();
+    }
+
+    /**
+     * @return the Vector API implementation, or {@code null} if the {@code jdk.incubator.vector} module is not
+     * available or the jar was built without the vector kernels.
+     */
+    static InterceptKernel vector() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            // Loaded reflectively, since the class cannot be linked without the module
+            return (InterceptKernel) Class.forName("rlbot.commons.prediction.VectorInterceptKernel")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            logger.fine("The vector kernels are not included in this build, using the scalar fallback.");
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warning("Failed to load the Vector API intercept kernel, using the scalar fallback: " + e);
+        }
+        return null;
+    }
+}
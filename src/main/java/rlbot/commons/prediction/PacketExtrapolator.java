@@ -0,0 +1,170 @@
+package rlbot.commons.prediction;
+
+import rlbot.flat.AirState;
+import rlbot.flat.GamePacketT;
+import rlbot.flat.MatchPhase;
+import rlbot.flat.PhysicsT;
+
+/**
+ * Compensates for the age of a game packet by moving the cars and balls forward in time. By the time an agent
+ * processes a packet, it has been queued, decoded, and handed between threads, and the agent's input will only be
+ * applied on a later physics frame. See {@link rlbot.commons.agents.AgentBaseManager#setPacketExtrapolator(PacketExtrapolator)}.
+ * <p>
+ * The age of a packet is measured by syncing the game clock, i.e. 'seconds_elapsed' in the MatchInfo, to the local
+ * monotonic clock. The packet that arrived the fastest so far defines the sync, so the measured age is the delay
+ * relative to the fastest observed delivery. The sync slowly expires to follow clock drift, and is reset when the
+ * game clock jumps, fx. at the start of a new match. The extrapolation delay is the measured age plus a constant
+ * lead, which by default is one physics frame to account for when the input is applied.
+ * The age is measured when the packet is extrapolated, so any time the packet spends afterwards, fx. queued for a busy
+ * agent thread, is only covered by the lead.
+ * <p>
+ * Cars on the ground keep their velocity, while cars in the air and balls follow a ballistic trajectory.
+ * Rotations are left unchanged. The 'seconds_elapsed' of the packet is advanced by the same delay, so times
+ * relative to the ball prediction stay consistent. Packets are only extrapolated during kickoff and active play.
+ * <p>
+ * An extrapolator is not thread-safe and belongs to a single connection.
+ */
+public final class PacketExtrapolator {
+
+    private static final float RADIUS = BallPredictionQueries.BALL_RADIUS;
+    private static final float CAR_REST_HEIGHT = 17f;
+
+    /**
+     * How much the sync is allowed to expire per packet, in nanoseconds.
+     */
+    private static final long SYNC_EXPIRY_NANOS = 10_000;
+
+    private float lead = 1f / BallPredictionQueries.SLICES_PER_SECOND;
+    private float maxDelay = 0.1f;
+
+    // Sync of the game clock to the local clock
+    private boolean synced = false;
+    private long offsetNanos;
+    private float lastSeconds;
+    private long lastFrameNum;
+    private float lastGameSpeed;
+
+    private volatile float measuredAge;
+    private volatile float appliedDelay;
+
+    /**
+     * Set the constant time added to the measured age. Default is one physics frame, 1/120 seconds.
+     *
+     * @param seconds the lead in seconds.
+     */
+    public void setLead(float seconds) {
+        this.lead = seconds;
+    }
+
+    /**
+     * Set the largest delay to extrapolate by, to limit the error of the simple physics. Default is 0.1 seconds.
+     *
+     * @param seconds the maximum delay in seconds.
+     */
+    public void setMaxDelay(float seconds) {
+        this.maxDelay = seconds;
+    }
+
+    /**
+     * @return the measured age of the latest packet in seconds, at the time it was extrapolated.
+     */
+    public float getMeasuredAge() {
+        return measuredAge;
+    }
+
+    /**
+     * @return the delay the latest packet was extrapolated by in seconds. 0 if it was not extrapolated.
+     */
+    public float getAppliedDelay() {
+        return appliedDelay;
+    }
+
+    /**
+     * Measure the age of the packet and extrapolate it in place.
+     *
+     * @param packet the game packet.
+     * @param nowNanos the current time in terms of {@link System#nanoTime()}.
+     * @return the delay the packet was extrapolated by in seconds.
+     */
+    public float apply(GamePacketT packet, long nowNanos) {
+        float age = measureAge(packet, nowNanos);
+        int phase = packet.getMatchInfo().getMatchPhase();
+        float delay = 0;
+        if (age >= 0 && (phase == MatchPhase.Kickoff || phase == MatchPhase.Active)) {
+            delay = Math.min(maxDelay, age + lead);
+            extrapolate(packet, delay);
+        }
+        appliedDelay = delay;
+        return delay;
+    }
+
+    /**
+     * Measure the age of a packet and update the clock sync.
+     *
+     * @param packet the game packet.
+     * @param nowNanos the current time in terms of {@link System#nanoTime()}.
+     * @return the age of the packet in seconds, or {@code -1} if the game clock is not advancing, fx. while paused.
+     */
+    public float measureAge(GamePacketT packet, long nowNanos) {
+        var info = packet.getMatchInfo();
+        float seconds = info.getSecondsElapsed();
+        long frameNum = info.getFrameNum();
+        float gameSpeed = info.getGameSpeed() > 0 ? info.getGameSpeed() : 1;
+
+        if (synced && (seconds < lastSeconds || frameNum < lastFrameNum || gameSpeed != lastGameSpeed)) {
+            synced = false; // The clock jumped, fx. due to a new match
+        }
+        boolean advancing = !synced || frameNum != lastFrameNum;
+        lastSeconds = seconds;
+        lastFrameNum = frameNum;
+        lastGameSpeed = gameSpeed;
+        if (!advancing) {
+            measuredAge = -1;
+            return -1;
+        }
+
+        long offset = nowNanos - (long) (seconds / gameSpeed * 1e9);
+        offsetNanos = synced ? Math.min(offsetNanos + SYNC_EXPIRY_NANOS, offset) : offset;
+        synced = true;
+        float age = (offset - offsetNanos) * gameSpeed / 1e9f;
+        measuredAge = age;
+        return age;
+    }
+
+    /**
+     * Move the cars and balls of the packet forward in time.
+     *
+     * @param packet the game packet.
+     * @param seconds the time to move forward in seconds.
+     */
+    public void extrapolate(GamePacketT packet, float seconds) {
+        var info = packet.getMatchInfo();
+        float gravity = info.getWorldGravityZ() != 0 ? info.getWorldGravityZ() : BallPredictor.DEFAULT_GRAVITY;
+        for (var player : packet.getPlayers()) {
+            if (player.getDemolishedTimeout() > 0) {
+                continue;
+            }
+            integrate(player.getPhysics(), seconds, player.getAirState() == AirState.OnGround ? 0 : gravity, CAR_REST_HEIGHT);
+        }
+        for (var ball : packet.getBalls()) {
+            integrate(ball.getPhysics(), seconds, gravity, RADIUS);
+        }
+        info.setSecondsElapsed(info.getSecondsElapsed() + seconds);
+    }
+
+    private static void integrate(PhysicsT physics, float dt, float gravity, float minZ) {
+        var location = physics.getLocation();
+        var velocity = physics.getVelocity();
+        location.setX(location.getX() + velocity.getX() * dt);
+        location.setY(location.getY() + velocity.getY() * dt);
+        float z = location.getZ() + velocity.getZ() * dt + 0.5f * gravity * dt * dt;
+        float vz = velocity.getZ() + gravity * dt;
+        if (z < minZ) {
+            // Landed, stop at the floor rather than modelling the bounce
+            z = minZ;
+            vz = Math.max(0, vz);
+        }
+        location.setZ(z);
+        velocity.setZ(vz);
+    }
+}
@@ -0,0 +1,57 @@
+package rlbot.commons.prediction;
+
+/**
+ * The plain Java implementation of the {@link InterceptKernel}, used when the Vector API is unavailable.
+ */
+final class ScalarInterceptKernel implements InterceptKernel {
+
+    @Override
+    public void firstReachable(BallPredictionBuffer ball, float[] carX, float[] carY, float[] carSpeed, int cars,
+                               float nowSeconds, float maxHeight, int[] out) {
+        for (int c = 0; c < cars; c++) {
+            out[c] = firstReachable(ball, carX[c], carY[c], carSpeed[c], nowSeconds, maxHeight, 0);
+        }
+    }
+
+    /**
+     * Scan the slices from the given index. Also used for the tail of the vectorized kernel.
+     */
+    static int firstReachable(BallPredictionBuffer ball, float cx, float cy, float speed,
+                              float nowSeconds, float maxHeight, int from) {
+        var times = ball.times();
+        var x = ball.x();
+        var y = ball.y();
+        var z = ball.z();
+        for (int i = from, n = ball.size(); i < n; i++) {
+            float reach = (times[i] - nowSeconds) * speed;
+            float dx = x[i] - cx;
+            float dy = y[i] - cy;
+            if (reach >= 0 && z[i] <= maxHeight && dx * dx + dy * dy <= reach * reach) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void interceptMargins(BallPredictionBuffer ball, float[] carX, float[] carY, float[] carSpeed, int cars,
+                                 float nowSeconds, float[] out) {
+        int n = ball.size();
+        for (int c = 0; c < cars; c++) {
+            interceptMargins(ball, carX[c], carY[c], carSpeed[c], nowSeconds, out, c * n, 0);
+        }
+    }
+
+    static void interceptMargins(BallPredictionBuffer ball, float cx, float cy, float speed,
+                                 float nowSeconds, float[] out, int offset, int from) {
+        var times = ball.times();
+        var x = ball.x();
+        var y = ball.y();
+        float invSpeed = 1f / speed;
+        for (int i = from, n = ball.size(); i < n; i++) {
+            float dx = x[i] - cx;
+            float dy = y[i] - cy;
+            out[offset + i] = (times[i] - nowSeconds) - (float) Math.sqrt(dx * dx + dy * dy) * invSpeed;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package rlbot.commons.protocol;
+
+import rlbot.flat.GamePacket;
+import rlbot.flat.GamePacketT;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of decoded game packets shared by several {@link RLBotInterface}s in the same process.
+ * Every connection of a match receives the same game packet each frame, so the first connection
+ * to receive a frame decodes it, and the others reuse the decoded {@link GamePacketT}.
+ * Frames are identified by 'frame_num' in the MatchInfo.
+ * <p>
+ * Since the decoded packets are shared, listeners must treat them as read-only.
+ * See {@link RLBotInterface#setGamePacketCache(GamePacketCache)}.
+ */
+public final class GamePacketCache {
+
+    private final int frames;
+    private final Map<Long, GamePacketT> packets = new LinkedHashMap<>();
+
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Create a cache holding the packets of the latest 8 frames.
+     */
+    public GamePacketCache() {
+        this(8);
+    }
+
+    /**
+     * @param frames the number of recent frames to hold on to. Connections lagging further behind
+     *               decode their packets themselves.
+     */
+    public GamePacketCache(int frames) {
+        this.frames = Math.max(1, frames);
+    }
+
+    /**
+     * Get the decoded game packet of the given frame, decoding it if no other connection has yet.
+     *
+     * @param packet the received game packet.
+     * @return the decoded game packet, possibly shared with other connections.
+     */
+    public synchronized GamePacketT decode(GamePacket packet) {
+        var matchInfo = packet.matchInfo();
+        if (matchInfo == null) {
+            return packet.unpack();
+        }
+        long frameNum = matchInfo.frameNum();
+        var decoded = packets.get(frameNum);
+        if (decoded != null) {
+            hits++;
+            return decoded;
+        }
+        misses++;
+        decoded = packet.unpack();
+        packets.put(frameNum, decoded);
+
+        // Forget frames that are too old, and frames of a previous match
+        Iterator<Long> it = packets.keySet().iterator();
+        while (it.hasNext()) {
+            long cached = it.next();
+            if (cached <= frameNum - frames || cached > frameNum + frames) {
+                it.remove();
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * @return the number of packets that were taken from the cache.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of packets that were decoded.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
@@ -9,6 +9,9 @@ import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.nio.file.*;
 import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 
@@ -49,12 +52,26 @@ public class RLBotInterface implements Runnable {
 
     private final int connectionTimeout;
 
-    private boolean isConnected = false;
+    private volatile boolean isConnected = false;
 
     /**
-     * Whether the message handling loop is running (potentially in a background thread)
+     * Decoded game packets shared with other connections, or null.
      */
-    private boolean isRunning = false;
+    private volatile GamePacketCache gamePacketCache;
+
+    /**
+     * Accessors of the raw messages, reused for every message by the thread handling incoming messages.
+     */
+    private final GamePacket rawGamePacket = new GamePacket();
+    private final BallPrediction rawBallPrediction = new BallPrediction();
+
+    /**
+     * The latch of the running message handling loop (potentially in a background thread), or null if it is not
+     * running. The latch is released once the loop has ended, which lets {@link #disconnect()} return as soon as
+     * RLBot acknowledges the disconnect.
+     */
+    private final AtomicReference<CountDownLatch> runningLoop = new AtomicReference<>();
+    private volatile Thread loopThread;
 
     /**
      * A handle to the RLBotServer process. May be null if we have not started it or attempted to find it yet
@@ -93,6 +110,43 @@ public class RLBotInterface implements Runnable {
         return listeners.remove(listener);
     }
 
+    /**
+     * @return whether any listener wants ball predictions unpacked into {@link BallPredictionT}s.
+     * @see RLBotListener#wantsUnpackedBallPredictions()
+     */
+    private boolean anyWantsUnpackedBallPredictions() {
+        for (var listener : listeners) {
+            if (listener.wantsUnpackedBallPredictions()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether any listener wants game packets unpacked into {@link GamePacketT}s.
+     * @see RLBotListener#wantsUnpackedGamePackets()
+     */
+    private boolean anyWantsUnpackedGamePackets() {
+        for (var listener : listeners) {
+            if (listener.wantsUnpackedGamePackets()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Share decoded game packets with other connections in this process, see {@link GamePacketCache}.
+     * Listeners must then treat the game packets as read-only. Default is {@code null}, i.e. decode
+     * all game packets on this connection.
+     *
+     * @param cache the cache to use, or {@code null}.
+     */
+    public void setGamePacketCache(GamePacketCache cache) {
+        this.gamePacketCache = cache;
+    }
+
     /**
      * Send a FlatBuffer message to the RLBotServer using the RLBot socket protocol.
      *
@@ -165,6 +219,26 @@ public class RLBotInterface implements Runnable {
         sendFlatbufferMsg(msg);
     }
 
+    /**
+     * Sends a player's input message like {@link RLBotInterface#sendPlayerInput(PlayerInputT)}, but packs
+     * the message straight from the given controller state without allocating intermediate objects.
+     * The controller state may be reused once this method returns.
+     *
+     * @param playerIndex the index of the player.
+     * @param controller the {@link ControllerStateT} of the player.
+     */
+    public void sendPlayerInput(int playerIndex, ControllerStateT controller) {
+        if (!isConnected) {
+            throw new RuntimeException("Connection has not been established");
+        }
+
+        try {
+            out.writePlayerInput(playerIndex, controller);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Sends a {@link DesiredGameState} message to change the game state. This is commonly also
      * referred to as state-setting and must be enabled at the start of the match to be legal.
@@ -391,18 +465,30 @@ public class RLBotInterface implements Runnable {
             throw new RuntimeException("Connection has not been established.");
         }
 
-        if (isRunning) {
+        var latch = new CountDownLatch(1);
+        if (!runningLoop.compareAndSet(null, latch)) {
             throw new RuntimeException("Message handling is already running.");
         }
 
         if (inBackgroundThread) {
-            new Thread(() -> run(false)).start();
+            new Thread(() -> runLoop(latch)).start();
         } else {
-            isRunning = true;
-            while (isRunning && isConnected) {
-                isRunning = handleNextIncomingMsg(true) != MsgHandlingResult.Termination;
+            runLoop(latch);
+        }
+    }
+
+    private void runLoop(CountDownLatch latch) {
+        loopThread = Thread.currentThread();
+        try {
+            while (runningLoop.get() == latch && isConnected) {
+                if (handleNextIncomingMsg(true) == MsgHandlingResult.Termination) {
+                    break;
+                }
             }
-            isRunning = false;
+        } finally {
+            loopThread = null;
+            runningLoop.compareAndSet(latch, null);
+            latch.countDown();
         }
     }
 
@@ -450,9 +536,39 @@ public class RLBotInterface implements Runnable {
             if (!blocking && !in.anyAvailable()) {
                 return MsgHandlingResult.NoIncomingMsgs;
             }
-            var packet = in.readOne().unpack();
+            var raw = in.readOne();
 
             try {
+                if (raw.messageType() == CoreMessage.BallPrediction) {
+                    var prediction = (BallPrediction) raw.message(rawBallPrediction);
+                    for (var listener : listeners) {
+                        listener.onRawBallPrediction(prediction);
+                    }
+                } else if (raw.messageType() == CoreMessage.GamePacket) {
+                    var gamePacket = (GamePacket) raw.message(rawGamePacket);
+                    for (var listener : listeners) {
+                        listener.onRawGamePacket(gamePacket);
+                    }
+                }
+
+                CorePacketT packet;
+                var cache = gamePacketCache;
+                if (raw.messageType() == CoreMessage.BallPrediction && !anyWantsUnpackedBallPredictions()) {
+                    // Skip the expensive unpacking, since every listener reads the raw prediction
+                    return MsgHandlingResult.MoreMsgsQueued;
+                } else if (raw.messageType() == CoreMessage.GamePacket && !anyWantsUnpackedGamePackets()) {
+                    // Every listener decodes the raw packet itself
+                    return MsgHandlingResult.MoreMsgsQueued;
+                } else if (raw.messageType() == CoreMessage.GamePacket && cache != null) {
+                    var msg = new CoreMessageUnion();
+                    msg.setType(CoreMessage.GamePacket);
+                    msg.setValue(cache.decode((GamePacket) raw.message(rawGamePacket)));
+                    packet = new CorePacketT();
+                    packet.setMessage(msg);
+                } else {
+                    packet = raw.unpack();
+                }
+
                 if (handleIncomingMsg(packet)) {
                     return MsgHandlingResult.MoreMsgsQueued;
                 } else {
@@ -460,8 +576,8 @@ public class RLBotInterface implements Runnable {
                     return MsgHandlingResult.Termination;
                 }
             } catch (Exception e) {
-                var typeIndex = packet.getMessage().getType();
-                var typeName = InterfaceMessage.name(typeIndex);
+                var typeIndex = raw.messageType();
+                var typeName = CoreMessage.name(typeIndex);
                 logger.severe("Unexpected error while handling message of type " + typeName);
                 e.printStackTrace();
                 disconnectImmediately();
@@ -549,14 +665,14 @@ public class RLBotInterface implements Runnable {
      * @return {@code true} if the message handling loop is running.
      */
     public boolean isRunning() {
-        return isRunning;
+        return runningLoop.get() != null;
     }
 
     /**
      * Stop the message handling loop. If running in a background thread, the thread will end executing.
      */
     public void stopRunning() {
-        isRunning = false;
+        runningLoop.set(null);
     }
 
     /**
@@ -611,6 +727,8 @@ public class RLBotInterface implements Runnable {
 
         var beginTime = System.currentTimeMillis();
         var nextWarning = 10_000;
+        var retryDelay = 1;
+        var connected = false;
         while (System.currentTimeMillis() < beginTime + connectionTimeout * 1000) {
             try {
                 socket = new Socket();
@@ -618,15 +736,18 @@ public class RLBotInterface implements Runnable {
                 socket.setReuseAddress(true);
                 socket.setSoTimeout(0);
                 socket.connect(new InetSocketAddress("127.0.0.1", rlbotServerPort));
-                isConnected = true;
+                connected = true;
                 break;
             } catch (IOException e) {
-                System.out.println(e.getMessage());
+                logger.fine(e.getMessage());
                 try {
-                    // Wait a bit before trying again
-                    Thread.sleep(100);
+                    // Retry quickly at first, so we connect as soon as the server is listening,
+                    // then back off to avoid spinning while it starts up
+                    Thread.sleep(retryDelay);
+                    retryDelay = Math.min(retryDelay * 2, 100);
                 } catch (InterruptedException ignored) {
-
+                    Thread.currentThread().interrupt();
+                    break;
                 }
 
                 if (System.currentTimeMillis() > beginTime + nextWarning) {
@@ -636,7 +757,7 @@ public class RLBotInterface implements Runnable {
             }
         }
 
-        if (!isConnected) {
+        if (!connected) {
             socket = null;
             throw new RuntimeException("Failed to establish connection. Ensure that the RLBotServer is running. If you are using the RLBotInterface directly, try calling ensureServerStarted() before connecting.");
         }
@@ -647,6 +768,8 @@ public class RLBotInterface implements Runnable {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        // Only publish the connection once the streams are ready
+        isConnected = true;
 
         logger.info("Connected to RLBot on port " + rlbotServerPort + " from port " + socket.getLocalPort());
 
@@ -672,13 +795,13 @@ public class RLBotInterface implements Runnable {
      * or if something went wrong.
      */
     private void disconnectImmediately() {
+        isConnected = false;
         try {
+            var socket = this.socket;
             if (socket != null && !socket.isClosed()) {
                 socket.close();
             }
-            socket = null;
-            isConnected = false;
-            isRunning = false;
+            this.socket = null;
         } catch (Exception ignored) {
 
         }
@@ -697,28 +820,28 @@ public class RLBotInterface implements Runnable {
             return;
         }
 
+        var socket = this.socket;
         try {
-            if (!socket.isClosed()) {
+            if (socket != null && !socket.isClosed()) {
                 var msg = new InterfaceMessageUnion();
                 msg.setType(InterfaceMessage.DisconnectSignal);
                 msg.setValue(new DisconnectSignalT());
                 sendFlatbufferMsg(msg);
 
-                int timeout = 5_000;
-                while (isRunning && timeout > 0) {
+                // Wait for the message handling loop to receive RLBot's acknowledgement,
+                // unless we are on that loop's thread
+                var latch = runningLoop.get();
+                if (latch != null && loopThread != Thread.currentThread()) {
                     try {
-                        Thread.sleep(100);
-                        timeout -= 100;
+                        if (!latch.await(5, TimeUnit.SECONDS)) {
+                            logger.severe("RLBot is not responding to our disconnect request!");
+                            runningLoop.compareAndSet(latch, null);
+                        }
                     } catch (InterruptedException ignored) {
-
+                        Thread.currentThread().interrupt();
                     }
                 }
 
-                if (timeout <= 0) {
-                    logger.severe("RLBot is not responding to our disconnect request!");
-                    isRunning = false;
-                }
-
                 socket.close();
             }
         } catch (IOException ignored) {
@@ -37,6 +37,31 @@ public interface RLBotListener {
      */
     void onGamePacket(GamePacketT packet);
 
+    /**
+     * Invoked when a game packet is received, before it is unpacked into a {@link GamePacketT}.
+     * This gives direct access to the flatbuffer message, fx. to decode it into a reused object graph with
+     * {@link GamePacket#unpackInto(GamePacketT)}.
+     * The packet is only valid during this call, as the underlying buffer is reused for the next message.
+     *
+     * @param packet The received {@link GamePacket}.
+     * @see RLBotListener#wantsUnpackedGamePackets()
+     */
+    default void onRawGamePacket(GamePacket packet) {
+
+    }
+
+    /**
+     * Whether this listener reads game packets as {@link GamePacketT}s, either through
+     * {@link RLBotListener#onGamePacket(GamePacketT)} or {@link RLBotListener#onAnyMessage(CorePacketT)}.
+     * Unpacking is skipped if no listener of the connection wants it. In that case, neither method is invoked
+     * for game packets.
+     *
+     * @return whether game packets should be unpacked for this listener. Default is {@code true}.
+     */
+    default boolean wantsUnpackedGamePackets() {
+        return true;
+    }
+
     /**
      * Invoked when field information is received. This provides static details about
      * the field, such as the locations and properties of boost pads and goals.
@@ -71,6 +96,30 @@ public interface RLBotListener {
      */
     void onBallPrediction(BallPredictionT prediction);
 
+    /**
+     * Invoked when a ball prediction is received, before it is unpacked into a {@link BallPredictionT}.
+     * This gives direct access to the flatbuffer message, fx. to decode it in bulk.
+     * The prediction is only valid during this call, as the underlying buffer is reused for the next message.
+     *
+     * @param prediction The received {@link BallPrediction}.
+     * @see RLBotListener#wantsUnpackedBallPredictions()
+     */
+    default void onRawBallPrediction(BallPrediction prediction) {
+
+    }
+
+    /**
+     * Whether this listener reads ball predictions as {@link BallPredictionT}s, either through
+     * {@link RLBotListener#onBallPrediction(BallPredictionT)} or {@link RLBotListener#onAnyMessage(CorePacketT)}.
+     * Unpacking a ball prediction creates thousands of objects, so it is skipped if no listener of the
+     * connection wants it. In that case, neither method is invoked for ball predictions.
+     *
+     * @return whether ball predictions should be unpacked for this listener. Default is {@code true}.
+     */
+    default boolean wantsUnpackedBallPredictions() {
+        return true;
+    }
+
     /**
      * Invoked when controllable team information is received. This message is sent as part of
      * initialization to inform about what bots or scripts are controlled by this agent.
@@ -53,6 +53,11 @@ public abstract class RLBotListenerAdapter implements RLBotListener {
 
     }
 
+    @Override
+    public void onRawBallPrediction(BallPrediction prediction) {
+
+    }
+
     @Override
     public void onControllableTeamInfo(ControllableTeamInfoT teamInfo) {
 
@@ -1,9 +1,13 @@
 package rlbot.commons.protocol;
 
 import com.google.flatbuffers.FlatBufferBuilder;
+import rlbot.flat.ControllerState;
+import rlbot.flat.ControllerStateT;
+import rlbot.flat.InterfaceMessage;
 import rlbot.flat.InterfaceMessageUnion;
 import rlbot.flat.InterfacePacket;
 import rlbot.flat.InterfacePacketT;
+import rlbot.flat.PlayerInput;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -38,7 +42,30 @@ public class SpecWriter {
 
         builder.clear();
         builder.finish(InterfacePacket.pack(builder, packet));
+        writeFinished();
+    }
 
+    /**
+     * Write a {@link PlayerInput} message to the output stream. Unlike {@link SpecWriter#write(InterfaceMessageUnion)},
+     * the message is packed straight from the controller state without allocating intermediate objects.
+     * @param playerIndex the index of the player.
+     * @param controller the controller state of the player.
+     * @throws IOException if the output stream cannot be written to.
+     */
+    public synchronized void writePlayerInput(int playerIndex, ControllerStateT controller) throws IOException {
+        builder.clear();
+        PlayerInput.startPlayerInput(builder);
+        PlayerInput.addPlayerIndex(builder, playerIndex);
+        PlayerInput.addControllerState(builder, ControllerState.pack(builder, controller));
+        int input = PlayerInput.endPlayerInput(builder);
+        builder.finish(InterfacePacket.createInterfacePacket(builder, InterfaceMessage.PlayerInput, input));
+        writeFinished();
+    }
+
+    /**
+     * Write the finished message in the builder to the output stream, prefixed by its size.
+     */
+    private void writeFinished() throws IOException {
         var bb = builder.dataBuffer();
         int size = bb.remaining(); // FlatBufferBuilder fills from the back, so the remaining is message size in bytes
 
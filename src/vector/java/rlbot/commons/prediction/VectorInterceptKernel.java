@@ -0,0 +1,74 @@
+package rlbot.commons.prediction;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link InterceptKernel} implemented with the JDK Vector API. Only loaded if the
+ * {@code jdk.incubator.vector} module is available, see {@link InterceptKernel#get()}.
+ * The slices that do not fill a whole vector are handled by the {@link ScalarInterceptKernel}.
+ */
+final class VectorInterceptKernel implements InterceptKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void firstReachable(BallPredictionBuffer ball, float[] carX, float[] carY, float[] carSpeed, int cars,
+                               float nowSeconds, float maxHeight, int[] out) {
+        var times = ball.times();
+        var x = ball.x();
+        var y = ball.y();
+        var z = ball.z();
+        int n = ball.size();
+        int bound = SPECIES.loopBound(n);
+        for (int c = 0; c < cars; c++) {
+            float cx = carX[c];
+            float cy = carY[c];
+            float speed = carSpeed[c];
+            int result = -1;
+            int i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                var reach = FloatVector.fromArray(SPECIES, times, i).sub(nowSeconds).mul(speed);
+                var dx = FloatVector.fromArray(SPECIES, x, i).sub(cx);
+                var dy = FloatVector.fromArray(SPECIES, y, i).sub(cy);
+                var dist2 = dx.mul(dx).add(dy.mul(dy));
+                var mask = dist2.compare(VectorOperators.LE, reach.mul(reach))
+                        .and(reach.compare(VectorOperators.GE, 0f))
+                        .and(FloatVector.fromArray(SPECIES, z, i).compare(VectorOperators.LE, maxHeight));
+                if (mask.anyTrue()) {
+                    result = i + mask.firstTrue();
+                    break;
+                }
+            }
+            if (result == -1) {
+                result = ScalarInterceptKernel.firstReachable(ball, cx, cy, speed, nowSeconds, maxHeight, i);
+            }
+            out[c] = result;
+        }
+    }
+
+    @Override
+    public void interceptMargins(BallPredictionBuffer ball, float[] carX, float[] carY, float[] carSpeed, int cars,
+                                 float nowSeconds, float[] out) {
+        var times = ball.times();
+        var x = ball.x();
+        var y = ball.y();
+        int n = ball.size();
+        int bound = SPECIES.loopBound(n);
+        for (int c = 0; c < cars; c++) {
+            float cx = carX[c];
+            float cy = carY[c];
+            float invSpeed = 1f / carSpeed[c];
+            int offset = c * n;
+            int i = 0;
+            for (; i < bound; i += SPECIES.length()) {
+                var dx = FloatVector.fromArray(SPECIES, x, i).sub(cx);
+                var dy = FloatVector.fromArray(SPECIES, y, i).sub(cy);
+                var travel = dx.mul(dx).add(dy.mul(dy)).lanewise(VectorOperators.SQRT).mul(invSpeed);
+                FloatVector.fromArray(SPECIES, times, i).sub(nowSeconds).sub(travel).intoArray(out, offset + i);
+            }
+            ScalarInterceptKernel.interceptMargins(ball, cx, cy, carSpeed[c], nowSeconds, out, offset, i);
+        }
+    }
+}